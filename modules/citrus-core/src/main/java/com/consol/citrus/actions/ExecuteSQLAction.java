@@ -18,6 +18,17 @@ package com.consol.citrus.actions;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.util.SqlUtils;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Test action execute SQL statements. Use this action when executing
@@ -25,6 +36,13 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
  * embedded inline in the test case description or given by an external file resource.
  * 
  * When executing SQL query statements (SELECT) see {@link ExecuteSQLQueryAction}.
+ *
+ * With batch size set data manipulation statements are executed as JDBC batch. Literal values in the statements are
+ * bound as prepared statement parameters so subsequent statements with same structure share one prepared statement.
+ * Parameter types are read from the prepared statement parameter meta data so the driver converts string literals to
+ * the target column type. Drivers without parameter meta data support get string literals bound as VARCHAR which strict
+ * databases reject for timestamp, uuid or enum columns. Use typed literals (TIMESTAMP '...') or explicit casts in that
+ * case, typed literals are not converted to bind parameters.
  * 
  * @author Christoph Deppisch, Jan Szczepanski
  * @since 2006
@@ -33,6 +51,9 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
     /** boolean flag marking that possible SQL errors will be ignored */
     private boolean ignoreErrors = false;
 
+    /** Maximum number of statements per JDBC batch, zero executes each statement separately */
+    private int batchSize = 0;
+
     /**
      * Default constructor.
      */
@@ -46,13 +67,14 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
             statements = createStatementsFromFileResource(context);
         }
 
+        if (batchSize > 0) {
+            executeBatch(context);
+            return;
+        }
+
         for (String stmt : statements)  {
             try {
-                stmt = context.replaceDynamicContentInString(stmt.trim());
-
-                if (stmt.endsWith(";")) {
-                    stmt = stmt.substring(0, stmt.length()-1);
-                }
+                stmt = resolveStatement(stmt, context);
 
                 if (log.isDebugEnabled()) {
                     log.debug("Executing SQL statement: " + stmt);
@@ -72,6 +94,103 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
         }
     }
 
+    /**
+     * Executes statements in JDBC batches. Subsequent data manipulation statements with same structure are
+     * executed as prepared statement batch with literal values bound as parameters. All other statements
+     * are executed separately.
+     * @param context
+     */
+    private void executeBatch(TestContext context) {
+        String batchSql = null;
+        List<Object[]> batchArgs = new ArrayList<>();
+
+        for (String stmt : statements) {
+            stmt = resolveStatement(stmt, context);
+
+            SqlUtils.BindStatement bindStatement = SqlUtils.createBindStatement(stmt);
+            if (bindStatement == null || !bindStatement.getSql().equals(batchSql)) {
+                executeBatch(batchSql, batchArgs);
+                batchSql = null;
+            }
+
+            if (bindStatement == null) {
+                try {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Executing SQL statement: " + stmt);
+                    }
+
+                    getJdbcTemplate().execute(stmt);
+                } catch (Exception e) {
+                    handleError(stmt, e);
+                }
+                continue;
+            }
+
+            batchSql = bindStatement.getSql();
+            batchArgs.add(bindStatement.getParameters());
+
+            if (batchArgs.size() >= batchSize) {
+                executeBatch(batchSql, batchArgs);
+            }
+        }
+
+        executeBatch(batchSql, batchArgs);
+
+        log.info("SQL statement batch execution successful");
+    }
+
+    /**
+     * Executes prepared statement batch with given arguments and clears argument list afterwards.
+     * @param sql
+     * @param batchArgs
+     */
+    private void executeBatch(String sql, List<Object[]> batchArgs) {
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        try {
+            if (log.isDebugEnabled()) {
+                log.debug("Executing SQL statement batch of size " + batchArgs.size() + ": " + sql);
+            }
+
+            getJdbcTemplate().batchUpdate(sql, new BindParameterSetter(new ArrayList<>(batchArgs)));
+        } catch (Exception e) {
+            handleError(sql, e);
+        } finally {
+            batchArgs.clear();
+        }
+    }
+
+    /**
+     * Logs error when errors should be ignored otherwise raises exception.
+     * @param stmt
+     * @param e
+     */
+    private void handleError(String stmt, Exception e) {
+        if (ignoreErrors) {
+            log.error("Error while executing statement " + stmt + " " + e.getLocalizedMessage());
+        } else {
+            throw new CitrusRuntimeException(e);
+        }
+    }
+
+    /**
+     * Replaces dynamic content and removes statement ending.
+     * @param stmt
+     * @param context
+     * @return
+     */
+    private String resolveStatement(String stmt, TestContext context) {
+        String resolved = context.replaceDynamicContentInString(stmt.trim());
+
+        if (resolved.endsWith(";")) {
+            resolved = resolved.substring(0, resolved.length()-1);
+        }
+
+        return resolved;
+    }
+
     /**
      * Ignore errors during execution.
      * @param ignoreErrors boolean flag to set
@@ -88,4 +207,78 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
     public boolean isIgnoreErrors() {
         return ignoreErrors;
     }
+
+    /**
+     * Sets the maximum number of statements per JDBC batch. Zero disables batch execution.
+     * @param batchSize
+     */
+    public ExecuteSQLAction setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Gets the batchSize.
+     * @return the batchSize
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets literal values as prepared statement parameters. Parameter types are read from parameter meta data once per
+     * batch so the driver converts values to the target column type. Values are bound with their Java type when the
+     * driver does not provide parameter meta data.
+     */
+    private final class BindParameterSetter implements BatchPreparedStatementSetter {
+        private final List<Object[]> batchArgs;
+        private int[] parameterTypes;
+
+        BindParameterSetter(List<Object[]> batchArgs) {
+            this.batchArgs = batchArgs;
+        }
+
+        @Override
+        public void setValues(PreparedStatement ps, int i) throws SQLException {
+            Object[] args = batchArgs.get(i);
+
+            if (parameterTypes == null) {
+                parameterTypes = getParameterTypes(ps, args.length);
+            }
+
+            for (int index = 0; index < args.length; index++) {
+                StatementCreatorUtils.setParameterValue(ps, index + 1, parameterTypes[index], args[index]);
+            }
+        }
+
+        @Override
+        public int getBatchSize() {
+            return batchArgs.size();
+        }
+
+        /**
+         * Reads parameter types from prepared statement meta data.
+         * @param ps
+         * @param parameterCount
+         * @return
+         */
+        private int[] getParameterTypes(PreparedStatement ps, int parameterCount) {
+            int[] types = new int[parameterCount];
+
+            try {
+                ParameterMetaData metaData = ps.getParameterMetaData();
+                for (int index = 0; index < parameterCount; index++) {
+                    types[index] = metaData.getParameterType(index + 1);
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Unable to read parameter meta data - binding values with Java type", e);
+                }
+
+                Arrays.fill(types, SqlTypeValue.TYPE_UNKNOWN);
+            }
+
+            return types;
+        }
+    }
 }
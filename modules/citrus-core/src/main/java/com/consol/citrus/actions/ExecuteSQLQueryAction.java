@@ -27,8 +27,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.util.CollectionUtils;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.util.*;
 import java.util.Map.Entry;
 
@@ -38,6 +46,11 @@ import java.util.Map.Entry;
  * The class enables you to query data result sets from a
  * database. Validation will happen on column basis inside the result set.
  *
+ * In streaming mode result rows are validated one by one while reading the result set so large result sets are not
+ * loaded into memory. Rows are fetched from the database in chunks of the fetch size. Only values of columns that get
+ * extracted to test variables are kept. Streaming mode does not support script validation as scripts need the complete
+ * result set.
+ *
  * @author Christoph Deppisch, Jan Zahalka
  * @since 2008
  */
@@ -55,6 +68,12 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
     @Autowired(required = false)
     private SqlResultSetScriptValidator validator;
 
+    /** Validate result rows while reading the result set */
+    private boolean streaming = false;
+
+    /** Number of rows fetched from the database at once in streaming mode */
+    private int fetchSize = 100;
+
     /** NULL value representation in SQL */
     private static final String NULL_VALUE = "NULL";
 
@@ -74,6 +93,11 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
             statements = createStatementsFromFileResource(context);
         }
 
+        if (streaming) {
+            executeStreaming(context);
+            return;
+        }
+
         try {
             //for control result set validation
             Map<String, List<String>> columnValuesMap = new HashMap<String, List<String>>();
@@ -116,6 +140,83 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         }
     }
 
+    /**
+     * Executes queries in streaming mode validating each row with row callback handler.
+     * @param context
+     */
+    private void executeStreaming(TestContext context) {
+        if (scriptValidationContext != null) {
+            throw new CitrusRuntimeException("Script validation is not supported in SQL query streaming mode");
+        }
+
+        try {
+            StreamingResultSetValidator resultSetValidator = new StreamingResultSetValidator(context);
+
+            for (String stmt : statements) {
+                validateSqlStatement(stmt);
+                stmt = context.replaceDynamicContentInString(stmt.trim());
+
+                if (stmt.endsWith(";")) {
+                    stmt = stmt.substring(0, stmt.length()-1);
+                }
+
+                if (log.isDebugEnabled()) {
+                    log.debug("Executing SQL query: " + stmt);
+                }
+
+                executeStreamingQuery(stmt, resultSetValidator);
+
+                log.info("SQL query execution successful");
+            }
+
+            resultSetValidator.finish();
+        } catch (DataAccessException e) {
+            log.error("Failed to execute SQL statement", e);
+            throw new CitrusRuntimeException(e);
+        }
+    }
+
+    /**
+     * Executes query reading the result set with fetch size so the driver does not load all rows at once. Drivers such
+     * as PostgreSQL only fetch rows with a cursor when auto commit is disabled, so auto commit is switched off while
+     * the result set is read and restored afterwards.
+     * @param stmt
+     * @param rowCallbackHandler
+     */
+    private void executeStreamingQuery(final String stmt, final RowCallbackHandler rowCallbackHandler) {
+        getJdbcTemplate().execute(new ConnectionCallback<Object>() {
+            @Override
+            public Object doInConnection(Connection connection) throws SQLException {
+                boolean autoCommit = connection.getAutoCommit();
+                if (autoCommit) {
+                    connection.setAutoCommit(false);
+                }
+
+                PreparedStatement statement = null;
+                ResultSet resultSet = null;
+                try {
+                    statement = connection.prepareStatement(stmt, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(fetchSize);
+
+                    resultSet = statement.executeQuery();
+                    while (resultSet.next()) {
+                        rowCallbackHandler.processRow(resultSet);
+                    }
+                } finally {
+                    JdbcUtils.closeResultSet(resultSet);
+                    JdbcUtils.closeStatement(statement);
+
+                    if (autoCommit) {
+                        connection.commit();
+                        connection.setAutoCommit(true);
+                    }
+                }
+
+                return null;
+            }
+        });
+    }
+
     /**
      * Fills the (requested) test context variables with the db result values
      * @param columnValuesMap the map containing column names --> list of result values
@@ -323,6 +424,40 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         return controlValue.equalsIgnoreCase(NULL_VALUE) || controlValue.length() == 0;
     }
 
+    /**
+     * Enables streaming mode validating result rows while reading the result set.
+     * @param streaming
+     */
+    public ExecuteSQLQueryAction setStreaming(boolean streaming) {
+        this.streaming = streaming;
+        return this;
+    }
+
+    /**
+     * Gets the streaming.
+     * @return the streaming
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Sets the number of rows fetched from the database at once in streaming mode.
+     * @param fetchSize
+     */
+    public ExecuteSQLQueryAction setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+        return this;
+    }
+
+    /**
+     * Gets the fetchSize.
+     * @return the fetchSize
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
     /**
      * Set expected control result set. Keys represent the column names, values
      * the expected values.
@@ -395,4 +530,102 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
     public ScriptValidationContext getScriptValidationContext() {
         return scriptValidationContext;
     }
+
+    /**
+     * Row callback handler validating column values with control result set row by row. Keeps row counts per column,
+     * first row values and values of columns that get extracted to test variables.
+     */
+    private final class StreamingResultSetValidator implements RowCallbackHandler {
+        private final TestContext context;
+
+        /** Control result set entries by possible result column names */
+        private final Map<String, List<String>> controlColumns = new HashMap<>();
+
+        /** Row counts and first row values by result column name */
+        private final Map<String, Integer> rowCounts = new HashMap<>();
+        private final Map<String, String> firstRowValues = new LinkedHashMap<>();
+
+        /** Values of extracted columns by result column name */
+        private final Map<String, List<String>> extractedValues = new HashMap<>();
+        private final Set<String> extractColumns = new HashSet<>();
+
+        StreamingResultSetValidator(TestContext context) {
+            this.context = context;
+
+            for (Entry<String, List<String>> controlEntry : controlResultSet.entrySet()) {
+                controlColumns.put(controlEntry.getKey().toUpperCase(), controlEntry.getValue());
+                controlColumns.put(controlEntry.getKey().toLowerCase(), controlEntry.getValue());
+            }
+
+            for (String columnName : extractVariables.keySet()) {
+                extractColumns.add(columnName.toUpperCase());
+                extractColumns.add(columnName.toLowerCase());
+            }
+        }
+
+        @Override
+        public void processRow(ResultSet resultSet) throws SQLException {
+            ResultSetMetaData metaData = resultSet.getMetaData();
+
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                String columnName = JdbcUtils.lookupColumnName(metaData, i);
+                Object value = JdbcUtils.getResultSetValue(resultSet, i);
+                String resultValue = value == null ? null : value.toString();
+
+                Integer rowCount = rowCounts.get(columnName);
+                int row = rowCount == null ? 0 : rowCount;
+                rowCounts.put(columnName, row + 1);
+
+                if (row == 0) {
+                    firstRowValues.put(columnName, resultValue);
+                }
+
+                List<String> controlValues = controlColumns.get(columnName);
+                if (controlValues != null && row < controlValues.size()) {
+                    validateSingleValue(columnName, context.replaceDynamicContentInString(controlValues.get(row)), resultValue, context);
+                }
+
+                if (extractColumns.contains(columnName)) {
+                    if (!extractedValues.containsKey(columnName)) {
+                        extractedValues.put(columnName, new ArrayList<String>());
+                    }
+
+                    extractedValues.get(columnName).add(resultValue);
+                }
+            }
+        }
+
+        /**
+         * Verifies row counts of validated columns and creates test variables after all rows have been processed.
+         */
+        void finish() {
+            for (Entry<String, List<String>> controlEntry : controlResultSet.entrySet()) {
+                String columnName = controlEntry.getKey();
+
+                if (rowCounts.containsKey(columnName.toLowerCase())) {
+                    columnName = columnName.toLowerCase();
+                } else if (rowCounts.containsKey(columnName.toUpperCase())) {
+                    columnName = columnName.toUpperCase();
+                } else {
+                    throw new CitrusRuntimeException("Could not find column '" + columnName + "' in SQL result set");
+                }
+
+                if (rowCounts.get(columnName) != controlEntry.getValue().size()) {
+                    throw new CitrusRuntimeException("Validation failed for column: '" +  columnName + "' " +
+                            "expected rows count: " + controlEntry.getValue().size() + " but was " + rowCounts.get(columnName));
+                }
+            }
+
+            if (!CollectionUtils.isEmpty(controlResultSet)) {
+                log.info("SQL query validation successful: All values OK");
+            }
+
+            fillContextVariables(extractedValues, context);
+
+            // save first row values of all columns as variables
+            for (Entry<String, String> column : firstRowValues.entrySet()) {
+                context.setVariable(column.getKey().toUpperCase(), column.getValue() == null ? NULL_VALUE : column.getValue());
+            }
+        }
+    }
 }
@@ -24,6 +24,7 @@ import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageSelectorBuilder;
 import com.consol.citrus.messaging.Consumer;
 import com.consol.citrus.messaging.SelectiveConsumer;
+import com.consol.citrus.util.ParsedPayloadCache;
 import com.consol.citrus.validation.MessageValidator;
 import com.consol.citrus.validation.builder.MessageContentBuilder;
 import com.consol.citrus.validation.builder.PayloadTemplateMessageBuilder;
@@ -181,6 +182,26 @@ public class ReceiveMessageAction extends AbstractTestAction {
      * @param receivedMessage
      */
     protected void validateMessage(Message receivedMessage, TestContext context) throws IOException {
+        boolean payloadCacheScope = ParsedPayloadCache.begin();
+
+        try {
+            doValidateMessage(receivedMessage, context);
+        } finally {
+            if (payloadCacheScope) {
+                ParsedPayloadCache.end();
+            }
+        }
+    }
+
+    /**
+     * Extracts variables and validates received message. Parsed payload representations are shared
+     * between all variable extractors and validators. The control message is built within the same cache scope
+     * as it may depend on extracted variables. Message construction interceptors modify their documents
+     * so they parse the control payload on their own and do not use the cache.
+     * @param receivedMessage
+     * @param context
+     */
+    private void doValidateMessage(Message receivedMessage, TestContext context) {
         // extract variables from received message content
         for (VariableExtractor variableExtractor : variableExtractors) {
             variableExtractor.extractVariables(receivedMessage, context);
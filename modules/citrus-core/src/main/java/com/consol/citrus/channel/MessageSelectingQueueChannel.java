@@ -22,11 +22,18 @@ import org.springframework.integration.channel.QueueChannel;
 import org.springframework.integration.core.MessageSelector;
 import org.springframework.util.Assert;
 
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Added selective consumption of messages according to a message selector implementation.
+ *
+ * By default selective receive operations poll the queue with the configured polling interval. When signalling
+ * is enabled waiting selective consumers get registered on the channel and each newly sent message is offered to these
+ * consumers right away. So consumers are woken up as soon as a matching message arrives and only new arrivals
+ * are evaluated with the consumer's message selector.
  * 
  * @author Christoph Deppisch
  */
@@ -39,6 +46,15 @@ public class MessageSelectingQueueChannel extends QueueChannel {
     
     /** Polling interval when waiting for synchronous reply message to arrive */
     private long pollingInterval = 500;
+
+    /** Wake up waiting selective consumers on send instead of polling the queue */
+    private boolean signalling = false;
+
+    /** Selective consumers currently waiting for a matching message to arrive */
+    private final List<SelectiveConsumer> waitingConsumers = new ArrayList<SelectiveConsumer>();
+
+    /** Guards consumer registration and message hand over to waiting consumers */
+    private final ReentrantLock consumerLock = new ReentrantLock();
     
     /**
      * Create a channel with the specified queue.
@@ -94,6 +110,10 @@ public class MessageSelectingQueueChannel extends QueueChannel {
      * @return
      */
     public Message<?> receive(MessageSelector selector, long timeout) {
+        if (signalling) {
+            return receiveSignalled(selector, timeout);
+        }
+
         long timeLeft = timeout;
         Message<?> message = receive(selector);
 
@@ -116,6 +136,81 @@ public class MessageSelectingQueueChannel extends QueueChannel {
         return message;
     }
 
+    /**
+     * Consume messages on the channel via message selector. Instead of polling the queue the consumer is registered
+     * as waiting consumer and gets notified by send operations with matching messages.
+     *
+     * @param selector
+     * @param timeout
+     * @return
+     */
+    private Message<?> receiveSignalled(MessageSelector selector, long timeout) {
+        SelectiveConsumer consumer = new SelectiveConsumer(selector);
+
+        consumerLock.lock();
+        try {
+            Message<?> message = receive(selector);
+            if (message != null || timeout <= 0) {
+                return message;
+            }
+
+            waitingConsumers.add(consumer);
+        } finally {
+            consumerLock.unlock();
+        }
+
+        try {
+            if (!consumer.await(timeout) && RETRY_LOG.isDebugEnabled()) {
+                RETRY_LOG.debug("No message received with message selector within " + timeout + "ms");
+            }
+        } catch (InterruptedException e) {
+            RETRY_LOG.warn("Thread interrupted while waiting for message", e);
+            Thread.currentThread().interrupt();
+        } finally {
+            consumerLock.lock();
+            try {
+                waitingConsumers.remove(consumer);
+            } finally {
+                consumerLock.unlock();
+            }
+        }
+
+        return consumer.getMessage();
+    }
+
+    @Override
+    protected boolean doSend(Message<?> message, long timeout) {
+        boolean sent = super.doSend(message, timeout);
+
+        if (sent && signalling) {
+            notifyWaitingConsumers(message);
+        }
+
+        return sent;
+    }
+
+    /**
+     * Offers newly arrived message to waiting selective consumers. First consumer
+     * accepting the message removes it from the queue and is woken up.
+     * @param message
+     */
+    private void notifyWaitingConsumers(Message<?> message) {
+        consumerLock.lock();
+        try {
+            for (SelectiveConsumer consumer : waitingConsumers) {
+                if (consumer.getMessage() == null && consumer.getSelector().accept(message)) {
+                    if (this.queue.remove(message)) {
+                        consumer.setMessage(message);
+                    }
+
+                    return;
+                }
+            }
+        } finally {
+            consumerLock.unlock();
+        }
+    }
+
     /**
      * Gets the pollingInterval.
      * @return the pollingInterval the pollingInterval to get.
@@ -131,4 +226,50 @@ public class MessageSelectingQueueChannel extends QueueChannel {
     public void setPollingInterval(long pollingInterval) {
         this.pollingInterval = pollingInterval;
     }
+
+    /**
+     * Gets the signalling.
+     * @return the signalling
+     */
+    public boolean isSignalling() {
+        return signalling;
+    }
+
+    /**
+     * Enables signalling of waiting selective consumers on send instead of polling.
+     * @param signalling the signalling to set
+     */
+    public void setSignalling(boolean signalling) {
+        this.signalling = signalling;
+    }
+
+    /**
+     * Selective consumer waiting for a matching message. Message is handed over by sending threads.
+     */
+    private static class SelectiveConsumer {
+        private final MessageSelector selector;
+        private final CountDownLatch latch = new CountDownLatch(1);
+        private volatile Message<?> message;
+
+        SelectiveConsumer(MessageSelector selector) {
+            this.selector = selector;
+        }
+
+        boolean await(long timeout) throws InterruptedException {
+            return latch.await(timeout, TimeUnit.MILLISECONDS);
+        }
+
+        MessageSelector getSelector() {
+            return selector;
+        }
+
+        Message<?> getMessage() {
+            return message;
+        }
+
+        void setMessage(Message<?> message) {
+            this.message = message;
+            latch.countDown();
+        }
+    }
 }
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2006-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.common;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.BeanDefinitionStoreException;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.xml.ResourceEntityResolver;
+import org.springframework.beans.factory.xml.XmlBeanDefinitionReader;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.util.FileCopyUtils;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Cache of XML documents read from test case files. Reading and schema validation of a test XML file and all
+ * resources imported by that file is done only once per resource. Subsequent loads of the same test, e.g. repeated
+ * or parameterized test invocations, parse bean definitions from a copy of the cached document so each application
+ * context gets its own bean definitions, inner beans and managed collections.
+ *
+ * Cache only saves reading and schema validation of test files. Bean definition parsing and the refresh of a new
+ * application context are still done on each load, as action parsers add mutable objects such as message builders
+ * and validation contexts to the bean definitions. These objects are modified by test actions at runtime and must
+ * not be shared between test case instances.
+ *
+ * Cached documents are invalidated when the content checksum of the resource changes.
+ *
+ * Cache is enabled by default and can be disabled with system property {@link #CACHE_ENABLED_PROPERTY}.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7
+ */
+public final class XmlTestDefinitionCache {
+
+    /** System property for enabling the cache */
+    public static final String CACHE_ENABLED_PROPERTY = "citrus.xml.test.cache.enabled";
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(XmlTestDefinitionCache.class);
+
+    /** Cached documents by resource description */
+    private static final Map<String, CachedDocument> DOCUMENTS = new ConcurrentHashMap<>();
+
+    /**
+     * Prevent instantiation.
+     */
+    private XmlTestDefinitionCache() {
+    }
+
+    /**
+     * Checks if cache is enabled.
+     * @return
+     */
+    public static boolean isEnabled() {
+        return Boolean.valueOf(System.getProperty(CACHE_ENABLED_PROPERTY, Boolean.TRUE.toString()));
+    }
+
+    /**
+     * Creates new application context for test context files using cached documents for all resources
+     * that have not changed since they were read.
+     * @param contextFile
+     * @param additionalFiles
+     * @param parentContext
+     * @return
+     */
+    public static ApplicationContext createApplicationContext(String contextFile, String[] additionalFiles, ApplicationContext parentContext) {
+        Resource[] additionalResources = new Resource[additionalFiles.length];
+        for (int i = 0; i < additionalFiles.length; i++) {
+            additionalResources[i] = new ClassPathResource(additionalFiles[i]);
+        }
+
+        return createApplicationContext(new ClassPathResource(contextFile), additionalResources, parentContext);
+    }
+
+    /**
+     * Creates new application context for test context resources using cached documents for all resources
+     * that have not changed since they were read.
+     * @param contextResource
+     * @param additionalResources
+     * @param parentContext
+     * @return
+     */
+    public static ApplicationContext createApplicationContext(Resource contextResource, Resource[] additionalResources, ApplicationContext parentContext) {
+        GenericApplicationContext applicationContext = new GenericApplicationContext(parentContext);
+
+        XmlBeanDefinitionReader reader = new CachingBeanDefinitionReader(applicationContext);
+        reader.setResourceLoader(applicationContext);
+        reader.setEntityResolver(new ResourceEntityResolver(applicationContext));
+        reader.setEnvironment(applicationContext.getEnvironment());
+
+        reader.loadBeanDefinitions(contextResource);
+        reader.loadBeanDefinitions(additionalResources);
+
+        applicationContext.refresh();
+
+        return applicationContext;
+    }
+
+    /**
+     * Reads content of resource.
+     * @param resource
+     * @return
+     */
+    private static byte[] readContent(Resource resource) {
+        try {
+            return FileCopyUtils.copyToByteArray(resource.getInputStream());
+        } catch (IOException e) {
+            throw new BeanDefinitionStoreException(resource.getDescription(), "Failed to read test case file: " + resource.getDescription(), e);
+        }
+    }
+
+    /**
+     * Gets content checksum.
+     * @param content
+     * @return
+     */
+    private static long getChecksum(byte[] content) {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        return crc.getValue();
+    }
+
+    /**
+     * Clears all cached documents.
+     */
+    public static void clear() {
+        DOCUMENTS.clear();
+    }
+
+    /**
+     * Gets the number of cached documents.
+     * @return
+     */
+    public static int size() {
+        return DOCUMENTS.size();
+    }
+
+    /**
+     * Bean definition reader using cached documents for resources and imported resources.
+     */
+    private static final class CachingBeanDefinitionReader extends XmlBeanDefinitionReader {
+
+        /** Resources currently being loaded for detecting cyclic imports */
+        private final Set<String> resourcesCurrentlyBeingLoaded = new HashSet<>();
+
+        CachingBeanDefinitionReader(BeanDefinitionRegistry registry) {
+            super(registry);
+        }
+
+        @Override
+        public int loadBeanDefinitions(EncodedResource encodedResource) throws BeanDefinitionStoreException {
+            Resource resource = encodedResource.getResource();
+            String key = resource.getDescription();
+
+            if (!resourcesCurrentlyBeingLoaded.add(key)) {
+                throw new BeanDefinitionStoreException("Detected cyclic loading of " + key + " - check your import definitions!");
+            }
+
+            try {
+                return registerBeanDefinitions(getDocument(encodedResource, key), resource);
+            } finally {
+                resourcesCurrentlyBeingLoaded.remove(key);
+            }
+        }
+
+        /**
+         * Gets copy of cached document or reads document when resource has changed since last read.
+         * @param encodedResource
+         * @param key
+         * @return
+         */
+        private Document getDocument(EncodedResource encodedResource, String key) {
+            byte[] content = readContent(encodedResource.getResource());
+            long checksum = getChecksum(content);
+
+            CachedDocument cached = DOCUMENTS.get(key);
+            if (cached == null || cached.checksum != checksum) {
+                cached = new CachedDocument(checksum, readDocument(encodedResource, content));
+                DOCUMENTS.put(key, cached);
+            } else if (LOG.isDebugEnabled()) {
+                LOG.debug("Using cached test document for " + key);
+            }
+
+            return cached.copy();
+        }
+
+        /**
+         * Reads and validates document from resource content.
+         * @param encodedResource
+         * @param content
+         * @return
+         */
+        private Document readDocument(EncodedResource encodedResource, byte[] content) {
+            Resource resource = encodedResource.getResource();
+
+            try (InputStream inputStream = new ByteArrayInputStream(content)) {
+                InputSource inputSource = new InputSource(inputStream);
+                if (encodedResource.getEncoding() != null) {
+                    inputSource.setEncoding(encodedResource.getEncoding());
+                }
+
+                return doLoadDocument(inputSource, resource);
+            } catch (BeanDefinitionStoreException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new BeanDefinitionStoreException(resource.getDescription(), "Failed to read XML document from " + resource.getDescription(), e);
+            }
+        }
+    }
+
+    /**
+     * Cached document with content checksum of its resource.
+     */
+    private static final class CachedDocument {
+        private final long checksum;
+        private final Document document;
+
+        CachedDocument(long checksum, Document document) {
+            this.checksum = checksum;
+            this.document = document;
+        }
+
+        /**
+         * Creates deep copy of document. DOM implementations are not safe for concurrent access even
+         * when only reading so copy is done synchronized.
+         * @return
+         */
+        Document copy() {
+            synchronized (document) {
+                return (Document) document.cloneNode(true);
+            }
+        }
+    }
+}
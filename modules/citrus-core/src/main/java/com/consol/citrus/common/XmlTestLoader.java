@@ -35,6 +35,9 @@ import java.io.File;
  */
 public class XmlTestLoader implements TestLoader {
 
+    /** Helper context file enabling annotation config in test context */
+    public static final String ANNOTATION_CONFIG_CONTEXT = "com/consol/citrus/spring/annotation-config-ctx.xml";
+
     private TestCase testCase;
     private Class<?> testClass;
     private String testName;
@@ -76,15 +79,20 @@ public class XmlTestLoader implements TestLoader {
 
     /**
      * Create new Spring bean application context with test case XML file,
-     * helper and parent context file.
+     * helper and parent context file. Uses cached test documents when the definition cache is enabled.
      * @return
      */
     private ApplicationContext loadApplicationContext() {
         try {
+            if (XmlTestDefinitionCache.isEnabled()) {
+                return XmlTestDefinitionCache.createApplicationContext(getContextFile(),
+                        new String[] { ANNOTATION_CONFIG_CONTEXT }, parentContext);
+            }
+
             return new ClassPathXmlApplicationContext(
                     new String[]{
                             getContextFile(),
-                            "com/consol/citrus/spring/annotation-config-ctx.xml"},
+                            ANNOTATION_CONFIG_CONTEXT},
                     true, parentContext);
         } catch (Exception e) {
             throw parentContext.getBean(TestContextFactory.class).getObject()
@@ -42,6 +42,7 @@ public class MessageSelectingQueueChannelParser implements BeanDefinitionParser
         BeanDefinitionParserUtils.setConstructorArgValue(builder, element.getAttribute("capacity"));
         
         BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("polling-interval"), "pollingInterval");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("signalling"), "signalling");
         
         parserContext.getRegistry().registerBeanDefinition(element.getAttribute("id"), builder.getBeanDefinition());
         
@@ -22,7 +22,9 @@ import org.springframework.beans.factory.xml.BeanDefinitionParser;
 import org.springframework.beans.factory.xml.ParserContext;
 import org.w3c.dom.Element;
 
+import com.consol.citrus.config.util.BeanDefinitionParserUtils;
 import com.consol.citrus.container.Parallel;
+import com.consol.citrus.container.ParallelExecutionStrategy;
 
 /**
  * Bean definition parser for parallel container in test case.
@@ -39,6 +41,14 @@ public class ParallelParser implements BeanDefinitionParser {
 
         DescriptionElementParser.doParse(element, builder);
         builder.addPropertyValue("name", element.getLocalName());
+
+        if (element.hasAttribute("execution-strategy")) {
+            builder.addPropertyValue("executionStrategy",
+                    ParallelExecutionStrategy.fromName(element.getAttribute("execution-strategy")));
+        }
+
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("max-concurrency"), "maxConcurrency");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("fail-fast"), "failFast");
         
         ActionContainerParser.doParse(element, parserContext, builder);
 
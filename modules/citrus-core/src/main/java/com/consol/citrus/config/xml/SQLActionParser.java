@@ -18,6 +18,7 @@ package com.consol.citrus.config.xml;
 
 import com.consol.citrus.actions.ExecuteSQLAction;
 import com.consol.citrus.actions.ExecuteSQLQueryAction;
+import com.consol.citrus.config.util.BeanDefinitionParserUtils;
 import com.consol.citrus.validation.script.ScriptValidationContext;
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.config.BeanDefinition;
@@ -94,6 +95,8 @@ public class SQLActionParser implements BeanDefinitionParser {
         if (ignoreErrors != null && ignoreErrors.equals("true")) {
             beanDefinition.addPropertyValue("ignoreErrors", true);
         }
+
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("batch-size"), "batchSize");
         
         return beanDefinition;
     }
@@ -145,6 +148,9 @@ public class SQLActionParser implements BeanDefinitionParser {
         }
         
         beanDefinition.addPropertyValue("extractVariables", extractVariables);
+
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("streaming"), "streaming");
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("fetch-size"), "fetchSize");
         
         return beanDefinition;
     }
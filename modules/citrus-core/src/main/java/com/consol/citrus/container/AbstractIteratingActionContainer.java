@@ -80,28 +80,40 @@ public abstract class AbstractIteratingActionContainer extends AbstractActionCon
 
         // replace dynamic content with each iteration
         String conditionString = condition;
-        if (conditionString.indexOf(Citrus.VARIABLE_PREFIX + indexName + Citrus.VARIABLE_SUFFIX) != -1) {
-            Properties props = new Properties();
-            props.put(indexName, String.valueOf(index));
-            conditionString = new PropertyPlaceholderHelper(Citrus.VARIABLE_PREFIX, Citrus.VARIABLE_SUFFIX).replacePlaceholders(conditionString, props);
+        String indexPlaceholder = Citrus.VARIABLE_PREFIX + indexName + Citrus.VARIABLE_SUFFIX;
+        if (conditionString.indexOf(indexPlaceholder) != -1) {
+            conditionString = conditionString.replace(indexPlaceholder, indexName);
         }
 
         conditionString = context.replaceDynamicContentInString(conditionString);
 
         if (ValidationMatcherUtils.isValidationMatcherExpression(conditionString)) {
             try {
-                ValidationMatcherUtils.resolveValidationMatcher("iteratingCondition", String.valueOf(index), conditionString, context);
+                ValidationMatcherUtils.resolveValidationMatcher("iteratingCondition", String.valueOf(index), replaceIndex(context), context);
                 return true;
             } catch (AssertionError e) {
                 return false;
             }
         }
 
-        if (conditionString.indexOf(indexName) != -1) {
-            conditionString = conditionString.replaceAll(indexName, String.valueOf(index));
+        // index is a variable slot in compiled expression so expression is parsed only once for all iterations
+        return BooleanExpressionParser.compile(conditionString, indexName).evaluate(String.valueOf(index));
+    }
+
+    /**
+     * Replaces index variable placeholders and dynamic content in condition.
+     * @param context
+     * @return
+     */
+    private String replaceIndex(TestContext context) {
+        String conditionString = condition;
+        if (conditionString.indexOf(Citrus.VARIABLE_PREFIX + indexName + Citrus.VARIABLE_SUFFIX) != -1) {
+            Properties props = new Properties();
+            props.put(indexName, String.valueOf(index));
+            conditionString = new PropertyPlaceholderHelper(Citrus.VARIABLE_PREFIX, Citrus.VARIABLE_SUFFIX).replacePlaceholders(conditionString, props);
         }
 
-        return BooleanExpressionParser.evaluate(conditionString);
+        return context.replaceDynamicContentInString(conditionString);
     }
     
     /**
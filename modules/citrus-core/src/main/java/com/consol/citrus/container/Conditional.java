@@ -82,7 +82,7 @@ public class Conditional extends AbstractActionContainer {
             }
         }
 
-        return BooleanExpressionParser.evaluate(conditionString);
+        return BooleanExpressionParser.compile(conditionString).evaluate();
     }
 
     /**
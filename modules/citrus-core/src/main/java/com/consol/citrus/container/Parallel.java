@@ -24,21 +24,31 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * Test action will execute nested actions in parallel. Each action is executed in a
+ * Test action will execute nested actions in parallel. By default each action is executed in a
  * separate thread. Container joins all threads and waiting for them to end successfully.
+ *
+ * Execution strategy is able to switch to shared thread pools so the number of threads stays bounded. Optional max concurrency
+ * limits the number of nested actions running at the same time. With fail fast enabled nested actions that have not
+ * been started yet are skipped as soon as one of the nested actions has failed.
  * 
  * @author Christoph Deppisch
  */
 public class Parallel extends AbstractActionContainer {
 
-    /** Store created threads in stack */
-    private Stack<Thread> threads = new Stack<Thread>();
+    /** Strategy used to execute nested actions */
+    private ParallelExecutionStrategy executionStrategy = ParallelExecutionStrategy.THREAD;
+
+    /** Maximum number of nested actions running at the same time, unlimited when not positive */
+    private int maxConcurrency = 0;
+
+    /** Skip pending nested actions as soon as one of the actions has failed */
+    private boolean failFast = false;
 
-    /** Collect exceptions in list */
-    private List<CitrusRuntimeException> exceptions = new ArrayList<CitrusRuntimeException>();
-    
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(Parallel.class);
 
@@ -50,31 +60,66 @@ public class Parallel extends AbstractActionContainer {
     }
 
     @Override
-    public void doExecute(TestContext context) {
-        for (final TestAction action : actions) {
-            Thread t = new Thread(new ActionRunner(action, context) {
-                @Override
-                public void exceptionCallback(CitrusRuntimeException e) {
-                    if (exceptions.isEmpty()) {
-                        setLastExecutedAction(action);
+    public void doExecute(final TestContext context) {
+        final List<TestAction> pending = new ArrayList<TestAction>(actions);
+        final List<CitrusRuntimeException> exceptions = Collections.synchronizedList(new ArrayList<CitrusRuntimeException>());
+        final AtomicInteger nextAction = new AtomicInteger();
+        final AtomicBoolean failed = new AtomicBoolean(false);
+        final CountDownLatch finished = new CountDownLatch(pending.size());
+
+        Runnable worker = new Runnable() {
+            @Override
+            public void run() {
+                int index;
+                while ((index = nextAction.getAndIncrement()) < pending.size()) {
+                    final TestAction action = pending.get(index);
+
+                    try {
+                        if (failFast && failed.get()) {
+                            log.warn("Skip parallel test action due to previous error: " + action.getName());
+                            continue;
+                        }
+
+                        new ActionRunner(action, context) {
+                            @Override
+                            public void exceptionCallback(CitrusRuntimeException e) {
+                                synchronized (exceptions) {
+                                    if (exceptions.isEmpty()) {
+                                        setLastExecutedAction(action);
+                                    }
+
+                                    exceptions.add(e);
+                                }
+
+                                failed.set(true);
+                            }
+                        }.run();
+                    } finally {
+                        finished.countDown();
                     }
-                    
-                    exceptions.add(e);
                 }
-            });
+            }
+        };
+
+        int workers = maxConcurrency > 0 ? Math.min(maxConcurrency, pending.size()) : pending.size();
+        boolean callerRuns = executionStrategy.isCallerRuns() && workers > 0;
 
-            threads.push(t);
-            t.start();
+        Executor executor = executionStrategy.getExecutor();
+        for (int i = callerRuns ? 1 : 0; i < workers; i++) {
+            executor.execute(worker);
         }
 
-        while (!threads.isEmpty()) {
-            try {
-                threads.pop().join();
-            } catch (InterruptedException e) {
-                log.error("Unable to join thread", e);
-            }
+        if (callerRuns) {
+            worker.run();
         }
-        
+
+        try {
+            finished.await();
+        } catch (InterruptedException e) {
+            log.error("Interrupted while waiting for parallel actions to finish", e);
+            Thread.currentThread().interrupt();
+        }
+
         if (!exceptions.isEmpty()) {
             if (exceptions.size() == 1) {
                 throw exceptions.get(0);
@@ -84,6 +129,54 @@ public class Parallel extends AbstractActionContainer {
         }
     }
 
+    /**
+     * Gets the execution strategy.
+     * @return
+     */
+    public ParallelExecutionStrategy getExecutionStrategy() {
+        return executionStrategy;
+    }
+
+    /**
+     * Sets the execution strategy.
+     * @param executionStrategy
+     */
+    public void setExecutionStrategy(ParallelExecutionStrategy executionStrategy) {
+        this.executionStrategy = executionStrategy;
+    }
+
+    /**
+     * Gets the max concurrency.
+     * @return
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Sets the max concurrency.
+     * @param maxConcurrency
+     */
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Gets the fail fast setting.
+     * @return
+     */
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    /**
+     * Sets the fail fast setting.
+     * @param failFast
+     */
+    public void setFailFast(boolean failFast) {
+        this.failFast = failFast;
+    }
+
     /**
      * Runnable wrapper for executing an action in separate Thread.
      */
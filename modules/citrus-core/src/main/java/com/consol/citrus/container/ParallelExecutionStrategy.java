@@ -0,0 +1,183 @@
+/*
+ * Copyright 2006-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.container;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Enumeration representing the different strategies for executing nested actions in a
+ * parallel container. Pooled strategies share their executor among all parallel containers
+ * so the number of threads stays bounded no matter how many parallel containers are nested or iterated.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7
+ */
+public enum ParallelExecutionStrategy {
+    THREAD("thread"),
+    POOL("pool"),
+    FORK_JOIN("fork-join"),
+    VIRTUAL_THREAD("virtual-thread");
+
+    /** System property for setting the shared pool size */
+    public static final String POOL_SIZE_PROPERTY = "citrus.parallel.pool.size";
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(ParallelExecutionStrategy.class);
+
+    /** Name representation */
+    private String name;
+
+    /**
+     * Default constructor using String name representation field.
+     * @param name
+     */
+    ParallelExecutionStrategy(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the executor for this strategy.
+     * @return
+     */
+    public Executor getExecutor() {
+        switch (this) {
+            case POOL:
+                return SharedPoolHolder.EXECUTOR;
+            case FORK_JOIN:
+                return ForkJoinHolder.EXECUTOR;
+            case VIRTUAL_THREAD:
+                return VirtualThreadHolder.EXECUTOR;
+            default:
+                return ThreadPerTaskExecutor.INSTANCE;
+        }
+    }
+
+    /**
+     * Should calling thread take part in executing nested actions. Pooled strategies let the calling thread
+     * run nested actions that have not been picked up by the pool yet. This way nested parallel containers
+     * always make progress even when all pool threads are busy.
+     * @return
+     */
+    public boolean isCallerRuns() {
+        return this == POOL || this == FORK_JOIN;
+    }
+
+    /**
+     * Gets the strategy from given name representation.
+     * @param name
+     * @return
+     */
+    public static ParallelExecutionStrategy fromName(String name) {
+        for (ParallelExecutionStrategy strategy : values()) {
+            if (strategy.getName().equals(name)) {
+                return strategy;
+            }
+        }
+
+        throw new IllegalArgumentException("Unknown parallel execution strategy: " + name);
+    }
+
+    /**
+     * Gets the name representation.
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Executor creating a new thread for each task.
+     */
+    private static final class ThreadPerTaskExecutor implements Executor {
+        private static final Executor INSTANCE = new ThreadPerTaskExecutor();
+
+        @Override
+        public void execute(Runnable command) {
+            new Thread(command).start();
+        }
+    }
+
+    /**
+     * Lazy holder for shared bounded thread pool.
+     */
+    private static final class SharedPoolHolder {
+        private static final Executor EXECUTOR;
+
+        static {
+            int poolSize = Integer.valueOf(System.getProperty(POOL_SIZE_PROPERTY,
+                    String.valueOf(Runtime.getRuntime().availableProcessors() * 2)));
+
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(), new DaemonThreadFactory("citrus-parallel-"));
+            executor.allowCoreThreadTimeOut(true);
+            EXECUTOR = executor;
+        }
+    }
+
+    /**
+     * Lazy holder for shared fork join pool.
+     */
+    private static final class ForkJoinHolder {
+        private static final Executor EXECUTOR = new ForkJoinPool(Integer.valueOf(System.getProperty(POOL_SIZE_PROPERTY,
+                String.valueOf(Runtime.getRuntime().availableProcessors()))));
+    }
+
+    /**
+     * Lazy holder for virtual thread per task executor. Virtual threads are only available on Java runtimes
+     * supporting them. Falls back to thread per task execution on other runtimes.
+     */
+    private static final class VirtualThreadHolder {
+        private static final Executor EXECUTOR;
+
+        static {
+            Executor executor;
+            try {
+                Method factoryMethod = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                executor = (Executor) factoryMethod.invoke(null);
+            } catch (Exception e) {
+                log.warn("Virtual threads not supported on this Java runtime - using thread per action execution");
+                executor = ThreadPerTaskExecutor.INSTANCE;
+            }
+
+            EXECUTOR = executor;
+        }
+    }
+
+    /**
+     * Thread factory creating daemon threads with name prefix.
+     */
+    private static final class DaemonThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadCount = new AtomicInteger();
+        private final String namePrefix;
+
+        DaemonThreadFactory(String namePrefix) {
+            this.namePrefix = namePrefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -18,6 +18,8 @@ package com.consol.citrus.endpoint.adapter;
 
 import com.consol.citrus.TestCase;
 import com.consol.citrus.channel.ChannelEndpointAdapter;
+import com.consol.citrus.common.XmlTestDefinitionCache;
+import com.consol.citrus.common.XmlTestLoader;
 import com.consol.citrus.channel.ChannelSyncEndpointConfiguration;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.context.TestContextFactory;
@@ -32,20 +34,47 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.support.ClassPathXmlApplicationContext;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
-import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.*;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Special request dispatching endpoint adapter invokes XML test case for each incoming message. Incoming message is
  * passed to test case via normal message channel connection as usual.
  *
+ * For high request rates the adapter is able to reuse read and validated test case documents and to execute
+ * test cases on a bounded thread pool. Each request still parses bean definitions and creates a new Spring
+ * application context for its test case. When all threads are busy and the queue is full incoming requests are blocked
+ * until queue space is available or the queue timeout is exceeded. Execution statistics are tracked per mapping name.
+ *
  * @author Christoph Deppisch
  * @since 1.4
  */
-public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointAdapter implements InitializingBean, BeanNameAware, ApplicationContextAware {
+public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointAdapter implements InitializingBean, DisposableBean, BeanNameAware, ApplicationContextAware {
     /** Executor start action sequence logic in separate thread task */
     private TaskExecutor taskExecutor = new SimpleAsyncTaskExecutor();
 
+    /** Bounded thread pool created by this adapter when pool size is set */
+    private ThreadPoolTaskExecutor threadPoolExecutor;
+
+    /** Number of test execution threads, zero or less uses unbounded default task executor */
+    private int poolSize = 0;
+
+    /** Maximum number of queued test executions */
+    private int queueCapacity = 100;
+
+    /** Time to wait for free queue space before request is rejected */
+    private long queueTimeout = 5000L;
+
+    /** Reuse read and validated test case documents */
+    private boolean cacheTestDefinitions = false;
+
+    /** Execution statistics per mapping name */
+    private final ConcurrentMap<String, ExecutionStatistics> statistics = new ConcurrentHashMap<>();
+
     /** This adapter name - used for message channel generation */
     private String name = EndpointAdapter.class.getSimpleName();
 
@@ -74,7 +103,7 @@ public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointA
                     mappingName + "' in Spring bean context", e);
         }
 
-        taskExecutor.execute(new Runnable() {
+        execute(mappingName, new Runnable() {
             public void run() {
                 prepareExecution(request, test);
                 test.execute(testContext);
@@ -84,6 +113,56 @@ public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointA
         return endpointAdapterDelegate.handleMessage(request);
     }
 
+    /**
+     * Executes test task with task executor. Records queue time, execution time and failures
+     * for given mapping name.
+     * @param mappingName
+     * @param task
+     */
+    protected void execute(String mappingName, final Runnable task) {
+        final ExecutionStatistics executionStatistics = getOrCreateStatistics(mappingName);
+        final long submitted = System.currentTimeMillis();
+
+        executionStatistics.submitted();
+        try {
+            taskExecutor.execute(new Runnable() {
+                public void run() {
+                    long started = System.currentTimeMillis();
+                    executionStatistics.started(started - submitted);
+
+                    boolean success = false;
+                    try {
+                        task.run();
+                        success = true;
+                    } finally {
+                        executionStatistics.finished(System.currentTimeMillis() - started, success);
+                    }
+                }
+            });
+        } catch (TaskRejectedException e) {
+            executionStatistics.rejected();
+            throw new CitrusRuntimeException("Failed to execute test '" + mappingName + "' - execution queue is full", e);
+        }
+    }
+
+    /**
+     * Gets statistics for mapping name. Adds new statistics if not already present.
+     * @param mappingName
+     * @return
+     */
+    private ExecutionStatistics getOrCreateStatistics(String mappingName) {
+        ExecutionStatistics executionStatistics = statistics.get(mappingName);
+        if (executionStatistics == null) {
+            executionStatistics = new ExecutionStatistics();
+            ExecutionStatistics existing = statistics.putIfAbsent(mappingName, executionStatistics);
+            if (existing != null) {
+                executionStatistics = existing;
+            }
+        }
+
+        return executionStatistics;
+    }
+
     /**
      * Gets the test case from application context.
      * @param context
@@ -91,7 +170,12 @@ public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointA
      * @return the new test case.
      */
     protected TestCase getTestCase(TestContext context, String testName) {
-        ClassPathXmlApplicationContext ctx = createApplicationContext(context, packageName, testName);
+        ApplicationContext ctx;
+        if (cacheTestDefinitions) {
+            ctx = createCachedApplicationContext(context, packageName, testName);
+        } else {
+            ctx = createApplicationContext(context, packageName, testName);
+        }
 
         try {
             TestCase testCase = ctx.getBean(testName, TestCase.class);
@@ -112,13 +196,28 @@ public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointA
             return new ClassPathXmlApplicationContext(
                     new String[] {
                             packageName.replace('.', '/') + "/" + testName + ".xml",
-                            "com/consol/citrus/spring/annotation-config-ctx.xml"},
+                            XmlTestLoader.ANNOTATION_CONFIG_CONTEXT},
                     true, applicationContext);
         } catch (Exception e) {
             throw context.handleError(getClass().getSimpleName(), getClass().getPackage().getName(), "Failed to load test case", e);
         }
     }
 
+    /**
+     * Creates the Spring application context using cached test case documents. Test case XML file
+     * is not read and validated again as long as its content is unchanged. Bean definitions are parsed
+     * and a new application context is created for each call.
+     * @return
+     */
+    protected ApplicationContext createCachedApplicationContext(TestContext context, String packageName, String testName) {
+        try {
+            return XmlTestDefinitionCache.createApplicationContext(packageName.replace('.', '/') + "/" + testName + ".xml",
+                    new String[] { XmlTestLoader.ANNOTATION_CONFIG_CONTEXT }, applicationContext);
+        } catch (Exception e) {
+            throw context.handleError(getClass().getSimpleName(), getClass().getPackage().getName(), "Failed to load test case", e);
+        }
+    }
+
     /**
      * Prepares the test builder instance before execution. Subclasses may add custom properties to teest builder
      * here.
@@ -148,6 +247,40 @@ public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointA
             mappingStrategy.setApplicationContext(applicationContext);
             setMappingStrategy(mappingStrategy);
         }
+
+        if (poolSize > 0 && taskExecutor instanceof SimpleAsyncTaskExecutor) {
+            threadPoolExecutor = new ThreadPoolTaskExecutor();
+            threadPoolExecutor.setCorePoolSize(poolSize);
+            threadPoolExecutor.setMaxPoolSize(poolSize);
+            threadPoolExecutor.setQueueCapacity(queueCapacity);
+            threadPoolExecutor.setThreadNamePrefix(name + "-");
+            threadPoolExecutor.setRejectedExecutionHandler(new RejectedExecutionHandler() {
+                @Override
+                public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+                    try {
+                        if (executor.isShutdown() || !executor.getQueue().offer(task, queueTimeout, TimeUnit.MILLISECONDS)) {
+                            throw new RejectedExecutionException("Test execution queue is full");
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RejectedExecutionException("Interrupted while waiting for test execution queue", e);
+                    }
+                }
+            });
+            threadPoolExecutor.initialize();
+
+            taskExecutor = threadPoolExecutor;
+        } else if (poolSize > 0) {
+            log.warn(String.format("Ignoring pool size %s as custom task executor is set - configure thread pool on task executor '%s' instead",
+                    poolSize, taskExecutor.getClass().getName()));
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (threadPoolExecutor != null) {
+            threadPoolExecutor.shutdown();
+        }
     }
 
     /**
@@ -192,6 +325,102 @@ public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointA
         this.taskExecutor = taskExecutor;
     }
 
+    /**
+     * Gets the number of test execution threads.
+     * @return
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * Sets the number of test execution threads. When set to a positive value tests are executed on a
+     * bounded thread pool instead of the default task executor. Pool size is ignored when a custom task executor
+     * is set, the thread pool has to be configured on that task executor then.
+     * @param poolSize
+     */
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    /**
+     * Gets the maximum number of queued test executions.
+     * @return
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Sets the maximum number of queued test executions.
+     * @param queueCapacity
+     */
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Gets the queue timeout.
+     * @return
+     */
+    public long getQueueTimeout() {
+        return queueTimeout;
+    }
+
+    /**
+     * Sets the time in milliseconds to wait for free queue space before request is rejected.
+     * @param queueTimeout
+     */
+    public void setQueueTimeout(long queueTimeout) {
+        this.queueTimeout = queueTimeout;
+    }
+
+    /**
+     * Gets the test definition caching setting.
+     * @return
+     */
+    public boolean isCacheTestDefinitions() {
+        return cacheTestDefinitions;
+    }
+
+    /**
+     * Enables caching of read and validated test case documents. Bean definitions are still parsed
+     * and a new application context is still created for each request.
+     * @param cacheTestDefinitions
+     */
+    public void setCacheTestDefinitions(boolean cacheTestDefinitions) {
+        this.cacheTestDefinitions = cacheTestDefinitions;
+    }
+
+    /**
+     * Gets the current number of queued test executions in bounded thread pool.
+     * @return
+     */
+    public int getQueueSize() {
+        if (threadPoolExecutor != null) {
+            return threadPoolExecutor.getThreadPoolExecutor().getQueue().size();
+        }
+
+        return 0;
+    }
+
+    /**
+     * Gets execution statistics for mapping name.
+     * @param mappingName
+     * @return the statistics or null if no test has been executed for this mapping name.
+     */
+    public ExecutionStatistics getStatistics(String mappingName) {
+        return statistics.get(mappingName);
+    }
+
+    /**
+     * Gets execution statistics for all mapping names.
+     * @return
+     */
+    public Map<String, ExecutionStatistics> getStatistics() {
+        return statistics;
+    }
+
     /**
      * Gets the response generating endpoint adapter delegate.
      * @return
@@ -224,4 +453,104 @@ public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointA
     public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
         this.applicationContext = applicationContext;
     }
+
+    /**
+     * Execution statistics for a mapping name. Latencies are given in milliseconds.
+     */
+    public static class ExecutionStatistics {
+        private final AtomicLong submitted = new AtomicLong();
+        private final AtomicLong started = new AtomicLong();
+        private final AtomicLong completed = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong totalQueueTime = new AtomicLong();
+        private final AtomicLong totalExecutionTime = new AtomicLong();
+        private final AtomicLong maxExecutionTime = new AtomicLong();
+
+        void submitted() {
+            submitted.incrementAndGet();
+        }
+
+        void rejected() {
+            rejected.incrementAndGet();
+        }
+
+        void started(long queueTime) {
+            started.incrementAndGet();
+            totalQueueTime.addAndGet(queueTime);
+        }
+
+        void finished(long executionTime, boolean success) {
+            if (success) {
+                completed.incrementAndGet();
+            } else {
+                failed.incrementAndGet();
+            }
+
+            totalExecutionTime.addAndGet(executionTime);
+
+            long max = maxExecutionTime.get();
+            while (executionTime > max && !maxExecutionTime.compareAndSet(max, executionTime)) {
+                max = maxExecutionTime.get();
+            }
+        }
+
+        /**
+         * Gets the number of test executions waiting in queue.
+         * @return
+         */
+        public long getPending() {
+            return submitted.get() - started.get() - rejected.get();
+        }
+
+        /**
+         * Gets the number of test executions currently running.
+         * @return
+         */
+        public long getRunning() {
+            return started.get() - completed.get() - failed.get();
+        }
+
+        public long getSubmitted() {
+            return submitted.get();
+        }
+
+        public long getCompleted() {
+            return completed.get();
+        }
+
+        public long getFailed() {
+            return failed.get();
+        }
+
+        public long getRejected() {
+            return rejected.get();
+        }
+
+        /**
+         * Gets the average time test executions waited in queue.
+         * @return
+         */
+        public long getAverageQueueTime() {
+            long count = started.get();
+            return count > 0 ? totalQueueTime.get() / count : 0L;
+        }
+
+        /**
+         * Gets the average test execution time.
+         * @return
+         */
+        public long getAverageExecutionTime() {
+            long count = completed.get() + failed.get();
+            return count > 0 ? totalExecutionTime.get() / count : 0L;
+        }
+
+        /**
+         * Gets the maximum test execution time.
+         * @return
+         */
+        public long getMaxExecutionTime() {
+            return maxExecutionTime.get();
+        }
+    }
 }
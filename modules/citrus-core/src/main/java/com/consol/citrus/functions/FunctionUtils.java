@@ -42,6 +42,16 @@ public final class FunctionUtils {
         return replaceFunctionsInString(str, context, false);
     }
 
+    /**
+     * Checks if string value may hold a function call. Function calls are defined as 'prefix:methodName(arguments)'.
+     * @param stringValue to check.
+     * @return true if string value has text and contains function call characters.
+     */
+    public static boolean containsFunction(String stringValue) {
+        return StringUtils.hasText(stringValue) &&
+                stringValue.indexOf(':') >= 0 && stringValue.indexOf('(') >= 0 && stringValue.indexOf(')') >= 0;
+    }
+
     /**
      * Search for functions in string and replace with respective function result.
      * @param stringValue to parse.
@@ -50,18 +60,15 @@ public final class FunctionUtils {
      */
     public static String replaceFunctionsInString(final String stringValue, TestContext context, boolean enableQuoting) {
         // make sure given string expression meets requirements for having a function
-        if (!StringUtils.hasText(stringValue) ||
-                (stringValue.indexOf(':') < 0) || (stringValue.indexOf('(') < 0) || (stringValue.indexOf(')') < 0) ) {
-
-            // it is not a function, as it is defined as 'prefix:methodName(arguments)'
+        if (!containsFunction(stringValue)) {
             return stringValue;
         }
         
         String newString = stringValue;
-        StringBuffer strBuffer = new StringBuffer();
+        StringBuilder strBuffer = new StringBuilder();
 
         boolean isVarComplete = false;
-        StringBuffer variableNameBuf = new StringBuffer();
+        StringBuilder variableNameBuf = new StringBuilder();
 
         int startIndex = 0;
         int curIndex;
@@ -70,6 +77,10 @@ public final class FunctionUtils {
         for (FunctionLibrary library: context.getFunctionRegistry().getFunctionLibraries()) {
             startIndex = 0;
 
+            if (newString.indexOf(library.getPrefix()) < 0) {
+                continue;
+            }
+
             while ((searchIndex = newString.indexOf(library.getPrefix(), startIndex)) != -1) {
                 int control = -1;
                 isVarComplete = false;
@@ -105,14 +116,14 @@ public final class FunctionUtils {
 
                 startIndex = curIndex;
 
-                variableNameBuf = new StringBuffer();
+                variableNameBuf = new StringBuilder();
                 isVarComplete = false;
             }
 
             strBuffer.append(newString.substring(startIndex));
             newString = strBuffer.toString();
 
-            strBuffer = new StringBuffer();
+            strBuffer = new StringBuilder();
         }
 
         return newString;
@@ -22,11 +22,18 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
  * Extension of default correlation manager adds polling mechanism for find operation on object store.
  * In case object is not found in store retry is automatically performed. Polling interval and overall retry timeout
  * is usually defined in endpoint configuration.
  *
+ * Find operations waiting for a correlation key are signalled by store operations on the same key so waiting clients
+ * pick up the stored object immediately. Polling interval is only used as fallback in case objects are added to the object
+ * store directly without using this correlation manager.
+ *
  * @author Christoph Deppisch
  * @since 2.1
  */
@@ -36,6 +43,12 @@ public class PollingCorrelationManager<T> extends DefaultCorrelationManager<T> {
 
     private final PollableEndpointConfiguration endpointConfiguration;
 
+    /** Signals for clients waiting on correlated objects by correlation key */
+    private final ConcurrentMap<String, CorrelationSignal> signals = new ConcurrentHashMap<String, CorrelationSignal>();
+
+    /** Signal for clients waiting on correlation keys to be saved */
+    private final Object correlationKeySignal = new Object();
+
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(PollingCorrelationManager.class);
 
@@ -61,6 +74,15 @@ public class PollingCorrelationManager<T> extends DefaultCorrelationManager<T> {
         return find(correlationKey, endpointConfiguration.getTimeout());
     }
 
+    @Override
+    public void saveCorrelationKey(String correlationKeyName, String correlationKey, TestContext context) {
+        super.saveCorrelationKey(correlationKeyName, correlationKey, context);
+
+        synchronized (correlationKeySignal) {
+            correlationKeySignal.notifyAll();
+        }
+    }
+
     @Override
     public String getCorrelationKey(String correlationKeyName, TestContext context) {
         if (log.isDebugEnabled()) {
@@ -68,27 +90,31 @@ public class PollingCorrelationManager<T> extends DefaultCorrelationManager<T> {
         }
 
         String correlationKey = null;
-        if (context.getVariables().containsKey(correlationKeyName)) {
-            correlationKey = context.getVariable(correlationKeyName);
-        }
-
         long timeLeft = 1000L;
         long pollingInterval = 300L;
-        while (correlationKey == null && timeLeft > 0) {
-            timeLeft -= pollingInterval;
+        long deadline = System.currentTimeMillis() + timeLeft;
 
-            if (RETRY_LOG.isDebugEnabled()) {
-                RETRY_LOG.debug("Correlation key not available yet - retrying in " + (timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft) + "ms");
+        synchronized (correlationKeySignal) {
+            if (context.getVariables().containsKey(correlationKeyName)) {
+                correlationKey = context.getVariable(correlationKeyName);
             }
 
-            try {
-                Thread.sleep(timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft);
-            } catch (InterruptedException e) {
-                RETRY_LOG.warn("Thread interrupted while waiting for retry", e);
-            }
+            while (correlationKey == null && timeLeft > 0) {
+                if (RETRY_LOG.isDebugEnabled()) {
+                    RETRY_LOG.debug("Correlation key not available yet - waiting max " + Math.min(timeLeft, pollingInterval) + "ms");
+                }
 
-            if (context.getVariables().containsKey(correlationKeyName)) {
-                correlationKey = context.getVariable(correlationKeyName);
+                try {
+                    correlationKeySignal.wait(Math.min(timeLeft, pollingInterval));
+                } catch (InterruptedException e) {
+                    RETRY_LOG.warn("Thread interrupted while waiting for retry", e);
+                }
+
+                if (context.getVariables().containsKey(correlationKeyName)) {
+                    correlationKey = context.getVariable(correlationKeyName);
+                }
+
+                timeLeft = deadline - System.currentTimeMillis();
             }
         }
 
@@ -100,29 +126,93 @@ public class PollingCorrelationManager<T> extends DefaultCorrelationManager<T> {
     }
 
     @Override
-    public T find(String correlationKey, long timeout) {
-        long timeLeft = timeout;
-        long pollingInterval = endpointConfiguration.getPollingInterval();
+    public void store(String correlationKey, T object) {
+        super.store(correlationKey, object);
 
-        T stored = super.find(correlationKey, timeLeft);
+        CorrelationSignal signal = signals.get(correlationKey);
+        if (signal != null) {
+            synchronized (signal) {
+                signal.notifyAll();
+            }
+        }
+    }
 
-        while (stored == null && timeLeft > 0) {
-            timeLeft -= pollingInterval;
+    @Override
+    public T find(String correlationKey, long timeout) {
+        T stored = super.find(correlationKey, timeout);
+        if (stored != null || timeout <= 0) {
+            return stored;
+        }
 
-            if (RETRY_LOG.isDebugEnabled()) {
-                RETRY_LOG.debug(retryLogMessage + " - retrying in " + (timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft) + "ms");
+        long pollingInterval = endpointConfiguration.getPollingInterval();
+        long deadline = System.currentTimeMillis() + timeout;
+
+        CorrelationSignal signal = acquireSignal(correlationKey);
+        try {
+            synchronized (signal) {
+                long timeLeft = timeout;
+                stored = super.find(correlationKey, timeLeft);
+
+                while (stored == null && timeLeft > 0) {
+                    long waitTime = pollingInterval > 0 ? Math.min(timeLeft, pollingInterval) : timeLeft;
+                    if (RETRY_LOG.isDebugEnabled()) {
+                        RETRY_LOG.debug(retryLogMessage + " - waiting max " + waitTime + "ms");
+                    }
+
+                    try {
+                        signal.wait(waitTime);
+                    } catch (InterruptedException e) {
+                        RETRY_LOG.warn("Thread interrupted while waiting for retry", e);
+                    }
+
+                    timeLeft = deadline - System.currentTimeMillis();
+                    stored = super.find(correlationKey, timeLeft);
+                }
             }
+        } finally {
+            releaseSignal(correlationKey, signal);
+        }
+
+        return stored;
+    }
 
-            try {
-                Thread.sleep(timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft);
-            } catch (InterruptedException e) {
-                RETRY_LOG.warn("Thread interrupted while waiting for retry", e);
+    /**
+     * Gets or creates signal for correlation key and registers calling client as waiting.
+     * @param correlationKey
+     * @return
+     */
+    private CorrelationSignal acquireSignal(String correlationKey) {
+        while (true) {
+            CorrelationSignal signal = signals.get(correlationKey);
+            if (signal == null) {
+                CorrelationSignal newSignal = new CorrelationSignal();
+                signal = signals.putIfAbsent(correlationKey, newSignal);
+                if (signal == null) {
+                    signal = newSignal;
+                }
             }
 
-            stored = super.find(correlationKey, timeLeft);
+            synchronized (signal) {
+                if (!signal.released) {
+                    signal.waiting++;
+                    return signal;
+                }
+            }
         }
+    }
 
-        return stored;
+    /**
+     * Unregisters waiting client and removes signal when no further client is waiting on correlation key.
+     * @param correlationKey
+     * @param signal
+     */
+    private void releaseSignal(String correlationKey, CorrelationSignal signal) {
+        synchronized (signal) {
+            if (--signal.waiting == 0) {
+                signal.released = true;
+                signals.remove(correlationKey, signal);
+            }
+        }
     }
 
     /**
@@ -140,4 +230,15 @@ public class PollingCorrelationManager<T> extends DefaultCorrelationManager<T> {
     public void setRetryLogMessage(String retryLogMessage) {
         this.retryLogMessage = retryLogMessage;
     }
+
+    /**
+     * Monitor object for clients waiting on same correlation key.
+     */
+    private static final class CorrelationSignal {
+        /** Number of waiting clients */
+        private int waiting = 0;
+
+        /** Signal has been removed from active signals */
+        private boolean released = false;
+    }
 }
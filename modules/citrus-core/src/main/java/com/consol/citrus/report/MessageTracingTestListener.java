@@ -16,6 +16,7 @@
 
 package com.consol.citrus.report;
 
+import com.consol.citrus.Citrus;
 import com.consol.citrus.TestCase;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
@@ -23,31 +24,47 @@ import com.consol.citrus.message.Message;
 import com.consol.citrus.message.RawMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 
 import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
-import java.util.Date;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Test listener collects all messages sent and received by Citrus during test execution. Listener
  * writes a trace file with all message content per test case to a output directory.
  * 
- * Note: This class is not thread safe! Parallel test execution leads to behaviour that messages get mixed.
+ * Note: In default mode this class is not thread safe! Parallel test execution leads to behaviour that messages get mixed.
  * Proper correlation to test case is not possible here.
+ *
+ * In asynchronous mode trace records are correlated to the test context and passed through a bounded buffer to a
+ * background writer thread. Messages with a test context are traced for the running test case of that context. Messages
+ * without a test context are traced for the test case running in the current thread. Trace files are opened in append
+ * mode so records written later for the same test case never overwrite previous records. The writer streams each record directly to the trace file of the test case, optionally
+ * gzip compressed, so tracing neither blocks message exchange with file I/O nor keeps messages in memory until
+ * the test has finished.
  * 
  * @author Christoph Deppisch
  * @since 1.2
  */
-public class MessageTracingTestListener extends AbstractTestListener implements InitializingBean, MessageListener {
+public class MessageTracingTestListener extends AbstractTestListener implements InitializingBean, DisposableBean, MessageListener {
     
     /** File ending for all message trace files */
     private static final String TRACE_FILE_ENDING = ".msgs";
 
+    /** File ending for compressed message trace files */
+    private static final String COMPRESSED_FILE_ENDING = ".gz";
+
     /** File ending for all message trace files */
     private static final Date TEST_EXECUTION_DATE = new Date();
 
@@ -60,6 +77,30 @@ public class MessageTracingTestListener extends AbstractTestListener implements
     /** Locking object for synchronization */
     private final Object lockObject = new Object();
 
+    /** Write trace records asynchronously in background thread */
+    private boolean asynchronous = false;
+
+    /** Maximum number of pending trace records in asynchronous mode */
+    private int bufferSize = 1000;
+
+    /** Compress trace files in asynchronous mode */
+    private boolean compress = false;
+
+    /** Pending trace records consumed by background writer */
+    private BlockingQueue<TraceRecord> traceRecords;
+
+    /** Background writer thread */
+    private Thread writerThread;
+
+    /** Active trace sessions by test context */
+    private final Map<Object, TraceSession> traceSessions = new IdentityHashMap<>();
+
+    /** Test cases currently running */
+    private final Set<TestCase> runningTests = Collections.newSetFromMap(new IdentityHashMap<TestCase, Boolean>());
+
+    /** Test case currently running in thread */
+    private final ThreadLocal<TestCase> currentTest = new ThreadLocal<>();
+
     /** Logger */
     private static final Logger LOG = LoggerFactory.getLogger(MessageTracingTestListener.class);
             
@@ -68,6 +109,15 @@ public class MessageTracingTestListener extends AbstractTestListener implements
      */
     @Override
     public void onTestStart(TestCase test) {
+        if (asynchronous) {
+            currentTest.set(test);
+
+            synchronized (traceSessions) {
+                runningTests.add(test);
+            }
+            return;
+        }
+
         synchronized (lockObject) {
             messages.clear();
         }
@@ -78,6 +128,11 @@ public class MessageTracingTestListener extends AbstractTestListener implements
      */
     @Override
     public void onTestFinish(TestCase test) {
+        if (asynchronous) {
+            closeTraceSessions(test);
+            return;
+        }
+
         if (messages.isEmpty()) {
             return; // do not write empty message trace file
         }
@@ -101,6 +156,11 @@ public class MessageTracingTestListener extends AbstractTestListener implements
     @Override
     public void onInboundMessage(Message message, TestContext context) {
         if (message instanceof RawMessage) {
+            if (asynchronous) {
+                trace(context, "INBOUND_MESSAGE:" + newLine() + newLine() + message);
+                return;
+            }
+
             synchronized (lockObject) {
                 messages.add("INBOUND_MESSAGE:" + newLine() + newLine() + message);
             }
@@ -110,12 +170,132 @@ public class MessageTracingTestListener extends AbstractTestListener implements
     @Override
     public void onOutboundMessage(Message message, TestContext context) {
         if (message instanceof RawMessage) {
+            if (asynchronous) {
+                trace(context, "OUTBOUND_MESSAGE:" + newLine() + newLine() + message);
+                return;
+            }
+
             synchronized (lockObject) {
                 messages.add("OUTBOUND_MESSAGE:" + newLine() + newLine() + message);
             }
         }
     }
 
+    /**
+     * Adds trace record to the trace session of given test context. Session is created with first message
+     * and bound to the running test case of the test context. Without test context session is bound to
+     * the test case running in current thread.
+     * @param context
+     * @param content
+     */
+    private void trace(TestContext context, String content) {
+        Object key = context != null ? context : currentTest.get();
+
+        TraceSession session;
+        synchronized (traceSessions) {
+            session = key != null ? traceSessions.get(key) : null;
+            if (session == null) {
+                TestCase test = context != null ? getRunningTest(context) : currentTest.get();
+                if (test == null) {
+                    LOG.warn("Unable to correlate traced message to test case - skip message trace");
+                    return;
+                }
+
+                session = new TraceSession(test, getTraceFile(test.getName(), compress));
+                traceSessions.put(key, session);
+            }
+        }
+
+        enqueue(new TraceRecord(session, content, false));
+    }
+
+    /**
+     * Gets running test case for test context. Test case is identified by the test name variable of the test context.
+     * Test case running in current thread is used when it has the same name or when test context has no test name.
+     * Caller must hold lock on trace sessions.
+     * @param context
+     * @return the test case or null if no running test case matches.
+     */
+    private TestCase getRunningTest(TestContext context) {
+        TestCase test = currentTest.get();
+        Object testName = context.getVariables().get(Citrus.TEST_NAME_VARIABLE);
+
+        if (testName == null || (test != null && testName.equals(test.getName()))) {
+            return test;
+        }
+
+        TestCase match = null;
+        for (TestCase runningTest : runningTests) {
+            if (testName.equals(runningTest.getName())) {
+                if (match != null) {
+                    return null;
+                }
+
+                match = runningTest;
+            }
+        }
+
+        return match;
+    }
+
+    /**
+     * Closes all trace sessions of given test case. Trace files get closed by background writer after all
+     * pending records of the session have been written.
+     * @param test
+     */
+    private void closeTraceSessions(TestCase test) {
+        List<TraceSession> finished = new ArrayList<>();
+
+        synchronized (traceSessions) {
+            runningTests.remove(test);
+
+            for (Iterator<TraceSession> it = traceSessions.values().iterator(); it.hasNext();) {
+                TraceSession session = it.next();
+                if (session.test == test) {
+                    finished.add(session);
+                    it.remove();
+                }
+            }
+        }
+
+        for (TraceSession session : finished) {
+            enqueue(new TraceRecord(session, null, true));
+        }
+
+        currentTest.remove();
+    }
+
+    /**
+     * Adds record to trace buffer. Caller blocks in case buffer is full until writer has caught up.
+     * @param record
+     */
+    private void enqueue(TraceRecord record) {
+        if (traceRecords == null) {
+            throw new CitrusRuntimeException("Asynchronous message tracing has not been started");
+        }
+
+        try {
+            traceRecords.put(record);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while adding message trace record", e);
+        }
+    }
+
+    /**
+     * Starts background writer thread consuming trace records.
+     */
+    private synchronized void startWriter() {
+        if (writerThread != null) {
+            return;
+        }
+
+        traceRecords = new ArrayBlockingQueue<>(bufferSize);
+        writerThread = new Thread(new TraceWriter(traceRecords), "citrus-message-tracing");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
     /**
      * Creates message separator line.
      * @return
@@ -143,6 +323,36 @@ public class MessageTracingTestListener extends AbstractTestListener implements
                 throw new CitrusRuntimeException("Unable to create output directory structure for message tracing");
             }
         }
+
+        if (asynchronous) {
+            startWriter();
+        }
+    }
+
+    /**
+     * Closes open trace sessions and waits for background writer to write all pending records.
+     */
+    public synchronized void destroy() throws Exception {
+        if (writerThread == null) {
+            return;
+        }
+
+        List<TraceSession> sessions;
+        synchronized (traceSessions) {
+            sessions = new ArrayList<>(traceSessions.values());
+            traceSessions.clear();
+            runningTests.clear();
+        }
+
+        for (TraceSession session : sessions) {
+            enqueue(new TraceRecord(session, null, true));
+        }
+
+        enqueue(TraceRecord.SHUTDOWN);
+        writerThread.join();
+
+        writerThread = null;
+        traceRecords = null;
     }
 
     /**
@@ -153,6 +363,30 @@ public class MessageTracingTestListener extends AbstractTestListener implements
         this.outputDirectory = outputDirectory;
     }
 
+    /**
+     * Enables asynchronous message tracing.
+     * @param asynchronous
+     */
+    public void setAsynchronous(boolean asynchronous) {
+        this.asynchronous = asynchronous;
+    }
+
+    /**
+     * Sets the maximum number of pending trace records in asynchronous mode.
+     * @param bufferSize
+     */
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Enables gzip compression of trace files in asynchronous mode.
+     * @param compress
+     */
+    public void setCompress(boolean compress) {
+        this.compress = compress;
+    }
+
 
     /**
      * Returns the trace file for message tracing. The file name should be unique per test execution run; the test name
@@ -176,4 +410,125 @@ public class MessageTracingTestListener extends AbstractTestListener implements
             throw new CitrusRuntimeException("Error creating trace file", e);
         }
     }
+
+    /**
+     * Returns the trace file for message tracing optionally using compressed file ending.
+     * @param testName the name of the test to create the trace file for
+     * @param compressed use compressed file ending
+     * @return the trace file to use for message tracing
+     */
+    protected File getTraceFile(String testName, boolean compressed) {
+        File traceFile = getTraceFile(testName);
+
+        if (compressed) {
+            return new File(traceFile.getPath() + COMPRESSED_FILE_ENDING);
+        }
+
+        return traceFile;
+    }
+
+    /**
+     * Trace session holding the trace file of a test case. Writer is only accessed by background writer thread.
+     */
+    private static final class TraceSession {
+        private final TestCase test;
+        private final File traceFile;
+        private Writer writer;
+
+        TraceSession(TestCase test, File traceFile) {
+            this.test = test;
+            this.traceFile = traceFile;
+        }
+    }
+
+    /**
+     * Single trace record either holding message content or closing the trace session.
+     */
+    private static final class TraceRecord {
+        private static final TraceRecord SHUTDOWN = new TraceRecord(null, null, true);
+
+        private final TraceSession session;
+        private final String content;
+        private final boolean close;
+
+        TraceRecord(TraceSession session, String content, boolean close) {
+            this.session = session;
+            this.content = content;
+            this.close = close;
+        }
+    }
+
+    /**
+     * Background writer streaming trace records to trace files.
+     */
+    private final class TraceWriter implements Runnable {
+        private final BlockingQueue<TraceRecord> records;
+
+        TraceWriter(BlockingQueue<TraceRecord> records) {
+            this.records = records;
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                TraceRecord record;
+                try {
+                    record = records.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+
+                if (record == TraceRecord.SHUTDOWN) {
+                    return;
+                }
+
+                try {
+                    if (record.close) {
+                        close(record.session);
+                    } else {
+                        write(record.session, record.content);
+                    }
+                } catch (IOException e) {
+                    LOG.error("Failed to write message trace to filesystem", e);
+                }
+            }
+        }
+
+        /**
+         * Writes content to trace file opening the file with first record. File is opened in append mode.
+         * @param session
+         * @param content
+         * @throws IOException
+         */
+        private void write(TraceSession session, String content) throws IOException {
+            if (session.writer == null) {
+                FileChannel channel = FileChannel.open(session.traceFile.toPath(),
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+
+                if (compress) {
+                    out = new GZIPOutputStream(out);
+                }
+
+                session.writer = new OutputStreamWriter(out, Charset.defaultCharset());
+                session.writer.write(separator() + newLine() + newLine());
+            }
+
+            session.writer.write(content);
+            session.writer.write(newLine() + separator() + newLine() + newLine());
+        }
+
+        /**
+         * Closes trace file.
+         * @param session
+         * @throws IOException
+         */
+        private void close(TraceSession session) throws IOException {
+            if (session.writer != null) {
+                session.writer.close();
+                session.writer = null;
+            }
+        }
+    }
 }
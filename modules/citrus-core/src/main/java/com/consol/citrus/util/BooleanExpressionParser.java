@@ -25,7 +25,8 @@ import org.springframework.util.CollectionUtils;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 
 /**
- * Parses boolean expression strings and evaluates to boolean result.
+ * Parses boolean expression strings and evaluates to boolean result. Expressions can be compiled once to an
+ * expression tree with variable slots that is evaluated repeatedly, e.g. in iterating test action containers.
  * 
  * @author Christoph Deppisch
  */
@@ -36,6 +37,13 @@ public final class BooleanExpressionParser {
     private static final List<String> OPERATORS = new ArrayList<String>(
             CollectionUtils.arrayToList(new String[]{"(", "=", "and", "or", "lt", "lt=", "gt", "gt=", ")"}));
 
+    /** System property for setting the compiled expression cache size */
+    public static final String CACHE_SIZE_PROPERTY = "citrus.boolean.expression.cache.size";
+
+    /** Cache of compiled expressions by expression string and variable names */
+    private static final LruCache<List<String>, CompiledExpression> EXPRESSION_CACHE =
+            new LruCache<List<String>, CompiledExpression>(Integer.valueOf(System.getProperty(CACHE_SIZE_PROPERTY, "250")));
+
     /** List of known boolean values */
     private static final List<String> BOOLEAN_VALUES = new ArrayList<String>(
             CollectionUtils.arrayToList(new String[]{"true", "false"}));
@@ -58,9 +66,41 @@ public final class BooleanExpressionParser {
      * @return
      */
     public static boolean evaluate(String expression) {
+        return compile(expression).evaluate();
+    }
+
+    /**
+     * Compiles boolean expression string to expression tree that can be evaluated several times. Tokens in expression
+     * matching one of the given variable names are slots that get resolved with values given on evaluation. Compiled
+     * expressions are cached by expression string and variable names.
+     * @param expression
+     * @param variableNames
+     * @throws CitrusRuntimeException
+     * @return
+     */
+    public static CompiledExpression compile(String expression, String ... variableNames) {
+        List<String> cacheKey = new ArrayList<String>(variableNames.length + 1);
+        cacheKey.add(expression);
+        cacheKey.addAll(Arrays.asList(variableNames));
+
+        CompiledExpression compiled = EXPRESSION_CACHE.get(cacheKey);
+        if (compiled == null) {
+            compiled = new CompiledExpression(expression, parse(expression, Arrays.asList(variableNames)));
+            EXPRESSION_CACHE.put(cacheKey, compiled);
+        }
+
+        return compiled;
+    }
+
+    /**
+     * Parses expression string to expression tree. Tree reflects the evaluation order of operator and value stacks.
+     * @param expression
+     * @param variableNames
+     * @return
+     */
+    private static Node parse(String expression, List<String> variableNames) {
         Stack<String> operators = new Stack<String>();
-        Stack<String> values = new Stack<String>();
-        boolean result = true;
+        Stack<Node> values = new Stack<Node>();
 
         char actChar;
 
@@ -75,11 +115,11 @@ public final class BooleanExpressionParser {
                 } else if (actChar == ')') {
                     String operator = operators.pop();
                     while (!(operator).equals("(")) {
-                        values.push(getBooleanResultAsString(operator, values.pop(), values.pop()));
+                        values.push(createOperation(operator, values.pop(), values.pop()));
                         operator = operators.pop();
                     }
                 } else if (!Character.isDigit(actChar)) {
-                    StringBuffer operatorBuffer = new StringBuffer();
+                    StringBuilder operatorBuffer = new StringBuilder();
     
                     int m = i;
                     do {
@@ -89,17 +129,20 @@ public final class BooleanExpressionParser {
                         if (m < expression.length()) {
                             actChar = expression.charAt(m);
                         }
-                    } while (m < expression.length() && !Character.isDigit(actChar) && !(actChar == ' ') && !(actChar == '('));
+                    } while (m < expression.length() && !isTokenEnd(operatorBuffer, actChar));
     
                     i = m - 1;
 
-                    if (BOOLEAN_VALUES.contains(operatorBuffer.toString())) {
-                        values.push(Boolean.valueOf(operatorBuffer.toString()) ? "1" : "0");
+                    String token = operatorBuffer.toString();
+                    if (BOOLEAN_VALUES.contains(token)) {
+                        values.push(new ValueNode(Boolean.valueOf(token) ? "1" : "0"));
+                    } else if (variableNames.contains(token)) {
+                        values.push(new VariableNode(variableNames.indexOf(token)));
                     } else {
-                        operators.push(validateOperator(operatorBuffer.toString()));
+                        operators.push(validateOperator(token));
                     }
                 } else if (Character.isDigit(actChar)) {
-                    StringBuffer digitBuffer = new StringBuffer();
+                    StringBuilder digitBuffer = new StringBuilder();
     
                     int m = i;
                     do {
@@ -113,32 +156,66 @@ public final class BooleanExpressionParser {
     
                     i = m - 1;
     
-                    values.push(digitBuffer.toString());
+                    values.push(new ValueNode(digitBuffer.toString()));
                 }
             }
     
             while (!operators.isEmpty()) {
-                values.push(getBooleanResultAsString(operators.pop(), values.pop(), values.pop()));
+                values.push(createOperation(operators.pop(), values.pop(), values.pop()));
             }
-    
-            String value = values.pop();
 
-            if (value.equals("0")) {
-                value = "false";
-            } else if (value.equals("1")) {
-                value = "true";
-            }
-
-            result = Boolean.valueOf(value).booleanValue();
-    
-            if (log.isDebugEnabled()) {
-                log.debug("Boolean expression " + expression + " evaluates to " + result);
-            }
+            return values.pop();
         } catch(EmptyStackException e) {
             throw new CitrusRuntimeException("Unable to parse boolean expression '" + expression + "'. Maybe expression is incomplete!", e);
         }
+    }
+
+    /**
+     * Checks if next character ends the current name or operator token. Tokens end at digits, spaces and brackets.
+     * Names end at operator characters so expressions without spaces such as "i=5" are split into name, operator
+     * and value. Operator character sequences end at any other character except for "lt=" and "gt=" operators.
+     * @param token
+     * @param next
+     * @return
+     */
+    private static boolean isTokenEnd(CharSequence token, char next) {
+        if (Character.isDigit(next) || next == ' ' || next == '(' || next == ')') {
+            return true;
+        }
+
+        if (isOperatorChar(token.charAt(token.length() - 1))) {
+            return !isOperatorChar(next);
+        }
+
+        if (next == '=' && (token.toString().equals("lt") || token.toString().equals("gt"))) {
+            return false;
+        }
+
+        return isOperatorChar(next);
+    }
+
+    /**
+     * Checks for operator character.
+     * @param c
+     * @return
+     */
+    private static boolean isOperatorChar(char c) {
+        return c == '=' || c == '<' || c == '>' || c == '!';
+    }
+
+    /**
+     * Creates operation node for operator and operands taken from value stack.
+     * @param operator
+     * @param value1 top most value on stack
+     * @param value2
+     * @return
+     */
+    private static Node createOperation(String operator, Node value1, Node value2) {
+        if (!OPERATORS.contains(operator) || operator.equals("(") || operator.equals(")")) {
+            throw new CitrusRuntimeException("Unknown operator '" + operator + "'");
+        }
 
-        return result;
+        return new OperationNode(operator, value2, value1);
     }
     
     /**
@@ -163,21 +240,133 @@ public final class BooleanExpressionParser {
      */
     private static String getBooleanResultAsString(String operator, String value1, String value2) {
         if (operator.equals("lt")) {
-            return Boolean.valueOf(Integer.valueOf(value2).intValue() < Integer.valueOf(value1).intValue()).toString();
+            return String.valueOf(Integer.parseInt(value2) < Integer.parseInt(value1));
         } else if (operator.equals("lt=")) {
-            return Boolean.valueOf(Integer.valueOf(value2).intValue() <= Integer.valueOf(value1).intValue()).toString();
+            return String.valueOf(Integer.parseInt(value2) <= Integer.parseInt(value1));
         } else if (operator.equals("gt")) {
-            return Boolean.valueOf(Integer.valueOf(value2).intValue() > Integer.valueOf(value1).intValue()).toString();
+            return String.valueOf(Integer.parseInt(value2) > Integer.parseInt(value1));
         } else if (operator.equals("gt=")) {
-            return Boolean.valueOf(Integer.valueOf(value2).intValue() >= Integer.valueOf(value1).intValue()).toString();
+            return String.valueOf(Integer.parseInt(value2) >= Integer.parseInt(value1));
         } else if (operator.equals("=")) {
-            return Boolean.valueOf(Integer.valueOf(value2).intValue() == Integer.valueOf(value1).intValue()).toString();
+            return String.valueOf(Integer.parseInt(value2) == Integer.parseInt(value1));
         } else if (operator.equals("and")) {
-            return Boolean.valueOf(Boolean.valueOf(value2).booleanValue() && Boolean.valueOf(value1).booleanValue()).toString();
+            return String.valueOf(Boolean.valueOf(value2) && Boolean.valueOf(value1));
         } else if (operator.equals("or")) {
-            return Boolean.valueOf(Boolean.valueOf(value2).booleanValue() || Boolean.valueOf(value1).booleanValue()).toString();
+            return String.valueOf(Boolean.valueOf(value2) || Boolean.valueOf(value1));
         } else {
             throw new CitrusRuntimeException("Unknown operator '" + operator + "'");
         }
     }
+
+    /**
+     * Compiled boolean expression. Evaluation resolves variable slots with given values and
+     * does not parse the expression string again. Compiled expressions are immutable and thread safe.
+     */
+    public static final class CompiledExpression {
+        /** Original expression string */
+        private final String expression;
+
+        /** Expression tree root */
+        private final Node root;
+
+        private CompiledExpression(String expression, Node root) {
+            this.expression = expression;
+            this.root = root;
+        }
+
+        /**
+         * Evaluates expression with variable values in order of variable names given on compilation.
+         * @param variableValues
+         * @return
+         */
+        public boolean evaluate(String ... variableValues) {
+            String value = root.evaluate(variableValues);
+
+            boolean result;
+            if (value.equals("0")) {
+                result = false;
+            } else if (value.equals("1")) {
+                result = true;
+            } else {
+                result = Boolean.valueOf(value);
+            }
+
+            if (log.isDebugEnabled()) {
+                log.debug("Boolean expression " + expression + " evaluates to " + result);
+            }
+
+            return result;
+        }
+
+        /**
+         * Gets the expression string.
+         * @return
+         */
+        public String getExpression() {
+            return expression;
+        }
+    }
+
+    /**
+     * Expression tree node evaluating to String representation.
+     */
+    private interface Node {
+        String evaluate(String[] variableValues);
+    }
+
+    /**
+     * Constant value node.
+     */
+    private static final class ValueNode implements Node {
+        private final String value;
+
+        ValueNode(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String evaluate(String[] variableValues) {
+            return value;
+        }
+    }
+
+    /**
+     * Variable slot node resolved with values given on evaluation.
+     */
+    private static final class VariableNode implements Node {
+        private final int slot;
+
+        VariableNode(int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        public String evaluate(String[] variableValues) {
+            if (slot >= variableValues.length) {
+                throw new CitrusRuntimeException("Missing value for variable slot " + slot + " in boolean expression");
+            }
+
+            return variableValues[slot];
+        }
+    }
+
+    /**
+     * Binary operation node.
+     */
+    private static final class OperationNode implements Node {
+        private final String operator;
+        private final Node left;
+        private final Node right;
+
+        OperationNode(String operator, Node left, Node right) {
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public String evaluate(String[] variableValues) {
+            return getBooleanResultAsString(operator, right.evaluate(variableValues), left.evaluate(variableValues));
+        }
+    }
 }
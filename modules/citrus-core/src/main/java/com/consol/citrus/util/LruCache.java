@@ -0,0 +1,165 @@
+/*
+ * Copyright 2006-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.util;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread safe bounded cache evicting least recently used entries when maximum size is reached. Optionally cache is
+ * bounded by overall weight of entries, too, where subclasses define the weight of an entry. Cache keeps track
+ * of hit and miss statistics.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7
+ */
+public class LruCache<K, V> {
+
+    /** Cached entries in access order */
+    private final Map<K, V> entries = new LinkedHashMap<K, V>(16, 0.75f, true);
+
+    /** Maximum number of entries and maximum overall weight */
+    private final int maxSize;
+    private final long maxWeight;
+
+    /** Current overall weight of entries */
+    private long weight;
+
+    /** Statistics */
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Constructor using maximum number of cached entries.
+     * @param maxSize
+     */
+    public LruCache(int maxSize) {
+        this(maxSize, Long.MAX_VALUE);
+    }
+
+    /**
+     * Constructor using maximum number of cached entries and maximum overall weight of cached entries.
+     * @param maxSize
+     * @param maxWeight
+     */
+    public LruCache(int maxSize, long maxWeight) {
+        this.maxSize = maxSize;
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * Gets the weight of a cache entry. Default weight of each entry is zero so only the number of entries
+     * bounds the cache.
+     * @param key
+     * @param value
+     * @return
+     */
+    protected long weigh(K key, V value) {
+        return 0L;
+    }
+
+    /**
+     * Gets cached value for key or null when not present.
+     * @param key
+     * @return
+     */
+    public V get(K key) {
+        V value;
+        synchronized (entries) {
+            value = entries.get(key);
+        }
+
+        if (value != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+
+        return value;
+    }
+
+    /**
+     * Adds value to cache.
+     * @param key
+     * @param value
+     */
+    public void put(K key, V value) {
+        synchronized (entries) {
+            V previous = entries.put(key, value);
+            if (previous != null) {
+                weight -= weigh(key, previous);
+            }
+            weight += weigh(key, value);
+
+            Iterator<Map.Entry<K, V>> eldest = entries.entrySet().iterator();
+            while ((entries.size() > maxSize || weight > maxWeight) && eldest.hasNext()) {
+                Map.Entry<K, V> entry = eldest.next();
+                weight -= weigh(entry.getKey(), entry.getValue());
+                eldest.remove();
+            }
+        }
+    }
+
+    /**
+     * Removes all cached entries and resets statistics.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            weight = 0L;
+        }
+
+        hits.set(0L);
+        misses.set(0L);
+    }
+
+    /**
+     * Gets the number of cached entries.
+     * @return
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Gets the overall weight of cached entries.
+     * @return
+     */
+    public long getWeight() {
+        synchronized (entries) {
+            return weight;
+        }
+    }
+
+    /**
+     * Gets the number of cache hits.
+     * @return
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of cache misses.
+     * @return
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2006-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.util;
+
+import net.minidev.json.parser.JSONParser;
+import net.minidev.json.parser.ParseException;
+import org.w3c.dom.Document;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache of parsed message payload representations shared by validators and variable extractors while a received
+ * message is processed. Cache scope is bound to the current thread and started by the receiving test action so all
+ * validators working on the same payload share one XML document, namespace map and JSON object tree.
+ *
+ * Cached representations must be treated as read only. Callers that need to modify the parsed document have to work on
+ * a copy. Outside of an active scope payloads are parsed on each call as usual.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7
+ */
+public final class ParsedPayloadCache {
+
+    /** Active cache scope in current thread */
+    private static final ThreadLocal<ParsedPayloadCache> ACTIVE_SCOPE = new ThreadLocal<>();
+
+    /** Parsed representations by payload */
+    private final Map<String, Document> documents = new HashMap<>();
+    private final Map<String, Map<String, String>> namespaces = new HashMap<>();
+    private final Map<String, Object> jsonObjects = new HashMap<>();
+
+    /**
+     * Prevent instantiation.
+     */
+    private ParsedPayloadCache() {
+    }
+
+    /**
+     * Starts new cache scope in current thread. Returns false in case a scope is already active so
+     * only the caller that started the scope ends it.
+     * @return
+     */
+    public static boolean begin() {
+        if (ACTIVE_SCOPE.get() != null) {
+            return false;
+        }
+
+        ACTIVE_SCOPE.set(new ParsedPayloadCache());
+        return true;
+    }
+
+    /**
+     * Ends cache scope in current thread releasing all cached representations.
+     */
+    public static void end() {
+        ACTIVE_SCOPE.remove();
+    }
+
+    /**
+     * Checks if cache scope is active in current thread.
+     * @return
+     */
+    public static boolean isActive() {
+        return ACTIVE_SCOPE.get() != null;
+    }
+
+    /**
+     * Gets parsed XML document for payload. Document must not be modified.
+     * @param payload
+     * @return
+     */
+    public static Document getDocument(String payload) {
+        ParsedPayloadCache cache = ACTIVE_SCOPE.get();
+        if (cache == null) {
+            return XMLUtils.parseMessagePayload(payload);
+        }
+
+        Document document = cache.documents.get(payload);
+        if (document == null) {
+            document = XMLUtils.parseMessagePayload(payload);
+            cache.documents.put(payload, document);
+        }
+
+        return document;
+    }
+
+    /**
+     * Gets copy of parsed XML document for payload that can be modified by caller.
+     * @param payload
+     * @return
+     */
+    public static Document getDocumentCopy(String payload) {
+        if (!isActive()) {
+            return XMLUtils.parseMessagePayload(payload);
+        }
+
+        return (Document) getDocument(payload).cloneNode(true);
+    }
+
+    /**
+     * Gets namespace declarations in payload root element.
+     * @param payload
+     * @return
+     */
+    public static Map<String, String> getNamespaces(String payload) {
+        ParsedPayloadCache cache = ACTIVE_SCOPE.get();
+        if (cache == null) {
+            return XMLUtils.lookupNamespaces(payload);
+        }
+
+        Map<String, String> found = cache.namespaces.get(payload);
+        if (found == null) {
+            found = XMLUtils.lookupNamespaces(payload);
+            cache.namespaces.put(payload, found);
+        }
+
+        return new HashMap<>(found);
+    }
+
+    /**
+     * Gets parsed JSON object tree for payload. Object tree must not be modified.
+     * @param payload
+     * @return
+     * @throws ParseException
+     */
+    public static Object getJson(String payload) throws ParseException {
+        ParsedPayloadCache cache = ACTIVE_SCOPE.get();
+        if (cache == null) {
+            return new JSONParser(JSONParser.MODE_JSON_SIMPLE).parse(payload);
+        }
+
+        Object json = cache.jsonObjects.get(payload);
+        if (json == null) {
+            json = new JSONParser(JSONParser.MODE_JSON_SIMPLE).parse(payload);
+            cache.jsonObjects.put(payload, json);
+        }
+
+        return json;
+    }
+}
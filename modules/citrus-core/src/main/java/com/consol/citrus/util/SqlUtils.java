@@ -22,8 +22,10 @@ import org.slf4j.LoggerFactory;
 import org.springframework.core.io.Resource;
 
 import java.io.*;
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Pattern;
 
 /**
  * @author Christoph Deppisch
@@ -40,6 +42,12 @@ public abstract class SqlUtils {
     /** Default sql statement ending */
     public static final String STMT_ENDING = ";";
 
+    /** Data manipulation statements that support bind parameters */
+    private static final Pattern DML_STATEMENT = Pattern.compile("(?is)^\\s*(INSERT|UPDATE|DELETE|MERGE)\\b.*");
+
+    /** Characters after which literal values are converted to bind parameters */
+    private static final String BIND_PREFIX_CHARACTERS = "(,=<>+-*/";
+
     /**
      * Prevent instantiation.
      */
@@ -124,6 +132,112 @@ public abstract class SqlUtils {
         return stmts;
     }
 
+    /**
+     * Converts literal string and number values in data manipulation statement (INSERT, UPDATE, DELETE, MERGE) to
+     * bind parameters. Statements with same structure result in the same SQL so they can be executed as prepared
+     * statement batch. Literals are only converted when following an opening bracket, a comma, a comparison or an
+     * arithmetic operator. Typed literals such as DATE '2016-01-01' are left untouched. The target column type of a
+     * converted literal is not known here, callers should bind values with the type given in the prepared statement
+     * parameter meta data.
+     *
+     * @param stmt the SQL statement with literal values.
+     * @return the bind statement or null if statement is no data manipulation statement or already uses bind parameters.
+     */
+    public static BindStatement createBindStatement(String stmt) {
+        if (!DML_STATEMENT.matcher(stmt).matches()) {
+            return null;
+        }
+
+        StringBuilder sql = new StringBuilder(stmt.length());
+        List<Object> parameters = new ArrayList<>();
+
+        int i = 0;
+        while (i < stmt.length()) {
+            char actChar = stmt.charAt(i);
+
+            if (actChar == '?') {
+                return null;
+            } else if (actChar == '"') {
+                int end = stmt.indexOf('"', i + 1);
+                end = end < 0 ? stmt.length() : end + 1;
+                sql.append(stmt, i, end);
+                i = end;
+            } else if (stmt.startsWith(SQL_COMMENT, i)) {
+                int end = stmt.indexOf('\n', i);
+                end = end < 0 ? stmt.length() : end;
+                sql.append(stmt, i, end);
+                i = end;
+            } else if (actChar == '\'') {
+                StringBuilder value = new StringBuilder();
+                int end = i + 1;
+                while (end < stmt.length()) {
+                    if (stmt.charAt(end) == '\'') {
+                        if (end + 1 < stmt.length() && stmt.charAt(end + 1) == '\'') {
+                            value.append('\'');
+                            end += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    value.append(stmt.charAt(end++));
+                }
+
+                if (end >= stmt.length()) {
+                    return null;
+                }
+
+                if (isBindPosition(sql)) {
+                    sql.append('?');
+                    parameters.add(value.toString());
+                } else {
+                    sql.append(stmt, i, end + 1);
+                }
+                i = end + 1;
+            } else if (Character.isDigit(actChar) && isBindPosition(sql)) {
+                int end = i;
+                while (end < stmt.length() && (Character.isDigit(stmt.charAt(end)) || stmt.charAt(end) == '.')) {
+                    end++;
+                }
+
+                String number = stmt.substring(i, end);
+                if ((end < stmt.length() && isIdentifierPart(stmt.charAt(end))) || number.endsWith(".") || number.indexOf('.') != number.lastIndexOf('.')) {
+                    sql.append(number);
+                } else {
+                    sql.append('?');
+                    parameters.add(number.indexOf('.') < 0 && number.length() < 19 ? (Object) Long.valueOf(number) : new BigDecimal(number));
+                }
+                i = end;
+            } else {
+                sql.append(actChar);
+                i++;
+            }
+        }
+
+        return new BindStatement(sql.toString(), parameters.toArray());
+    }
+
+    /**
+     * Checks if literal value at current end of SQL buffer should be converted to bind parameter.
+     * @param sql
+     * @return
+     */
+    private static boolean isBindPosition(StringBuilder sql) {
+        int i = sql.length() - 1;
+        if (i >= 0 && isIdentifierPart(sql.charAt(i))) {
+            return false;
+        }
+
+        while (i >= 0 && Character.isWhitespace(sql.charAt(i))) {
+            i--;
+        }
+
+        return i >= 0 && BIND_PREFIX_CHARACTERS.indexOf(sql.charAt(i)) >= 0;
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '.' || c == ':' || c == '@' || c == '#';
+    }
+
     /**
      * Gets the SQL statement ending character sequence.
      *
@@ -155,4 +269,33 @@ public abstract class SqlUtils {
          */
         String getStatementEndingCharacter();
     }
+
+    /**
+     * SQL statement with bind parameter placeholders and parameter values in order of appearance.
+     */
+    public static final class BindStatement {
+        private final String sql;
+        private final Object[] parameters;
+
+        BindStatement(String sql, Object[] parameters) {
+            this.sql = sql;
+            this.parameters = parameters;
+        }
+
+        /**
+         * Gets the SQL with bind parameter placeholders.
+         * @return
+         */
+        public String getSql() {
+            return sql;
+        }
+
+        /**
+         * Gets the bind parameter values.
+         * @return
+         */
+        public Object[] getParameters() {
+            return parameters;
+        }
+    }
 }
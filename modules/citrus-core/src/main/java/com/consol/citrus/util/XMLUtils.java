@@ -54,6 +54,14 @@ public final class XMLUtils {
     private static DOMImplementationRegistry registry = null;
     private static DOMImplementationLS domImpl = null;
 
+    /** Message payload parser per thread as parser instances are not thread safe */
+    private static final ThreadLocal<LSParser> messagePayloadParser = new ThreadLocal<LSParser>() {
+        @Override
+        protected LSParser initialValue() {
+            return createMessagePayloadParser();
+        }
+    };
+
     static {
         try {
             registry = DOMImplementationRegistry.newInstance();
@@ -373,16 +381,17 @@ public final class XMLUtils {
     }
 
     /**
-     * Parse message payload with DOM implementation.
+     * Parse message payload with DOM implementation. Parser instance is reused
+     * within the current thread.
      * @param messagePayload
      * @throws CitrusRuntimeException
      * @return DOM document.
      */
     public static Document parseMessagePayload(String messagePayload) {
-        LSParser parser = createLSParser();
-        setParserConfigParameter(parser, VALIDATE_IF_SCHEMA, true);
-        setParserConfigParameter(parser, RESOURCE_RESOLVER, new LSResolverImpl(domImpl));
-        setParserConfigParameter(parser, ELEMENT_CONTENT_WHITESPACE, false);
+        LSParser parser = messagePayloadParser.get();
+        if (parser.getBusy()) {
+            parser = createMessagePayloadParser();
+        }
 
         LSInput receivedInput = createLSInput();
         try {
@@ -396,6 +405,19 @@ public final class XMLUtils {
         return parser.parse(receivedInput);
     }
 
+    /**
+     * Creates parser instance configured for parsing message payloads.
+     * @return
+     */
+    private static LSParser createMessagePayloadParser() {
+        LSParser parser = createLSParser();
+        setParserConfigParameter(parser, VALIDATE_IF_SCHEMA, true);
+        setParserConfigParameter(parser, RESOURCE_RESOLVER, new LSResolverImpl(domImpl));
+        setParserConfigParameter(parser, ELEMENT_CONTENT_WHITESPACE, false);
+
+        return parser;
+    }
+
     /**
      * Try to find encoding for document node. Also supports Citrus default encoding set
      * as System property.
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2006-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.json;
+
+import java.util.*;
+
+/**
+ * Path matching automaton compiled from a set of JsonPath expressions. Matcher is used while streaming through a
+ * JSON document in order to decide whether the current document path is matched by one of the expressions.
+ *
+ * Only the basic JsonPath syntax is supported: root element, child names in dot and bracket notation, array indexes,
+ * wildcards and deep scan. Expressions using filters, slices, unions or functions can not be compiled.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7
+ */
+public final class JsonPathMatcher {
+
+    /** Compiled expression steps */
+    private final List<List<Step>> expressions;
+
+    /** State offset of each expression */
+    private final int[] offsets;
+
+    /** Overall number of states */
+    private final int stateCount;
+
+    /**
+     * Constructor using compiled expression steps.
+     * @param expressions
+     */
+    private JsonPathMatcher(List<List<Step>> expressions) {
+        this.expressions = expressions;
+        this.offsets = new int[expressions.size()];
+
+        int offset = 0;
+        for (int i = 0; i < expressions.size(); i++) {
+            offsets[i] = offset;
+            offset += expressions.get(i).size() + 1;
+        }
+
+        this.stateCount = offset;
+    }
+
+    /**
+     * Compiles given JsonPath expressions to path matcher. Returns null in case one of the expressions
+     * uses syntax that is not supported by the path matcher.
+     * @param jsonPathExpressions
+     * @return
+     */
+    public static JsonPathMatcher compile(Collection<String> jsonPathExpressions) {
+        List<List<Step>> expressions = new ArrayList<List<Step>>();
+
+        for (String jsonPathExpression : jsonPathExpressions) {
+            List<Step> steps = parse(jsonPathExpression.trim());
+            if (steps == null) {
+                return null;
+            }
+
+            expressions.add(steps);
+        }
+
+        return new JsonPathMatcher(expressions);
+    }
+
+    /**
+     * Gets the initial states representing the document root.
+     * @return
+     */
+    public BitSet start() {
+        BitSet states = new BitSet(stateCount);
+        for (int i = 0; i < expressions.size(); i++) {
+            states.set(offsets[i]);
+        }
+
+        return states;
+    }
+
+    /**
+     * Computes next states when descending into child with given field name or array index. Field name is null
+     * for array elements.
+     * @param states
+     * @param fieldName
+     * @param index
+     * @return
+     */
+    public BitSet next(BitSet states, String fieldName, int index) {
+        BitSet next = new BitSet(stateCount);
+
+        for (int i = 0; i < expressions.size(); i++) {
+            List<Step> steps = expressions.get(i);
+            for (int k = 0; k < steps.size(); k++) {
+                if (!states.get(offsets[i] + k)) {
+                    continue;
+                }
+
+                Step step = steps.get(k);
+                if (step.deep) {
+                    next.set(offsets[i] + k);
+                }
+
+                if (step.matches(fieldName, index)) {
+                    next.set(offsets[i] + k + 1);
+                }
+            }
+        }
+
+        return next;
+    }
+
+    /**
+     * Checks if one of the expressions has been matched completely.
+     * @param states
+     * @return
+     */
+    public boolean isMatch(BitSet states) {
+        for (int i = 0; i < expressions.size(); i++) {
+            if (states.get(offsets[i] + expressions.get(i).size())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Parses JsonPath expression to list of steps.
+     * @param expression
+     * @return
+     */
+    private static List<Step> parse(String expression) {
+        if (!expression.startsWith("$")) {
+            return null;
+        }
+
+        List<Step> steps = new ArrayList<Step>();
+        int pos = 1;
+        while (pos < expression.length()) {
+            char current = expression.charAt(pos);
+
+            if (current == '.') {
+                boolean deep = expression.startsWith("..", pos);
+                pos += deep ? 2 : 1;
+
+                int end = pos;
+                while (end < expression.length() && expression.charAt(end) != '.' && expression.charAt(end) != '[') {
+                    end++;
+                }
+
+                String name = expression.substring(pos, end);
+                if (name.length() == 0 || name.contains("(")) {
+                    return null;
+                }
+
+                steps.add(name.equals("*") ? new Step(null, -1, true, deep) : new Step(name, -1, false, deep));
+                pos = end;
+            } else if (current == '[') {
+                int end = expression.indexOf(']', pos);
+                if (end < 0) {
+                    return null;
+                }
+
+                String selector = expression.substring(pos + 1, end).trim();
+                if (selector.equals("*")) {
+                    steps.add(new Step(null, -1, true, false));
+                } else if (selector.length() > 1 && (selector.startsWith("'") && selector.endsWith("'") ||
+                        selector.startsWith("\"") && selector.endsWith("\""))) {
+                    steps.add(new Step(selector.substring(1, selector.length() - 1), -1, false, false));
+                } else if (selector.matches("\\d+")) {
+                    steps.add(new Step(null, Integer.valueOf(selector), false, false));
+                } else {
+                    return null;
+                }
+
+                pos = end + 1;
+            } else {
+                return null;
+            }
+        }
+
+        return steps;
+    }
+
+    /**
+     * Single path step matching field names or array indexes.
+     */
+    private static final class Step {
+        private final String name;
+        private final int index;
+        private final boolean wildcard;
+        private final boolean deep;
+
+        Step(String name, int index, boolean wildcard, boolean deep) {
+            this.name = name;
+            this.index = index;
+            this.wildcard = wildcard;
+            this.deep = deep;
+        }
+
+        boolean matches(String fieldName, int elementIndex) {
+            if (wildcard) {
+                return true;
+            }
+
+            if (name != null) {
+                return name.equals(fieldName);
+            }
+
+            return fieldName == null && index == elementIndex;
+        }
+    }
+}
@@ -19,10 +19,10 @@ package com.consol.citrus.validation.json;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.*;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.util.ParsedPayloadCache;
 import com.consol.citrus.variable.VariableExtractor;
 import com.jayway.jsonpath.*;
 import net.minidev.json.JSONArray;
-import net.minidev.json.parser.JSONParser;
 import net.minidev.json.parser.ParseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -64,8 +64,7 @@ public class JsonPathVariableExtractor implements VariableExtractor {
                     log.debug("Evaluating JSONPath expression: " + jsonPathExpression);
                 }
 
-                JSONParser parser = new JSONParser(JSONParser.MODE_JSON_SIMPLE);
-                Object receivedJson = parser.parse(message.getPayload(String.class));
+                Object receivedJson = ParsedPayloadCache.getJson(message.getPayload(String.class));
                 ReadContext readerContext = JsonPath.parse(receivedJson);
                 String value;
 
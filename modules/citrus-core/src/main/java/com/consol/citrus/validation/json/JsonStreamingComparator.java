@@ -0,0 +1,412 @@
+/*
+ * Copyright 2006-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.json;
+
+import com.consol.citrus.Citrus;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.validation.ValidationUtils;
+import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
+import com.fasterxml.jackson.core.*;
+import net.minidev.json.JSONArray;
+import net.minidev.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+
+/**
+ * Compares received JSON text with control JSON object while streaming through the received document token by token.
+ * Received document is never built as a whole so memory usage does not grow with received document size. Only values
+ * that need to be evaluated with validation matchers are read as partial tree.
+ *
+ * Ignored entries are identified by compiled JsonPath matcher on the current document path.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7
+ */
+public class JsonStreamingComparator {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(JsonStreamingComparator.class);
+
+    /** Maximum number of digits for floating point numbers represented as double */
+    private static final int MAX_DOUBLE_DIGITS = 18;
+
+    /** Factory creating streaming parsers */
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    /** Should also check exact amount of object fields */
+    private final boolean strict;
+
+    /**
+     * Constructor using strict mode setting.
+     * @param strict
+     */
+    public JsonStreamingComparator(boolean strict) {
+        this.strict = strict;
+    }
+
+    /**
+     * Validates received JSON text with control JSON object or array.
+     * @param receivedJsonText
+     * @param controlJson
+     * @param ignoreMatcher
+     * @param context
+     */
+    public void validate(String receivedJsonText, Object controlJson, JsonPathMatcher ignoreMatcher, TestContext context) {
+        try (JsonParser parser = jsonFactory.createParser(receivedJsonText)) {
+            JsonToken token = parser.nextToken();
+            BitSet states = ignoreMatcher.start();
+
+            if (controlJson instanceof JSONObject) {
+                Assert.isTrue(token == JsonToken.START_OBJECT,
+                        ValidationUtils.buildValueMismatchErrorMessage("Type mismatch for JSON root element",
+                                JSONObject.class.getSimpleName(), getTypeName(parser, token)));
+                validateObject(parser, (JSONObject) controlJson, states, ignoreMatcher, context);
+            } else if (controlJson instanceof JSONArray) {
+                Assert.isTrue(token == JsonToken.START_ARRAY,
+                        ValidationUtils.buildValueMismatchErrorMessage("Type mismatch for JSON root element",
+                                JSONArray.class.getSimpleName(), getTypeName(parser, token)));
+                validateArray(parser, "array", (JSONArray) controlJson, states, ignoreMatcher, context);
+            } else {
+                throw new CitrusRuntimeException("Unsupported json type " + (controlJson != null ? controlJson.getClass() : null));
+            }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to parse JSON text", e);
+        }
+    }
+
+    /**
+     * Validates JSON object fields as they are read from parser. Parser is positioned on object start token.
+     * @param parser
+     * @param controlJson
+     * @param states
+     * @param ignoreMatcher
+     * @param context
+     * @throws IOException
+     */
+    private void validateObject(JsonParser parser, JSONObject controlJson, BitSet states,
+                                JsonPathMatcher ignoreMatcher, TestContext context) throws IOException {
+        Set<String> receivedKeys = new HashSet<String>();
+        int receivedCount = 0;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String key = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            receivedCount++;
+
+            if (!controlJson.containsKey(key)) {
+                parser.skipChildren();
+                continue;
+            }
+
+            receivedKeys.add(key);
+            validateValue(parser, valueToken, key, controlJson.get(key), ignoreMatcher.next(states, key, -1), ignoreMatcher, context);
+        }
+
+        if (strict) {
+            Assert.isTrue(controlJson.size() == receivedCount,
+                    ValidationUtils.buildValueMismatchErrorMessage("Number of JSON entries not equal", controlJson.size(), receivedCount));
+        }
+
+        for (String controlKey : controlJson.keySet()) {
+            Assert.isTrue(receivedKeys.contains(controlKey),
+                    "Missing JSON entry: + '" + controlKey + "'");
+        }
+    }
+
+    /**
+     * Validates single JSON entry value. Parser is positioned on value token.
+     * @param parser
+     * @param token
+     * @param controlKey
+     * @param controlValue
+     * @param states
+     * @param ignoreMatcher
+     * @param context
+     * @throws IOException
+     */
+    private void validateValue(JsonParser parser, JsonToken token, String controlKey, Object controlValue, BitSet states,
+                               JsonPathMatcher ignoreMatcher, TestContext context) throws IOException {
+        if (controlValue == null) {
+            Object receivedValue = readValue(parser, token);
+            Assert.isTrue(receivedValue == null,
+                    ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + controlKey + "'",
+                            null, receivedValue));
+            return;
+        }
+
+        if (isIgnored(controlKey, controlValue, states, ignoreMatcher)) {
+            parser.skipChildren();
+            return;
+        }
+
+        Assert.isTrue(token != JsonToken.VALUE_NULL, ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + controlKey + "'",
+                controlValue, null));
+
+        if (ValidationMatcherUtils.isValidationMatcherExpression(controlValue.toString())) {
+            ValidationMatcherUtils.resolveValidationMatcher(controlKey,
+                    readValue(parser, token).toString(),
+                    controlValue.toString(), context);
+        } else if (controlValue instanceof JSONObject) {
+            Assert.isTrue(token == JsonToken.START_OBJECT,
+                    ValidationUtils.buildValueMismatchErrorMessage("Type mismatch for JSON entry '" + controlKey + "'",
+                            JSONObject.class.getSimpleName(), getTypeName(parser, token)));
+
+            validateObject(parser, (JSONObject) controlValue, states, ignoreMatcher, context);
+        } else if (controlValue instanceof JSONArray) {
+            Assert.isTrue(token == JsonToken.START_ARRAY,
+                    ValidationUtils.buildValueMismatchErrorMessage("Type mismatch for JSON entry '" + controlKey + "'",
+                            JSONArray.class.getSimpleName(), getTypeName(parser, token)));
+
+            validateArray(parser, controlKey, (JSONArray) controlValue, states, ignoreMatcher, context);
+        } else {
+            Object receivedValue = readValue(parser, token);
+            Assert.isTrue(valuesEqual(controlValue, receivedValue),
+                    ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + controlKey + "'",
+                            controlValue, receivedValue));
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Validation successful for JSON entry '" + controlKey + "' (" + controlValue + ")");
+        }
+    }
+
+    /**
+     * Validates JSON array elements in order as they are read from parser. Parser is positioned on array start token.
+     * @param parser
+     * @param controlKey
+     * @param controlArray
+     * @param states
+     * @param ignoreMatcher
+     * @param context
+     * @throws IOException
+     */
+    private void validateArray(JsonParser parser, String controlKey, JSONArray controlArray, BitSet states,
+                               JsonPathMatcher ignoreMatcher, TestContext context) throws IOException {
+        if (log.isDebugEnabled()) {
+            log.debug("Validating JSONArray containing " + controlArray.size() + " entries");
+        }
+
+        int index = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            BitSet elementStates = ignoreMatcher.next(states, null, index);
+
+            if (index >= controlArray.size() || ignoreMatcher.isMatch(elementStates)) {
+                parser.skipChildren();
+                index++;
+                continue;
+            }
+
+            Object controlElement = controlArray.get(index);
+            if (controlElement instanceof JSONObject) {
+                Assert.isTrue(token == JsonToken.START_OBJECT,
+                        ValidationUtils.buildValueMismatchErrorMessage("Value types not equal for entry: '" + controlElement + "'",
+                                JSONObject.class.getName(), getTypeName(parser, token)));
+
+                validateObject(parser, (JSONObject) controlElement, elementStates, ignoreMatcher, context);
+            } else {
+                Object receivedElement = readValue(parser, token);
+                Assert.isTrue(valuesEqual(controlElement, receivedElement),
+                        ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + controlElement + "'",
+                                controlElement, receivedElement));
+            }
+
+            index++;
+        }
+
+        if (strict) {
+            Assert.isTrue(controlArray.size() == index,
+                    ValidationUtils.buildValueMismatchErrorMessage("JSONArray size mismatch for JSON entry '" + controlKey + "'",
+                            controlArray.size(), index));
+        } else {
+            Assert.isTrue(index >= controlArray.size(),
+                    ValidationUtils.buildValueMismatchErrorMessage("JSONArray size mismatch for JSON entry '" + controlKey + "'",
+                            controlArray.size(), index));
+        }
+    }
+
+    /**
+     * Checks if entry is ignored by placeholder or by ignore expression matching the current path.
+     * @param controlKey
+     * @param controlValue
+     * @param states
+     * @param ignoreMatcher
+     * @return
+     */
+    private boolean isIgnored(String controlKey, Object controlValue, BitSet states, JsonPathMatcher ignoreMatcher) {
+        if (controlValue.toString().trim().equals(Citrus.IGNORE_PLACEHOLDER)) {
+            if (log.isDebugEnabled()) {
+                log.debug("JSON entry: '" + controlKey + "' is ignored by placeholder '" +
+                        Citrus.IGNORE_PLACEHOLDER + "'");
+            }
+            return true;
+        }
+
+        if (ignoreMatcher.isMatch(states)) {
+            if (log.isDebugEnabled()) {
+                log.debug("JSON entry: '" + controlKey + "' is ignored - skip value validation");
+            }
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Reads current value from parser. Objects and arrays are read as partial tree.
+     * @param parser
+     * @param token
+     * @return
+     * @throws IOException
+     */
+    private Object readValue(JsonParser parser, JsonToken token) throws IOException {
+        switch (token) {
+            case START_OBJECT:
+                JSONObject object = new JSONObject();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String key = parser.getCurrentName();
+                    object.put(key, readValue(parser, parser.nextToken()));
+                }
+                return object;
+            case START_ARRAY:
+                JSONArray array = new JSONArray();
+                JsonToken elementToken;
+                while ((elementToken = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    array.add(readValue(parser, elementToken));
+                }
+                return array;
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+                if (parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+                    return parser.getBigIntegerValue();
+                }
+                return parser.getLongValue();
+            case VALUE_NUMBER_FLOAT:
+                String number = parser.getText();
+                if (number.length() > MAX_DOUBLE_DIGITS) {
+                    return new BigDecimal(number);
+                }
+                return Double.valueOf(number);
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_NULL:
+                return null;
+            default:
+                throw new CitrusRuntimeException("Unexpected JSON token " + token);
+        }
+    }
+
+    /**
+     * Gets type name of current value for error messages.
+     * @param parser
+     * @param token
+     * @return
+     * @throws IOException
+     */
+    private String getTypeName(JsonParser parser, JsonToken token) throws IOException {
+        if (token == null) {
+            return "null";
+        } else if (token == JsonToken.START_OBJECT) {
+            return JSONObject.class.getSimpleName();
+        } else if (token == JsonToken.START_ARRAY) {
+            return JSONArray.class.getSimpleName();
+        }
+
+        Object value = readValue(parser, token);
+        return value != null ? value.getClass().getSimpleName() : "null";
+    }
+
+    /**
+     * Compares control and received values. Integral and floating point numbers are compared by numeric value
+     * within their kind.
+     * @param controlValue
+     * @param receivedValue
+     * @return
+     */
+    private boolean valuesEqual(Object controlValue, Object receivedValue) {
+        if (controlValue == null || receivedValue == null) {
+            return controlValue == receivedValue;
+        }
+
+        if (controlValue instanceof Number && receivedValue instanceof Number) {
+            boolean controlIntegral = isIntegral((Number) controlValue);
+            if (controlIntegral != isIntegral((Number) receivedValue)) {
+                return false;
+            }
+
+            if (controlIntegral) {
+                return new BigInteger(controlValue.toString()).equals(new BigInteger(receivedValue.toString()));
+            } else {
+                return new BigDecimal(controlValue.toString()).compareTo(new BigDecimal(receivedValue.toString())) == 0;
+            }
+        }
+
+        if (controlValue instanceof List && receivedValue instanceof List) {
+            List<?> controlList = (List<?>) controlValue;
+            List<?> receivedList = (List<?>) receivedValue;
+            if (controlList.size() != receivedList.size()) {
+                return false;
+            }
+
+            for (int i = 0; i < controlList.size(); i++) {
+                if (!valuesEqual(controlList.get(i), receivedList.get(i))) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        if (controlValue instanceof Map && receivedValue instanceof Map) {
+            Map<?, ?> controlMap = (Map<?, ?>) controlValue;
+            Map<?, ?> receivedMap = (Map<?, ?>) receivedValue;
+            if (!controlMap.keySet().equals(receivedMap.keySet())) {
+                return false;
+            }
+
+            for (Map.Entry<?, ?> entry : controlMap.entrySet()) {
+                if (!valuesEqual(entry.getValue(), receivedMap.get(entry.getKey()))) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        return controlValue.equals(receivedValue);
+    }
+
+    /**
+     * Checks for integral number types.
+     * @param number
+     * @return
+     */
+    private boolean isIntegral(Number number) {
+        return number instanceof Long || number instanceof Integer || number instanceof Short ||
+                number instanceof Byte || number instanceof BigInteger;
+    }
+}
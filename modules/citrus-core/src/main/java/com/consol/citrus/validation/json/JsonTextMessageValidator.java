@@ -22,6 +22,7 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageType;
+import com.consol.citrus.util.ParsedPayloadCache;
 import com.consol.citrus.validation.AbstractMessageValidator;
 import com.consol.citrus.validation.ValidationUtils;
 import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
@@ -46,6 +47,10 @@ import java.util.Set;
  * Validator offers two different modes to operate. By default strict mode is set and the validator will also check the exact amount of
  * control object fields to match. No additional fields in received JSON data structure will be accepted. In soft mode validator
  * allows additional fields in received JSON data structure so the control JSON object can be a partial subset.
+ *
+ * In streaming mode the received JSON text is not parsed to a complete object tree but compared token by token with the
+ * control JSON object. Streaming mode falls back to tree validation when ignore expressions use JsonPath syntax that is not
+ * supported by the streaming path matcher.
  * 
  * @author Christoph Deppisch
  */
@@ -54,6 +59,9 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
     /** Should also check exact amount of object fields */
     private boolean strict = true;
 
+    /** Should stream received JSON text instead of parsing complete object tree */
+    private boolean streaming = false;
+
     @Override
     @SuppressWarnings("unchecked")
     public void validateMessagePayload(Message receivedMessage, Message controlMessage,
@@ -78,10 +86,21 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
             }
             
             JSONParser parser = new JSONParser(JSONParser.MODE_JSON_SIMPLE);
+            Object controlJson = parser.parse(controlJsonText);
+
+            if (streaming) {
+                JsonPathMatcher ignoreMatcher = JsonPathMatcher.compile(validationContext.getIgnoreExpressions());
+                if (ignoreMatcher != null) {
+                    new JsonStreamingComparator(strict).validate(receivedJsonText, controlJson, ignoreMatcher, context);
+                    log.info("JSON message validation successful: All values OK");
+                    return;
+                }
+
+                log.debug("Ignore expressions not supported in streaming mode - using tree validation");
+            }
         
-            Object receivedJson = parser.parse(receivedJsonText);
+            Object receivedJson = ParsedPayloadCache.getJson(receivedJsonText);
             ReadContext readContext = JsonPath.parse(receivedJson);
-            Object controlJson = parser.parse(controlJsonText);
             if (receivedJson instanceof JSONObject) {
                 validateJson((JSONObject) receivedJson, (JSONObject) controlJson, validationContext, context, readContext);
             } else if (receivedJson instanceof JSONArray) {
@@ -270,4 +289,22 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
         return this;
     }
 
+    /**
+     * Set the validator streaming mode.
+     * @param streaming
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    /**
+     * Set the validator streaming mode.
+     * @param streaming
+     * @return this object for chaining
+     */
+    public JsonTextMessageValidator streaming(boolean streaming) {
+        setStreaming(streaming);
+        return this;
+    }
+
 }
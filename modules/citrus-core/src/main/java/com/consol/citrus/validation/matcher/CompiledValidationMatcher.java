@@ -0,0 +1,211 @@
+/*
+ * Copyright 2006-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.matcher;
+
+import com.consol.citrus.Citrus;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.functions.FunctionUtils;
+import com.consol.citrus.util.LruCache;
+import com.consol.citrus.variable.VariableUtils;
+
+import java.util.*;
+
+/**
+ * Validation matcher expression parsed once into library prefix, matcher name and control parameters. Compiled
+ * expressions are cached by expression text so fields sharing the same matcher expression are not parsed again.
+ * Library and matcher lookup as well as variable and function replacement in control parameters are still done with
+ * the current test context on each validation.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7
+ */
+public final class CompiledValidationMatcher {
+
+    /** System property for setting the matcher expression cache size */
+    public static final String CACHE_SIZE_PROPERTY = "citrus.validation.matcher.cache.size";
+
+    /** Cache of compiled matcher expressions by expression text */
+    private static final LruCache<String, CompiledValidationMatcher> EXPRESSION_CACHE =
+            new LruCache<String, CompiledValidationMatcher>(Integer.valueOf(System.getProperty(CACHE_SIZE_PROPERTY, "500")));
+
+    /** Matcher library prefix including colon, empty for default library */
+    private final String prefix;
+
+    /** Matcher name in library */
+    private final String matcherName;
+
+    /** Raw control value expression */
+    private final String matcherValue;
+
+    /** Control parameters extracted with last used control expression parser */
+    private volatile ControlParameters controlParameters;
+
+    /**
+     * Constructor using prefix, matcher name and control value expression.
+     * @param prefix
+     * @param matcherName
+     * @param matcherValue
+     */
+    private CompiledValidationMatcher(String prefix, String matcherName, String matcherValue) {
+        this.prefix = prefix;
+        this.matcherName = matcherName;
+        this.matcherValue = matcherValue;
+    }
+
+    /**
+     * Gets compiled matcher for given validation matcher expression. Compiled matcher is read from cache if present.
+     * @param validationMatcherExpression
+     * @return
+     */
+    public static CompiledValidationMatcher forExpression(String validationMatcherExpression) {
+        CompiledValidationMatcher compiled = EXPRESSION_CACHE.get(validationMatcherExpression);
+
+        if (compiled == null) {
+            compiled = compile(validationMatcherExpression);
+            EXPRESSION_CACHE.put(validationMatcherExpression, compiled);
+        }
+
+        return compiled;
+    }
+
+    /**
+     * Parses validation matcher expression.
+     * @param validationMatcherExpression
+     * @return
+     */
+    private static CompiledValidationMatcher compile(String validationMatcherExpression) {
+        String expression = VariableUtils.cutOffVariablesPrefix(cutOffValidationMatchersPrefix(validationMatcherExpression));
+
+        int bodyStart = expression.indexOf('(');
+
+        String prefix = "";
+        if (expression.indexOf(':') > 0 && expression.indexOf(':') < bodyStart) {
+            prefix = expression.substring(0, expression.indexOf(':') + 1);
+        }
+
+        String matcherValue = expression.substring(bodyStart + 1, expression.length() - 1);
+        String matcherName = expression.substring(prefix.length(), bodyStart);
+
+        return new CompiledValidationMatcher(prefix, matcherName, matcherValue);
+    }
+
+    /**
+     * Validates field value with matcher from current test context.
+     * @param fieldName
+     * @param fieldValue
+     * @param context
+     */
+    public void validate(String fieldName, String fieldValue, TestContext context) {
+        ValidationMatcherLibrary library = context.getValidationMatcherRegistry().getLibraryForPrefix(prefix);
+        ValidationMatcher validationMatcher = library.getValidationMatcher(matcherName);
+
+        List<String> params = getControlParameters(lookupControlExpressionParser(validationMatcher));
+        validationMatcher.validate(fieldName, fieldValue, replaceVariablesAndFunctionsInParameters(params, context), context);
+    }
+
+    /**
+     * Gets control parameters extracted with given parser. Parameters are extracted again only if
+     * a different parser type is used.
+     * @param controlExpressionParser
+     * @return
+     */
+    private List<String> getControlParameters(ControlExpressionParser controlExpressionParser) {
+        ControlParameters parameters = controlParameters;
+
+        if (parameters == null || !parameters.parserType.equals(controlExpressionParser.getClass())) {
+            parameters = new ControlParameters(controlExpressionParser.getClass(),
+                    controlExpressionParser.extractControlValues(matcherValue, null));
+            controlParameters = parameters;
+        }
+
+        return parameters.values;
+    }
+
+    private static List<String> replaceVariablesAndFunctionsInParameters(List<String> params, TestContext context) {
+        List<String> replacedParams = new ArrayList<>(params.size());
+        for (String param : params) {
+            String parsedVariablesParam = VariableUtils.replaceVariablesInString(param, context, false);
+            String parsedFunctionsParam = FunctionUtils.replaceFunctionsInString(parsedVariablesParam, context);
+            replacedParams.add(parsedFunctionsParam);
+        }
+        return replacedParams;
+    }
+
+    /**
+     * Cut off validation matchers prefix and suffix.
+     * @param expression
+     * @return
+     */
+    private static String cutOffValidationMatchersPrefix(String expression) {
+        if (expression.startsWith(Citrus.VALIDATION_MATCHER_PREFIX) && expression.endsWith(Citrus.VALIDATION_MATCHER_SUFFIX)) {
+            return expression.substring(Citrus.VALIDATION_MATCHER_PREFIX.length(), expression.length() - Citrus.VALIDATION_MATCHER_SUFFIX.length());
+        }
+
+        return expression;
+    }
+
+    private static ControlExpressionParser lookupControlExpressionParser(ValidationMatcher validationMatcher) {
+        if (validationMatcher instanceof ControlExpressionParser) {
+            return (ControlExpressionParser) validationMatcher;
+        }
+        return new DefaultControlExpressionParser();
+    }
+
+    /**
+     * Clears the matcher expression cache.
+     */
+    public static void clearCache() {
+        EXPRESSION_CACHE.clear();
+    }
+
+    /**
+     * Gets the matcher expression cache.
+     * @return
+     */
+    public static LruCache<String, CompiledValidationMatcher> getCache() {
+        return EXPRESSION_CACHE;
+    }
+
+    /**
+     * Gets the matcher name.
+     * @return
+     */
+    public String getMatcherName() {
+        return matcherName;
+    }
+
+    /**
+     * Gets the matcher library prefix.
+     * @return
+     */
+    public String getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * Control parameters extracted by parser type.
+     */
+    private static final class ControlParameters {
+        private final Class<?> parserType;
+        private final List<String> values;
+
+        ControlParameters(Class<?> parserType, List<String> values) {
+            this.parserType = parserType;
+            this.values = Collections.unmodifiableList(new ArrayList<>(values));
+        }
+    }
+}
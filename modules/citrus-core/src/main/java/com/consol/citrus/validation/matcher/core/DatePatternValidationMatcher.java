@@ -18,26 +18,30 @@ package com.consol.citrus.validation.matcher.core;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.util.LruCache;
 import com.consol.citrus.validation.matcher.ValidationMatcher;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.List;
-import java.util.regex.PatternSyntaxException;
 
 /**
- * ValidationMatcher checking for valid date format.
+ * ValidationMatcher checking for valid date format. Date formats are cached by pattern and cloned
+ * for each validation as date formats are not thread safe.
  * 
  * @author Christian Wied
  */
 public class DatePatternValidationMatcher implements ValidationMatcher {
 
+    /** Cache of parsed date formats by pattern */
+    private static final LruCache<String, SimpleDateFormat> DATE_FORMAT_CACHE = new LruCache<String, SimpleDateFormat>(100);
+
     public void validate(String fieldName, String value, List<String> controlParameters, TestContext context) throws ValidationException {
 		String control = controlParameters.get(0);
     	SimpleDateFormat dateFormat;
     	try {
-    		dateFormat = new SimpleDateFormat(control);
-    	} catch (PatternSyntaxException e) {
+    		dateFormat = getDateFormat(control);
+    	} catch (IllegalArgumentException e) {
     		throw new ValidationException(this.getClass().getSimpleName()
                     + " failed for field '" + fieldName + "' " + 
                     ". Found invalid date format", e);
@@ -51,4 +55,20 @@ public class DatePatternValidationMatcher implements ValidationMatcher {
                     + "', expected date format is '" + control + "'", e);
 		}
     }
+
+    /**
+     * Gets new date format instance for pattern. Instance is cloned from cached date format if present.
+     * @param pattern
+     * @return
+     */
+    private static SimpleDateFormat getDateFormat(String pattern) {
+        SimpleDateFormat dateFormat = DATE_FORMAT_CACHE.get(pattern);
+
+        if (dateFormat == null) {
+            dateFormat = new SimpleDateFormat(pattern);
+            DATE_FORMAT_CACHE.put(pattern, dateFormat);
+        }
+
+        return (SimpleDateFormat) dateFormat.clone();
+    }
 }
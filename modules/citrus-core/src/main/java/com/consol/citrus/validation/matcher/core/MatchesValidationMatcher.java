@@ -18,24 +18,30 @@ package com.consol.citrus.validation.matcher.core;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.util.LruCache;
 import com.consol.citrus.validation.matcher.ValidationMatcher;
 
 import java.util.List;
+import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
 /**
- * ValidationMatcher based on String.matches()
+ * ValidationMatcher based on String.matches(). Compiled patterns are cached by control value
+ * so the same regular expression is not compiled again for each validated field.
  * 
  * @author Christian Wied
  */
 public class MatchesValidationMatcher implements ValidationMatcher {
 
+    /** Cache of compiled patterns by regular expression */
+    private static final LruCache<String, Pattern> PATTERN_CACHE = new LruCache<String, Pattern>(250);
+
     public void validate(String fieldName, String value, List<String> controlParameters, TestContext context) throws ValidationException {
 		String control = controlParameters.get(0);
     	boolean success;
 
     	try {
-    		success = value.matches(control);
+    		success = getPattern(control).matcher(value).matches();
     	} catch (PatternSyntaxException e) {
     		throw new ValidationException(this.getClass().getSimpleName()
                     + " failed for field '" + fieldName
@@ -49,4 +55,20 @@ public class MatchesValidationMatcher implements ValidationMatcher {
                     + "', control value is '" + control + "'");
         }
     }
+
+    /**
+     * Gets compiled pattern for regular expression. Compiled pattern is read from cache if present.
+     * @param regex
+     * @return
+     */
+    private static Pattern getPattern(String regex) {
+        Pattern pattern = PATTERN_CACHE.get(regex);
+
+        if (pattern == null) {
+            pattern = Pattern.compile(regex);
+            PATTERN_CACHE.put(regex, pattern);
+        }
+
+        return pattern;
+    }
 }
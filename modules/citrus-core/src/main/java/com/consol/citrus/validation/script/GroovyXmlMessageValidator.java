@@ -16,10 +16,20 @@
 
 package com.consol.citrus.validation.script;
 
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.message.MessageType;
+import com.consol.citrus.util.ParsedPayloadCache;
+import groovy.util.XmlSlurper;
+import groovy.util.slurpersupport.GPathResult;
 import org.springframework.core.io.ClassPathResource;
+import org.xml.sax.SAXException;
 
-import com.consol.citrus.message.MessageType;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.*;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.sax.SAXResult;
+import java.io.IOException;
 
 /**
  * Extended groovy message validator providing specific XML slurper support.
@@ -30,6 +40,9 @@ import com.consol.citrus.message.MessageType;
  */
 public class GroovyXmlMessageValidator extends GroovyScriptMessageValidator {
 
+    /** Transformer factory replaying cached documents to XML slurper */
+    private static final TransformerFactory TRANSFORMER_FACTORY = TransformerFactory.newInstance();
+
     /**
      * Default constructor using default script template.
      */
@@ -42,4 +55,29 @@ public class GroovyXmlMessageValidator extends GroovyScriptMessageValidator {
         // only support xml message type
         return messageType.equalsIgnoreCase(MessageType.XML.toString()) || messageType.equalsIgnoreCase(MessageType.XHTML.toString());
     }
+
+    /**
+     * Parses XML payload with XML slurper. When a parsed payload cache scope is active the cached document is
+     * passed to the slurper as SAX events so the payload text is not parsed again.
+     * @param payload
+     * @return
+     */
+    public static GPathResult parsePayload(String payload) {
+        try {
+            if (!ParsedPayloadCache.isActive()) {
+                return new XmlSlurper().parseText(payload);
+            }
+
+            Transformer transformer;
+            synchronized (TRANSFORMER_FACTORY) {
+                transformer = TRANSFORMER_FACTORY.newTransformer();
+            }
+
+            XmlSlurper slurper = new XmlSlurper();
+            transformer.transform(new DOMSource(ParsedPayloadCache.getDocument(payload)), new SAXResult(slurper));
+            return slurper.getDocument();
+        } catch (ParserConfigurationException | SAXException | IOException | TransformerException e) {
+            throw new CitrusRuntimeException("Failed to parse XML message payload", e);
+        }
+    }
 }
@@ -21,6 +21,8 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.message.*;
+import com.consol.citrus.util.LruCache;
+import com.consol.citrus.util.ParsedPayloadCache;
 import com.consol.citrus.util.XMLUtils;
 import com.consol.citrus.validation.AbstractMessageValidator;
 import com.consol.citrus.validation.ValidationUtils;
@@ -81,6 +83,9 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
     /** Transformer factory */
     private TransformerFactory transformerFactory = TransformerFactory.newInstance();
 
+    /** Compiled schema validators by schema instance or schema repository and its schema set */
+    private final LruCache<Object, XmlValidator> schemaValidatorCache = new LruCache<Object, XmlValidator>(100);
+
     @Override
     public void validateMessagePayload(Message receivedMessage, Message controlMessage,
                                        XmlMessageValidationContext validationContext, TestContext context) throws ValidationException {
@@ -145,7 +150,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         }
 
         try {
-            Document doc = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
+            Document doc = ParsedPayloadCache.getDocument(receivedMessage.getPayload(String.class));
 
             if (!StringUtils.hasText(doc.getFirstChild().getNamespaceURI())) {
                 return;
@@ -156,7 +161,13 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
             XmlValidator validator = null;
             XsdSchemaRepository schemaRepository = null;
             if (validationContext.getSchema() != null) {
-                validator = applicationContext.getBean(validationContext.getSchema(), XsdSchema.class).createValidator();
+                XsdSchema schema = applicationContext.getBean(validationContext.getSchema(), XsdSchema.class);
+                validator = schemaValidatorCache.get(schema);
+
+                if (validator == null) {
+                    validator = schema.createValidator();
+                    schemaValidatorCache.put(schema, validator);
+                }
             } else if (validationContext.getSchemaRepository() != null) {
                 schemaRepository = applicationContext.getBean(validationContext.getSchemaRepository(), XsdSchemaRepository.class);
             } else if (schemaRepositories.size() == 1) {
@@ -185,30 +196,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
                             schemaRepository.getName()));
                 }
 
-                List<Resource> schemas = new ArrayList<>();
-                for (XsdSchema xsdSchema : schemaRepository.getSchemas()) {
-                    if (xsdSchema instanceof XsdSchemaCollection) {
-                        for (Resource resource : ((XsdSchemaCollection) xsdSchema).getSchemaResources()) {
-                            schemas.add(resource);
-                        }                            
-                    } else if (xsdSchema instanceof WsdlXsdSchema) {
-                        for (Resource resource : ((WsdlXsdSchema) xsdSchema).getSchemaResources()) {
-                            schemas.add(resource);
-                        }
-                    } else {
-                        synchronized (transformerFactory) {
-                            ByteArrayOutputStream bos = new ByteArrayOutputStream();
-                            try {
-                                transformerFactory.newTransformer().transform(xsdSchema.getSource(), new StreamResult(bos));
-                            } catch (TransformerException e) {
-                                throw new CitrusRuntimeException("Failed to read schema " + xsdSchema.getTargetNamespace(), e);
-                            }
-                            schemas.add(new ByteArrayResource(bos.toByteArray()));
-                        }
-                    }
-                }
-                
-                validator = XmlValidatorFactory.createValidator(schemas.toArray(new Resource[schemas.size()]), WsdlXsdSchema.W3C_XML_SCHEMA_NS_URI);
+                validator = getSchemaValidator(schemaRepository);
             }
             
             SAXParseException[] results = validator.validate(new DOMSource(doc));
@@ -236,6 +224,53 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         }
     }
 
+    /**
+     * Gets compiled schema validator for all schemas in given schema repository. Validator is compiled once
+     * and cached for further validations with the same schema repository and schema set.
+     *
+     * @param schemaRepository
+     * @return
+     * @throws IOException
+     * @throws SAXException
+     */
+    private XmlValidator getSchemaValidator(XsdSchemaRepository schemaRepository) throws IOException, SAXException {
+        List<Object> cacheKey = new ArrayList<Object>(schemaRepository.getSchemas());
+        cacheKey.add(schemaRepository);
+
+        XmlValidator validator = schemaValidatorCache.get(cacheKey);
+        if (validator != null) {
+            return validator;
+        }
+
+        List<Resource> schemas = new ArrayList<>();
+        for (XsdSchema xsdSchema : schemaRepository.getSchemas()) {
+            if (xsdSchema instanceof XsdSchemaCollection) {
+                for (Resource resource : ((XsdSchemaCollection) xsdSchema).getSchemaResources()) {
+                    schemas.add(resource);
+                }
+            } else if (xsdSchema instanceof WsdlXsdSchema) {
+                for (Resource resource : ((WsdlXsdSchema) xsdSchema).getSchemaResources()) {
+                    schemas.add(resource);
+                }
+            } else {
+                synchronized (transformerFactory) {
+                    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                    try {
+                        transformerFactory.newTransformer().transform(xsdSchema.getSource(), new StreamResult(bos));
+                    } catch (TransformerException e) {
+                        throw new CitrusRuntimeException("Failed to read schema " + xsdSchema.getTargetNamespace(), e);
+                    }
+                    schemas.add(new ByteArrayResource(bos.toByteArray()));
+                }
+            }
+        }
+        
+        validator = XmlValidatorFactory.createValidator(schemas.toArray(new Resource[schemas.size()]), WsdlXsdSchema.W3C_XML_SCHEMA_NS_URI);
+        schemaValidatorCache.put(cacheKey, validator);
+
+        return validator;
+    }
+
     /**
      * Validate namespaces in message. The method compares namespace declarations in the root
      * element of the received message to expected namespaces. Prefixes are important too, so
@@ -253,9 +288,9 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
 
         log.debug("Start XML namespace validation");
 
-        Document received = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
+        Document received = ParsedPayloadCache.getDocument(receivedMessage.getPayload(String.class));
 
-        Map<String, String> foundNamespaces = XMLUtils.lookupNamespaces(receivedMessage.getPayload(String.class));
+        Map<String, String> foundNamespaces = ParsedPayloadCache.getNamespaces(receivedMessage.getPayload(String.class));
 
         if (foundNamespaces.size() != expectedNamespaces.size()) {
             throw new ValidationException("Number of namespace declarations not equal for node " +
@@ -350,7 +385,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
 
         log.debug("Start XML tree validation ...");
 
-        Document received = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
+        Document received = ParsedPayloadCache.getDocumentCopy(receivedMessage.getPayload(String.class));
         Document source = XMLUtils.parseMessagePayload(controlMessagePayload);
 
         XMLUtils.stripWhitespaceNodes(received);
@@ -749,4 +784,12 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
     public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
         this.applicationContext = applicationContext;
     }
+
+    /**
+     * Gets the compiled schema validator cache with its hit and miss statistics.
+     * @return
+     */
+    public LruCache<Object, XmlValidator> getSchemaValidatorCache() {
+        return schemaValidatorCache;
+    }
 }
@@ -0,0 +1,457 @@
+/*
+ * Copyright 2006-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.variable;
+
+import com.consol.citrus.Citrus;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.NoSuchVariableException;
+import com.consol.citrus.functions.FunctionLibrary;
+import com.consol.citrus.functions.FunctionUtils;
+import com.consol.citrus.util.LruCache;
+
+import java.util.*;
+
+/**
+ * Template string parsed once into an immutable list of literal, variable and function segments. Resolving the template
+ * with a test context only concatenates literals and resolved values. Compiled templates are cached by template string
+ * so frequently used message templates are parsed only once. Cache is bounded by number of templates and by overall
+ * length of cached template strings. Strings without any variable or function expression are not cached at all.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7
+ */
+public final class CompiledTemplate {
+
+    /** System property for setting the template cache size */
+    public static final String CACHE_SIZE_PROPERTY = "citrus.template.cache.size";
+
+    /** System property for setting the maximum overall length of cached template strings */
+    public static final String CACHE_MAX_CHARS_PROPERTY = "citrus.template.cache.max.chars";
+
+    /** Cache of compiled templates by template string */
+    private static final LruCache<String, CompiledTemplate> TEMPLATE_CACHE =
+            new LruCache<String, CompiledTemplate>(Integer.valueOf(System.getProperty(CACHE_SIZE_PROPERTY, "1000")),
+                    Long.valueOf(System.getProperty(CACHE_MAX_CHARS_PROPERTY, "4194304"))) {
+                @Override
+                protected long weigh(String key, CompiledTemplate value) {
+                    return key.length();
+                }
+            };
+
+    /** Marks position of variable segments when scanning for functions */
+    private static final char VARIABLE_MARKER = '\u0000';
+
+    /** Template segments */
+    private final List<Segment> segments;
+
+    /** Overall length of literal segments */
+    private final int literalLength;
+
+    /** Template has no variable segments */
+    private final boolean staticContent;
+
+    /** Function library prefix this template has been compiled with, null for variable templates */
+    private final String functionPrefix;
+
+    /** Function template compiled from this variable template */
+    private volatile CompiledTemplate functionTemplate;
+
+    /**
+     * Constructor using segments and optional function library prefix.
+     * @param segments
+     * @param functionPrefix
+     */
+    private CompiledTemplate(List<Segment> segments, String functionPrefix) {
+        this.segments = Collections.unmodifiableList(segments);
+        this.functionPrefix = functionPrefix;
+
+        int length = 0;
+        boolean dynamic = false;
+        for (Segment segment : segments) {
+            if (segment instanceof LiteralSegment) {
+                length += ((LiteralSegment) segment).text.length();
+            } else if (segment instanceof VariableSegment) {
+                dynamic = true;
+            }
+        }
+
+        this.literalLength = length;
+        this.staticContent = !dynamic;
+    }
+
+    /**
+     * Checks if given string holds variable or function expressions that need to be resolved. Check is cheap and
+     * does not touch the template cache.
+     * @param str
+     * @return
+     */
+    public static boolean isDynamic(String str) {
+        return str.indexOf(Citrus.VARIABLE_PREFIX) >= 0 || FunctionUtils.containsFunction(str);
+    }
+
+    /**
+     * Gets compiled template for given template string. Compiled template is read from cache if present. Strings
+     * without variable or function expressions are compiled to a single literal segment and not cached.
+     * @param template
+     * @return
+     */
+    public static CompiledTemplate forString(String template) {
+        if (!isDynamic(template)) {
+            return compileVariables(template);
+        }
+
+        CompiledTemplate compiled = TEMPLATE_CACHE.get(template);
+
+        if (compiled == null) {
+            compiled = compileVariables(template);
+            TEMPLATE_CACHE.put(template, compiled);
+        }
+
+        return compiled;
+    }
+
+    /**
+     * Resolves variables and functions in this template with given test context. Function segments are precompiled
+     * when a single function library is registered. Otherwise functions are resolved on the resulting string.
+     * @param context
+     * @param enableQuoting
+     * @return
+     */
+    public String resolve(TestContext context, boolean enableQuoting) {
+        List<FunctionLibrary> libraries = context.getFunctionRegistry().getFunctionLibraries();
+        if (libraries.size() == 1) {
+            return getFunctionTemplate(libraries.get(0).getPrefix()).resolveSegments(context, enableQuoting);
+        }
+
+        return FunctionUtils.replaceFunctionsInString(resolveSegments(context, enableQuoting), context, enableQuoting);
+    }
+
+    /**
+     * Resolves all segments in this template and concatenates the results.
+     * @param context
+     * @param enableQuoting
+     * @return
+     */
+    public String resolveSegments(TestContext context, boolean enableQuoting) {
+        if (segments.size() == 1 && segments.get(0) instanceof LiteralSegment) {
+            return ((LiteralSegment) segments.get(0)).text;
+        }
+
+        StringBuilder builder = new StringBuilder(literalLength + 16 * segments.size());
+        for (Segment segment : segments) {
+            segment.appendTo(builder, context, enableQuoting);
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Gets function template for this template. Function template is compiled lazily for
+     * the given function library prefix.
+     * @param prefix
+     * @return
+     */
+    private CompiledTemplate getFunctionTemplate(String prefix) {
+        CompiledTemplate template = functionTemplate;
+        if (template == null || !prefix.equals(template.functionPrefix)) {
+            template = compileFunctions(segments, prefix);
+            functionTemplate = template;
+        }
+
+        return template;
+    }
+
+    /**
+     * Gets the template segments.
+     * @return
+     */
+    public List<Segment> getSegments() {
+        return segments;
+    }
+
+    /**
+     * Checks if this template has no variable segments.
+     * @return
+     */
+    public boolean isStaticContent() {
+        return staticContent;
+    }
+
+    /**
+     * Clears the template cache.
+     */
+    public static void clearCache() {
+        TEMPLATE_CACHE.clear();
+    }
+
+    /**
+     * Gets the template cache.
+     * @return
+     */
+    public static LruCache<String, CompiledTemplate> getCache() {
+        return TEMPLATE_CACHE;
+    }
+
+    /**
+     * Parses template string into literal and variable segments.
+     * @param str
+     * @return
+     */
+    static CompiledTemplate compileVariables(final String str) {
+        List<Segment> segments = new ArrayList<Segment>();
+
+        boolean isVarComplete;
+        StringBuilder variableNameBuf = new StringBuilder();
+
+        int startIndex = 0;
+        int curIndex;
+        int searchIndex;
+
+        while ((searchIndex = str.indexOf(Citrus.VARIABLE_PREFIX, startIndex)) != -1) {
+            int control = 0;
+            isVarComplete = false;
+
+            curIndex = searchIndex + Citrus.VARIABLE_PREFIX.length();
+
+            while (curIndex < str.length() && !isVarComplete) {
+                if (str.indexOf(Citrus.VARIABLE_PREFIX, curIndex) == curIndex) {
+                    control++;
+                }
+
+                if ((!Character.isJavaIdentifierPart(str.charAt(curIndex)) && (str.charAt(curIndex) == Citrus.VARIABLE_SUFFIX.charAt(0))) || (curIndex + 1 == str.length())) {
+                    if (control == 0) {
+                        isVarComplete = true;
+                    } else {
+                        control--;
+                    }
+                }
+
+                if (!isVarComplete) {
+                    variableNameBuf.append(str.charAt(curIndex));
+                }
+                ++curIndex;
+            }
+
+            addLiteral(segments, str.substring(startIndex, searchIndex));
+            segments.add(new VariableSegment(variableNameBuf.toString(), false));
+
+            startIndex = curIndex;
+            variableNameBuf = new StringBuilder();
+        }
+
+        addLiteral(segments, str.substring(startIndex));
+
+        return new CompiledTemplate(segments, null);
+    }
+
+    /**
+     * Parses literal segments of variable template into literal and function segments using the given function
+     * library prefix. Functions are searched in template text with variable segments as opaque placeholders. Variables
+     * used in function arguments are resolved before the function is called. Variable values outside of functions are
+     * checked for function expressions on resolve as values may hold functions, too.
+     * @param variableSegments
+     * @param prefix
+     * @return
+     */
+    static CompiledTemplate compileFunctions(List<Segment> variableSegments, String prefix) {
+        StringBuilder template = new StringBuilder();
+        Map<Integer, VariableSegment> variables = new HashMap<Integer, VariableSegment>();
+        for (Segment segment : variableSegments) {
+            if (segment instanceof VariableSegment) {
+                variables.put(template.length(), (VariableSegment) segment);
+                template.append(VARIABLE_MARKER);
+            } else {
+                template.append(((LiteralSegment) segment).text);
+            }
+        }
+
+        String str = template.toString();
+        List<Segment> segments = new ArrayList<Segment>();
+
+        if (!FunctionUtils.containsFunction(str)) {
+            addRange(segments, str, 0, str.length(), variables, true);
+            return new CompiledTemplate(segments, prefix);
+        }
+
+        boolean isVarComplete;
+
+        int startIndex = 0;
+        int curIndex;
+        int searchIndex;
+
+        while ((searchIndex = str.indexOf(prefix, startIndex)) != -1) {
+            int control = -1;
+            isVarComplete = false;
+
+            curIndex = searchIndex;
+
+            while (curIndex < str.length() && !isVarComplete) {
+                if (str.charAt(curIndex) == '(') {
+                    control++;
+                }
+
+                if (str.charAt(curIndex) == ')' || curIndex == str.length() - 1) {
+                    if (control == 0) {
+                        isVarComplete = true;
+                    } else {
+                        control--;
+                    }
+                }
+
+                curIndex++;
+            }
+
+            addRange(segments, str, startIndex, searchIndex, variables, true);
+
+            List<Segment> expression = new ArrayList<Segment>();
+            addRange(expression, str, searchIndex, curIndex, variables, false);
+            segments.add(new FunctionSegment(new CompiledTemplate(expression, null)));
+
+            startIndex = curIndex;
+        }
+
+        addRange(segments, str, startIndex, str.length(), variables, true);
+
+        return new CompiledTemplate(segments, prefix);
+    }
+
+    /**
+     * Adds literal and variable segments for given range of template string with variable placeholders.
+     * @param segments
+     * @param str
+     * @param start
+     * @param end
+     * @param variables variable segments by placeholder position
+     * @param resolveFunctions resolve functions in variable values
+     */
+    private static void addRange(List<Segment> segments, String str, int start, int end,
+                                 Map<Integer, VariableSegment> variables, boolean resolveFunctions) {
+        int literalStart = start;
+        for (int i = start; i < end; i++) {
+            VariableSegment variable = variables.get(i);
+            if (variable != null) {
+                if (i > literalStart) {
+                    segments.add(new LiteralSegment(str.substring(literalStart, i)));
+                }
+
+                segments.add(new VariableSegment(variable.variableName, resolveFunctions));
+                literalStart = i + 1;
+            }
+        }
+
+        if (end > literalStart) {
+            segments.add(new LiteralSegment(str.substring(literalStart, end)));
+        }
+    }
+
+    /**
+     * Adds literal segment if text is not empty. Template always has at least one segment.
+     * @param segments
+     * @param text
+     */
+    private static void addLiteral(List<Segment> segments, String text) {
+        if (text.length() > 0 || segments.isEmpty()) {
+            segments.add(new LiteralSegment(text));
+        }
+    }
+
+    /**
+     * Single template segment able to append its value to a string builder.
+     */
+    public interface Segment {
+        /**
+         * Appends resolved segment value.
+         * @param builder
+         * @param context
+         * @param enableQuoting
+         */
+        void appendTo(StringBuilder builder, TestContext context, boolean enableQuoting);
+    }
+
+    /**
+     * Static text segment.
+     */
+    private static final class LiteralSegment implements Segment {
+        private final String text;
+
+        LiteralSegment(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public void appendTo(StringBuilder builder, TestContext context, boolean enableQuoting) {
+            builder.append(text);
+        }
+    }
+
+    /**
+     * Variable reference segment. Optionally resolves functions in variable value.
+     */
+    private static final class VariableSegment implements Segment {
+        private final String variableName;
+        private final boolean resolveFunctions;
+
+        VariableSegment(String variableName, boolean resolveFunctions) {
+            this.variableName = variableName;
+            this.resolveFunctions = resolveFunctions;
+        }
+
+        @Override
+        public void appendTo(StringBuilder builder, TestContext context, boolean enableQuoting) {
+            String value = context.getVariable(variableName);
+            if (value == null) {
+                throw new NoSuchVariableException("Variable: " + variableName + " could not be found");
+            }
+
+            if (resolveFunctions) {
+                value = FunctionUtils.replaceFunctionsInString(value, context, enableQuoting);
+            }
+
+            appendValue(builder, value, enableQuoting);
+        }
+    }
+
+    /**
+     * Function call segment. Function expression may hold variables that get resolved before the function is called.
+     */
+    private static final class FunctionSegment implements Segment {
+        private final CompiledTemplate functionExpression;
+
+        FunctionSegment(CompiledTemplate functionExpression) {
+            this.functionExpression = functionExpression;
+        }
+
+        @Override
+        public void appendTo(StringBuilder builder, TestContext context, boolean enableQuoting) {
+            appendValue(builder, FunctionUtils.resolveFunction(functionExpression.resolveSegments(context, enableQuoting), context), enableQuoting);
+        }
+    }
+
+    /**
+     * Appends value optionally surrounded with quotes.
+     * @param builder
+     * @param value
+     * @param enableQuoting
+     */
+    private static void appendValue(StringBuilder builder, String value, boolean enableQuoting) {
+        if (enableQuoting) {
+            builder.append('\'').append(value).append('\'');
+        } else {
+            builder.append(value);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2006-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.xml;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.xml.validation.SchemaLoaderUtils;
+import org.xml.sax.SAXException;
+
+import javax.xml.XMLConstants;
+import javax.xml.bind.*;
+import javax.xml.validation.Schema;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of JAXB contexts shared by all marshallers working on the same model. JAXB context creation and schema
+ * compilation is done only once per set of bound classes and schema resource.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7
+ */
+public final class JaxbContextRegistry {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(JaxbContextRegistry.class);
+
+    /** Shared contexts by bound classes and schema resource */
+    private static final Map<List<String>, SharedContext> CONTEXTS = new ConcurrentHashMap<>();
+
+    /**
+     * Prevent instantiation.
+     */
+    private JaxbContextRegistry() {
+    }
+
+    /**
+     * Gets shared context for bound classes and optional schema resource. Context is created on first access.
+     * @param schemaResource the schema resource or null when no schema is used.
+     * @param classesToBeBound
+     * @return
+     */
+    public static SharedContext getContext(Resource schemaResource, Class<?> ... classesToBeBound) {
+        List<String> key = new ArrayList<>(classesToBeBound.length + 1);
+        for (Class<?> type : classesToBeBound) {
+            key.add(type.getName());
+        }
+        key.add(schemaResource != null ? schemaResource.getDescription() : "");
+
+        SharedContext context = CONTEXTS.get(key);
+        if (context == null) {
+            synchronized (CONTEXTS) {
+                context = CONTEXTS.get(key);
+                if (context == null) {
+                    context = createContext(schemaResource, classesToBeBound);
+                    CONTEXTS.put(key, context);
+                }
+            }
+        }
+
+        return context;
+    }
+
+    /**
+     * Creates new JAXB context and compiles schema.
+     * @param schemaResource
+     * @param classesToBeBound
+     * @return
+     */
+    private static SharedContext createContext(Resource schemaResource, Class<?> ... classesToBeBound) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Creating JAXB context for classes " + Arrays.toString(classesToBeBound));
+        }
+
+        try {
+            JAXBContext jaxbContext = JAXBContext.newInstance(classesToBeBound);
+            Schema schema = schemaResource != null ? SchemaLoaderUtils.loadSchema(schemaResource, XMLConstants.W3C_XML_SCHEMA_NS_URI) : null;
+
+            return new SharedContext(jaxbContext, schema);
+        } catch (JAXBException e) {
+            throw new CitrusRuntimeException("Failed to create JAXB context for classes " + Arrays.toString(classesToBeBound), e);
+        } catch (IOException | SAXException e) {
+            throw new CitrusRuntimeException("Failed to load schema " + schemaResource.getDescription(), e);
+        }
+    }
+
+    /**
+     * Removes all shared contexts.
+     */
+    public static void clear() {
+        CONTEXTS.clear();
+    }
+
+    /**
+     * Gets the number of shared contexts.
+     * @return
+     */
+    public static int size() {
+        return CONTEXTS.size();
+    }
+
+    /**
+     * JAXB context and compiled schema shared by marshallers.
+     */
+    public static final class SharedContext {
+        private final JAXBContext jaxbContext;
+        private final Schema schema;
+
+        SharedContext(JAXBContext jaxbContext, Schema schema) {
+            this.jaxbContext = jaxbContext;
+            this.schema = schema;
+        }
+
+        /**
+         * Gets the JAXB context.
+         * @return
+         */
+        public JAXBContext getJaxbContext() {
+            return jaxbContext;
+        }
+
+        /**
+         * Gets the compiled schema.
+         * @return the schema or null if no schema is used.
+         */
+        public Schema getSchema() {
+            return schema;
+        }
+    }
+}
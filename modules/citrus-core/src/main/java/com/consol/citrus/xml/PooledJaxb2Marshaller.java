@@ -0,0 +1,135 @@
+/*
+ * Copyright 2006-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.xml;
+
+import org.springframework.core.io.Resource;
+import org.springframework.oxm.jaxb.Jaxb2Marshaller;
+
+import javax.xml.bind.*;
+
+/**
+ * Jaxb2 marshaller using JAXB context and compiled schema from {@link JaxbContextRegistry}. Creating new instances
+ * is cheap as JAXB context is created only once for all marshallers bound to the same model classes. Marshaller and
+ * unmarshaller instances are reused per thread. Each instance is initialized once with the marshaller properties,
+ * listeners, validation event handler and adapters set on this marshaller.
+ *
+ * Schema validation is enabled by default and can be disabled on the marshaller instance.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7
+ */
+public class PooledJaxb2Marshaller extends Jaxb2Marshaller {
+
+    /** Schema resource to validate against */
+    private final Resource schemaResource;
+
+    /** Validate against schema when marshalling and unmarshalling */
+    private boolean schemaValidation = true;
+
+    /** Shared context resolved on first use */
+    private volatile JaxbContextRegistry.SharedContext sharedContext;
+
+    /** Marshaller and unmarshaller instances of current thread */
+    private final ThreadLocal<Marshaller> marshallers = new ThreadLocal<>();
+    private final ThreadLocal<Unmarshaller> unmarshallers = new ThreadLocal<>();
+
+    /**
+     * Default constructor using schema resource and classes to be bound.
+     * @param schemaResource
+     * @param classesToBeBound
+     */
+    public PooledJaxb2Marshaller(Resource schemaResource, Class<?> ... classesToBeBound) {
+        this.schemaResource = schemaResource;
+        setClassesToBeBound(classesToBeBound);
+
+        if (schemaResource != null) {
+            setSchema(schemaResource);
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        getSharedContext();
+    }
+
+    @Override
+    public JAXBContext getJaxbContext() {
+        return getSharedContext().getJaxbContext();
+    }
+
+    @Override
+    protected Marshaller createMarshaller() {
+        try {
+            Marshaller marshaller = marshallers.get();
+            if (marshaller == null) {
+                marshaller = getSharedContext().getJaxbContext().createMarshaller();
+                initJaxbMarshaller(marshaller);
+                marshallers.set(marshaller);
+            }
+
+            marshaller.setSchema(schemaValidation ? getSharedContext().getSchema() : null);
+            return marshaller;
+        } catch (JAXBException e) {
+            throw convertJaxbException(e);
+        }
+    }
+
+    @Override
+    protected Unmarshaller createUnmarshaller() {
+        try {
+            Unmarshaller unmarshaller = unmarshallers.get();
+            if (unmarshaller == null) {
+                unmarshaller = getSharedContext().getJaxbContext().createUnmarshaller();
+                initJaxbUnmarshaller(unmarshaller);
+                unmarshallers.set(unmarshaller);
+            }
+
+            unmarshaller.setSchema(schemaValidation ? getSharedContext().getSchema() : null);
+            return unmarshaller;
+        } catch (JAXBException e) {
+            throw convertJaxbException(e);
+        }
+    }
+
+    /**
+     * Gets shared context from registry.
+     * @return
+     */
+    private JaxbContextRegistry.SharedContext getSharedContext() {
+        if (sharedContext == null) {
+            sharedContext = JaxbContextRegistry.getContext(schemaResource, getClassesToBeBound());
+        }
+
+        return sharedContext;
+    }
+
+    /**
+     * Enables or disables schema validation.
+     * @param schemaValidation
+     */
+    public void setSchemaValidation(boolean schemaValidation) {
+        this.schemaValidation = schemaValidation;
+    }
+
+    /**
+     * Gets the schema validation.
+     * @return
+     */
+    public boolean isSchemaValidation() {
+        return schemaValidation;
+    }
+}
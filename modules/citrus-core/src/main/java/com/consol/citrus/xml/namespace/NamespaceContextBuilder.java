@@ -17,7 +17,7 @@
 package com.consol.citrus.xml.namespace;
 
 import com.consol.citrus.message.Message;
-import com.consol.citrus.util.XMLUtils;
+import com.consol.citrus.util.ParsedPayloadCache;
 import org.springframework.util.CollectionUtils;
 import org.springframework.xml.namespace.SimpleNamespaceContext;
 
@@ -57,7 +57,7 @@ public class NamespaceContextBuilder {
             simpleNamespaceContext.setBindings(namespaceMappings);
         }
         
-        Map<String, String> dynamicBindings = XMLUtils.lookupNamespaces(receivedMessage.getPayload(String.class));
+        Map<String, String> dynamicBindings = ParsedPayloadCache.getNamespaces(receivedMessage.getPayload(String.class));
         if (!CollectionUtils.isEmpty(namespaces)) {
             //dynamic binding of namespaces declarations in root element of received message
             for (Entry<String, String> binding : dynamicBindings.entrySet()) {
@@ -17,7 +17,9 @@
 package com.consol.citrus.xml.xpath;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.util.LruCache;
 import org.springframework.util.StringUtils;
+import org.springframework.xml.namespace.SimpleNamespaceContext;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
@@ -31,14 +33,36 @@ import java.util.Map.Entry;
  * XPath utility class providing static utility methods
  * dealing with XPath expression evaluation.
  *
+ * XPath factories and compiled expressions are not thread safe. Therefore each thread uses its own factory and
+ * its own cache of compiled expressions. Compiled expressions are cached by expression string and namespace mappings.
+ *
  * Class is abstract to prevent instantiation.
  *
  * @author Christoph Deppisch
  */
 public abstract class XPathUtils {
 
-    /** XPath expression factory */
-    private static XPathFactory xPathFactory;
+    /** System property for setting the compiled expression cache size per thread */
+    public static final String CACHE_SIZE_PROPERTY = "citrus.xpath.cache.size";
+
+    /** Compiled expression cache size per thread */
+    private static final int CACHE_SIZE = Integer.valueOf(System.getProperty(CACHE_SIZE_PROPERTY, "250"));
+
+    /** XPath expression factory per thread */
+    private static final ThreadLocal<XPathFactory> xPathFactory = new ThreadLocal<XPathFactory>() {
+        @Override
+        protected XPathFactory initialValue() {
+            return XPathFactory.newInstance();
+        }
+    };
+
+    /** Compiled XPath expressions per thread */
+    private static final ThreadLocal<LruCache<List<Object>, XPathExpression>> expressionCache = new ThreadLocal<LruCache<List<Object>, XPathExpression>>() {
+        @Override
+        protected LruCache<List<Object>, XPathExpression> initialValue() {
+            return new LruCache<List<Object>, XPathExpression>(CACHE_SIZE);
+        }
+    };
     
     /** Dynamic namespace prefix suffix */
     public static final String DYNAMIC_NS_START = "{";
@@ -47,10 +71,6 @@ public abstract class XPathUtils {
     /** Dynamic namespace prefix */
     private static final String DYNAMIC_NS_PREFIX = "dns";
 
-    static {
-        xPathFactory = XPathFactory.newInstance();
-    }
-    
     /**
      * Prevent instantiation.
      */
@@ -258,7 +278,7 @@ public abstract class XPathUtils {
     /**
      * Construct a xPath expression instance with given expression string and namespace context.
      * If namespace context is not specified a default context is built from the XML node
-     * that is evaluated against.
+     * that is evaluated against. Compiled expressions are cached for the current thread.
      * @param xPathExpression
      * @param nsContext
      * @return
@@ -266,13 +286,44 @@ public abstract class XPathUtils {
      */
     private static XPathExpression buildExpression(String xPathExpression, NamespaceContext nsContext)
             throws XPathExpressionException {
-        XPath xpath = xPathFactory.newXPath();
-        
-        if (nsContext != null) {
-            xpath.setNamespaceContext(nsContext);
+        List<Object> cacheKey = Arrays.asList(xPathExpression, getNamespaceContextKey(nsContext));
+        LruCache<List<Object>, XPathExpression> cache = expressionCache.get();
+
+        XPathExpression expression = cache.get(cacheKey);
+        if (expression == null) {
+            XPath xpath = xPathFactory.get().newXPath();
+
+            if (nsContext != null) {
+                xpath.setNamespaceContext(nsContext);
+            }
+
+            expression = xpath.compile(xPathExpression);
+            cache.put(cacheKey, expression);
+        }
+
+        return expression;
+    }
+
+    /**
+     * Gets cache key representation of namespace context. Simple namespace contexts are represented by their
+     * namespace mappings so equal contexts share compiled expressions. Other contexts use the context instance itself.
+     * @param nsContext
+     * @return
+     */
+    private static Object getNamespaceContextKey(NamespaceContext nsContext) {
+        if (nsContext instanceof SimpleNamespaceContext) {
+            Map<String, String> mappings = new HashMap<String, String>();
+
+            Iterator<String> prefixes = ((SimpleNamespaceContext) nsContext).getBoundPrefixes();
+            while (prefixes.hasNext()) {
+                String prefix = prefixes.next();
+                mappings.put(prefix, nsContext.getNamespaceURI(prefix));
+            }
+
+            return mappings;
         }
 
-        return xpath.compile(xPathExpression);
+        return nsContext;
     }
 
     /**
@@ -18,13 +18,18 @@ package com.consol.citrus.actions;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static org.mockito.Mockito.*;
@@ -144,4 +149,83 @@ public class ExecuteSQLActionTest extends AbstractTestNGUnitTest {
         executeSQLAction.execute(context);
         verify(jdbcTemplate).execute("DELETE * FROM ERRORS WHERE STATUS='resolved'");
     }
+
+    @Test
+    public void testSQLExecutionBatchMode() throws SQLException {
+        context.setVariable("version", "1");
+
+        List<String> stmts = new ArrayList<String>();
+        stmts.add("INSERT INTO ERRORS VALUES (1, 'resolved')");
+        stmts.add("INSERT INTO ERRORS VALUES (2, 'it''s open')");
+        stmts.add("INSERT INTO ERRORS VALUES (3, 'closed')");
+        stmts.add("ALTER TABLE ERRORS ADD COLUMN COMMENT VARCHAR(50)");
+        stmts.add("DELETE FROM CONFIGURATION WHERE VERSION=${version}");
+
+        executeSQLAction.setStatements(stmts);
+        executeSQLAction.setBatchSize(2);
+
+        reset(jdbcTemplate);
+
+        ArgumentCaptor<BatchPreparedStatementSetter> batchArgs = ArgumentCaptor.forClass(BatchPreparedStatementSetter.class);
+
+        executeSQLAction.execute(context);
+
+        verify(jdbcTemplate, times(2)).batchUpdate(eq("INSERT INTO ERRORS VALUES (?, ?)"), batchArgs.capture());
+        verify(jdbcTemplate).execute("ALTER TABLE ERRORS ADD COLUMN COMMENT VARCHAR(50)");
+        verify(jdbcTemplate).batchUpdate(eq("DELETE FROM CONFIGURATION WHERE VERSION=?"), batchArgs.capture());
+
+        List<BatchPreparedStatementSetter> batches = batchArgs.getAllValues();
+        Assert.assertEquals(batches.size(), 3L);
+        Assert.assertEquals(batches.get(0).getBatchSize(), 2L);
+        Assert.assertEquals(batches.get(1).getBatchSize(), 1L);
+        Assert.assertEquals(batches.get(2).getBatchSize(), 1L);
+
+        PreparedStatement ps = Mockito.mock(PreparedStatement.class);
+        ParameterMetaData metaData = Mockito.mock(ParameterMetaData.class);
+        when(ps.getParameterMetaData()).thenReturn(metaData);
+        when(metaData.getParameterType(1)).thenReturn(Types.INTEGER);
+        when(metaData.getParameterType(2)).thenReturn(Types.VARCHAR);
+
+        batches.get(0).setValues(ps, 0);
+        batches.get(0).setValues(ps, 1);
+        verify(ps).setObject(1, 1L, Types.INTEGER);
+        verify(ps).setString(2, "resolved");
+        verify(ps).setObject(1, 2L, Types.INTEGER);
+        verify(ps).setString(2, "it's open");
+        verify(ps, times(1)).getParameterMetaData();
+    }
+
+    @Test
+    public void testSQLExecutionBatchModeParameterTypes() throws SQLException {
+        executeSQLAction.setStatements(Collections.singletonList("UPDATE ORDERS SET CREATED='2016-01-01 10:00:00' WHERE ID=5"));
+        executeSQLAction.setBatchSize(10);
+
+        reset(jdbcTemplate);
+
+        ArgumentCaptor<BatchPreparedStatementSetter> batchArgs = ArgumentCaptor.forClass(BatchPreparedStatementSetter.class);
+
+        executeSQLAction.execute(context);
+
+        verify(jdbcTemplate).batchUpdate(eq("UPDATE ORDERS SET CREATED=? WHERE ID=?"), batchArgs.capture());
+
+        PreparedStatement ps = Mockito.mock(PreparedStatement.class);
+        ParameterMetaData metaData = Mockito.mock(ParameterMetaData.class);
+        when(ps.getParameterMetaData()).thenReturn(metaData);
+        when(metaData.getParameterType(1)).thenReturn(Types.TIMESTAMP);
+        when(metaData.getParameterType(2)).thenReturn(Types.BIGINT);
+
+        batchArgs.getValue().setValues(ps, 0);
+        verify(ps).setObject(1, "2016-01-01 10:00:00", Types.TIMESTAMP);
+        verify(ps).setObject(2, 5L, Types.BIGINT);
+
+        PreparedStatement noMetaData = Mockito.mock(PreparedStatement.class);
+        when(noMetaData.getParameterMetaData()).thenThrow(new SQLFeatureNotSupportedException());
+
+        executeSQLAction.execute(context);
+        verify(jdbcTemplate, times(2)).batchUpdate(eq("UPDATE ORDERS SET CREATED=? WHERE ID=?"), batchArgs.capture());
+
+        batchArgs.getValue().setValues(noMetaData, 0);
+        verify(noMetaData).setString(1, "2016-01-01 10:00:00");
+        verify(noMetaData).setObject(2, 5L);
+    }
 }
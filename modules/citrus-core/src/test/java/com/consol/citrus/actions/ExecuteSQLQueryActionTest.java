@@ -23,11 +23,19 @@ import com.consol.citrus.script.ScriptTypes;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.consol.citrus.validation.script.ScriptValidationContext;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.util.*;
 
 import static org.mockito.Mockito.*;
@@ -834,4 +842,101 @@ public class ExecuteSQLQueryActionTest extends AbstractTestNGUnitTest {
         context.getVariables().put("progressVar", "progress");
         executeSQLQueryAction.execute(context);
     }
+
+    @Test
+    public void testStreamingResultSetValidation() throws SQLException {
+        String sql = "select ORDERTYPE, STATUS from orders where ID < 5";
+        reset(jdbcTemplate);
+
+        ResultSet resultSet = Mockito.mock(ResultSet.class);
+        ResultSetMetaData metaData = Mockito.mock(ResultSetMetaData.class);
+
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(2);
+        when(metaData.getColumnLabel(1)).thenReturn("ORDERTYPE");
+        when(metaData.getColumnLabel(2)).thenReturn("STATUS");
+        when(resultSet.getObject(1)).thenReturn("small", "medium", "big");
+        when(resultSet.getObject(2)).thenReturn("started", null, "finished");
+
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        Connection connection = mockStreamingConnection(sql, resultSet);
+
+        executeSQLQueryAction.setStatements(Collections.singletonList(sql));
+        executeSQLQueryAction.setStreaming(true);
+        executeSQLQueryAction.setFetchSize(50);
+
+        Map<String, List<String>> controlResultSet = new HashMap<String, List<String>>();
+        controlResultSet.put("ORDERTYPE", Arrays.asList("small", "@ignore@", "big"));
+        controlResultSet.put("STATUS", Arrays.asList("started", "NULL", "finished"));
+        executeSQLQueryAction.setControlResultSet(controlResultSet);
+
+        Map<String, String> extractVariables = new HashMap<String, String>();
+        extractVariables.put("STATUS", "status");
+        executeSQLQueryAction.setExtractVariables(extractVariables);
+
+        executeSQLQueryAction.execute(context);
+
+        verify(jdbcTemplate, never()).queryForList(anyString());
+        verify(connection).setAutoCommit(false);
+        verify(connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)).setFetchSize(50);
+        verify(connection).commit();
+        verify(connection).setAutoCommit(true);
+
+        Assert.assertEquals(context.getVariable("ORDERTYPE"), "small");
+        Assert.assertEquals(context.getVariable("STATUS"), "started");
+        Assert.assertEquals(context.getVariable("status"), "started;NULL;finished");
+    }
+
+    @Test
+    public void testStreamingResultSetValidationRowCountError() throws SQLException {
+        String sql = "select ORDERTYPE from orders where ID < 5";
+        reset(jdbcTemplate);
+
+        ResultSet resultSet = Mockito.mock(ResultSet.class);
+        ResultSetMetaData metaData = Mockito.mock(ResultSetMetaData.class);
+
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(metaData.getColumnLabel(1)).thenReturn("ORDERTYPE");
+        when(resultSet.getObject(1)).thenReturn("small", "medium");
+
+        when(resultSet.next()).thenReturn(true, true, false);
+        mockStreamingConnection(sql, resultSet);
+
+        executeSQLQueryAction.setStatements(Collections.singletonList(sql));
+        executeSQLQueryAction.setStreaming(true);
+        executeSQLQueryAction.setControlResultSet(Collections.singletonMap("ORDERTYPE", Collections.singletonList("small")));
+
+        try {
+            executeSQLQueryAction.execute(context);
+            Assert.fail("Missing validation exception due to row count mismatch");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Validation failed for column: 'ORDERTYPE' expected rows count: 1 but was 2");
+        }
+    }
+
+    /**
+     * Mocks database connection used by streaming query on jdbc template.
+     * @param sql
+     * @param resultSet
+     * @return
+     * @throws SQLException
+     */
+    private Connection mockStreamingConnection(String sql, ResultSet resultSet) throws SQLException {
+        final Connection connection = Mockito.mock(Connection.class);
+        PreparedStatement statement = Mockito.mock(PreparedStatement.class);
+
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+
+        doAnswer(new Answer<Object>() {
+            @Override
+            public Object answer(InvocationOnMock invocation) throws Throwable {
+                return ((ConnectionCallback) invocation.getArguments()[0]).doInConnection(connection);
+            }
+        }).when(jdbcTemplate).execute(any(ConnectionCallback.class));
+
+        return connection;
+    }
 }
@@ -25,6 +25,7 @@ import org.testng.annotations.Test;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -123,4 +124,62 @@ public class MessageSelectingQueueChannelTest {
         Assert.assertNull(receivedMessage);
         Assert.assertEquals(retries.get(), 4L);
     }
+
+    @Test
+    public void testReceiveSelectedSignalling() throws Exception {
+        final MessageSelectingQueueChannel channel = new MessageSelectingQueueChannel();
+        channel.setSignalling(true);
+
+        channel.send(MessageBuilder.withPayload("OtherMessage").setHeader("foo", "other").build());
+
+        Map<String, String> headers = new HashMap<String, String>();
+        headers.put("foo", "bar");
+
+        final AtomicLong evaluations = new AtomicLong();
+        final MessageSelector selector = new HeaderMatchingMessageSelector(headers) {
+            @Override
+            public boolean accept(Message<?> message) {
+                evaluations.incrementAndGet();
+                return super.accept(message);
+            }
+        };
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Message<?>> result = executor.submit(new Callable<Message<?>>() {
+                @Override
+                public Message<?> call() throws Exception {
+                    return channel.receive(selector, 5000L);
+                }
+            });
+
+            Thread.sleep(200L);
+            long start = System.currentTimeMillis();
+            channel.send(MessageBuilder.withPayload("FooMessage").setHeader("foo", "bar").build());
+
+            Message<?> receivedMessage = result.get(5000L, TimeUnit.MILLISECONDS);
+            Assert.assertTrue(System.currentTimeMillis() - start < 500L);
+
+            Assert.assertEquals(receivedMessage.getPayload(), "FooMessage");
+            Assert.assertEquals(evaluations.get(), 2L);
+            Assert.assertEquals(channel.getQueueSize(), 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testSignallingTimeout() {
+        MessageSelectingQueueChannel channel = new MessageSelectingQueueChannel();
+        channel.setSignalling(true);
+
+        channel.send(MessageBuilder.withPayload("FooMessage").setHeader("foos", "bars").build());
+
+        Map<String, String> headers = new HashMap<String, String>();
+        headers.put("foo", "bar");
+        MessageSelector selector = new HeaderMatchingMessageSelector(headers);
+
+        Assert.assertNull(channel.receive(selector, 200L));
+        Assert.assertEquals(channel.getQueueSize(), 1);
+    }
 }
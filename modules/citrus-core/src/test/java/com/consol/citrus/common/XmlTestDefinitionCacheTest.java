@@ -0,0 +1,109 @@
+/*
+ * Copyright 2006-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.common;
+
+import com.consol.citrus.TestCase;
+import com.consol.citrus.actions.EchoAction;
+import com.consol.citrus.container.Sequence;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import com.consol.citrus.util.FileUtils;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class XmlTestDefinitionCacheTest extends AbstractTestNGUnitTest {
+
+    private static final String TEST_FILE = "com/consol/citrus/common/XmlTestDefinitionCacheTest.xml";
+
+    @BeforeMethod
+    public void clearCache() {
+        XmlTestDefinitionCache.clear();
+    }
+
+    @Test
+    public void testEnabledByDefault() {
+        Assert.assertTrue(XmlTestDefinitionCache.isEnabled());
+    }
+
+    @Test
+    public void testNestedActionsNotShared() {
+        ApplicationContext firstContext = XmlTestDefinitionCache.createApplicationContext(TEST_FILE, new String[] {}, applicationContext);
+        TestCase first = firstContext.getBean("XmlTestDefinitionCacheTest", TestCase.class);
+
+        Sequence sequence = (Sequence) first.getTestAction(0);
+        ((EchoAction) sequence.getTestAction(0)).setMessage("Changed");
+        sequence.addTestAction(new EchoAction());
+
+        ApplicationContext secondContext = XmlTestDefinitionCache.createApplicationContext(TEST_FILE, new String[] {}, applicationContext);
+        TestCase second = secondContext.getBean("XmlTestDefinitionCacheTest", TestCase.class);
+
+        Assert.assertNotSame(second, first);
+        Assert.assertNotSame(second.getTestAction(0), sequence);
+
+        Sequence secondSequence = (Sequence) second.getTestAction(0);
+        Assert.assertEquals(secondSequence.getActionCount(), 1L);
+        Assert.assertEquals(((EchoAction) secondSequence.getTestAction(0)).getMessage(), "Hello Citrus!");
+    }
+
+    @Test
+    public void testImportedResourcesCached() {
+        XmlTestDefinitionCache.createApplicationContext(TEST_FILE, new String[] {}, applicationContext);
+        Assert.assertEquals(XmlTestDefinitionCache.size(), 2);
+
+        ApplicationContext cachedContext = XmlTestDefinitionCache.createApplicationContext(TEST_FILE, new String[] {}, applicationContext);
+        Assert.assertEquals(XmlTestDefinitionCache.size(), 2);
+
+        TestCase imported = cachedContext.getBean("XmlTestDefinitionCacheImportedTest", TestCase.class);
+        Assert.assertEquals(((EchoAction) imported.getTestAction(0)).getMessage(), "Hello imported!");
+    }
+
+    @Test
+    public void testChangedResourceReloaded() throws IOException {
+        String template = FileUtils.readToString(new ClassPathResource("XmlTestDefinitionCacheTest-import.xml", XmlTestDefinitionCacheTest.class));
+        File testDirectory = Files.createTempDirectory("citrus-test").toFile();
+        File testFile = new File(testDirectory, "XmlTestDefinitionCacheTest-generated.xml");
+
+        try {
+            FileUtils.writeToFile(template, testFile);
+
+            ApplicationContext firstContext = XmlTestDefinitionCache.createApplicationContext(new FileSystemResource(testFile),
+                    new Resource[] {}, applicationContext);
+            Assert.assertEquals(((EchoAction) firstContext.getBean("XmlTestDefinitionCacheImportedTest", TestCase.class).getTestAction(0)).getMessage(), "Hello imported!");
+
+            FileUtils.writeToFile(template.replace("Hello imported!", "Hello changed!"), testFile);
+
+            ApplicationContext secondContext = XmlTestDefinitionCache.createApplicationContext(new FileSystemResource(testFile),
+                    new Resource[] {}, applicationContext);
+            Assert.assertEquals(((EchoAction) secondContext.getBean("XmlTestDefinitionCacheImportedTest", TestCase.class).getTestAction(0)).getMessage(), "Hello changed!");
+            Assert.assertEquals(XmlTestDefinitionCache.size(), 1);
+        } finally {
+            testFile.delete();
+            testDirectory.delete();
+        }
+    }
+}
@@ -41,6 +41,7 @@ public class ExecuteSQLActionParserTest extends AbstractActionParserTest<Execute
         Assert.assertEquals(action.getStatements().get(0), "insert into foo_table values (foo, foo)");
         Assert.assertEquals(action.getStatements().get(1), "update foo_table set foo=foo where foo=foo");
         Assert.assertEquals(action.isIgnoreErrors(), false);
+        Assert.assertEquals(action.getBatchSize(), 0);
         
         // 2nd action
         action = getNextTestActionFromTest();
@@ -49,6 +50,7 @@ public class ExecuteSQLActionParserTest extends AbstractActionParserTest<Execute
         Assert.assertEquals(action.getSqlResourcePath(), "classpath:com/consol/citrus/actions/test-sql-statements.sql");
         Assert.assertEquals(action.getStatements().size(), 0);
         Assert.assertEquals(action.isIgnoreErrors(), true);
+        Assert.assertEquals(action.getBatchSize(), 100);
     }
     
     @Test
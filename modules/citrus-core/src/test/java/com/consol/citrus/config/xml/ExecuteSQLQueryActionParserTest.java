@@ -49,6 +49,7 @@ public class ExecuteSQLQueryActionParserTest extends AbstractActionParserTest<Ex
         Assert.assertEquals(action.getControlResultSet().get("C").get(0), "NULL");
         Assert.assertEquals(action.getControlResultSet().get("CNT_F").get(0), "${count}");
         Assert.assertNull(action.getScriptValidationContext());
+        Assert.assertFalse(action.isStreaming());
         Assert.assertEquals(action.getExtractVariables().size(), 0);
         
         // 2nd action
@@ -60,6 +61,7 @@ public class ExecuteSQLQueryActionParserTest extends AbstractActionParserTest<Ex
         Assert.assertEquals(action.getControlResultSet().size(), 1);
         Assert.assertEquals(action.getControlResultSet().get("foo").get(0), "1");
         Assert.assertNull(action.getScriptValidationContext());
+        Assert.assertFalse(action.isStreaming());
         Assert.assertEquals(action.getExtractVariables().size(), 0);
         
         // 3rd action
@@ -76,6 +78,8 @@ public class ExecuteSQLQueryActionParserTest extends AbstractActionParserTest<Ex
         Assert.assertEquals(action.getControlResultSet().get("B_COLUMN").get(0), "b");
         Assert.assertEquals(action.getControlResultSet().get("B_COLUMN").get(1), "NULL");
         Assert.assertNull(action.getScriptValidationContext());
+        Assert.assertTrue(action.isStreaming());
+        Assert.assertEquals(action.getFetchSize(), 500);
         Assert.assertEquals(action.getExtractVariables().size(), 2);
         Assert.assertEquals(action.getExtractVariables().get("A_COLUMN"), "a_values");
         Assert.assertEquals(action.getExtractVariables().get("B_COLUMN"), "b_values");
@@ -21,6 +21,7 @@ import org.testng.annotations.Test;
 
 import com.consol.citrus.actions.EchoAction;
 import com.consol.citrus.container.Parallel;
+import com.consol.citrus.container.ParallelExecutionStrategy;
 import com.consol.citrus.testng.AbstractActionParserTest;
 
 /**
@@ -30,13 +31,16 @@ public class ParallelParserTest extends AbstractActionParserTest<Parallel> {
 
     @Test
     public void testFailActionParser() {
-        assertActionCount(2);
+        assertActionCount(3);
         assertActionClassAndName(Parallel.class, "parallel");
         
         Parallel action = getNextTestActionFromTest();
         Assert.assertEquals(action.getActionCount(), 2);
         Assert.assertEquals(action.getActions().get(0).getClass(), EchoAction.class);
         Assert.assertEquals(action.getActions().get(1).getClass(), EchoAction.class);
+        Assert.assertEquals(action.getExecutionStrategy(), ParallelExecutionStrategy.THREAD);
+        Assert.assertEquals(action.getMaxConcurrency(), 0);
+        Assert.assertFalse(action.isFailFast());
         
         action = getNextTestActionFromTest();
         Assert.assertEquals(action.getActionCount(), 3);
@@ -44,5 +48,11 @@ public class ParallelParserTest extends AbstractActionParserTest<Parallel> {
         Assert.assertEquals(((Parallel)action.getActions().get(0)).getActionCount(), 2);
         Assert.assertEquals(action.getActions().get(1).getClass(), EchoAction.class);
         Assert.assertEquals(action.getActions().get(2).getClass(), EchoAction.class);
+
+        action = getNextTestActionFromTest();
+        Assert.assertEquals(action.getActionCount(), 2);
+        Assert.assertEquals(action.getExecutionStrategy(), ParallelExecutionStrategy.POOL);
+        Assert.assertEquals(action.getMaxConcurrency(), 2);
+        Assert.assertTrue(action.isFailFast());
     }
 }
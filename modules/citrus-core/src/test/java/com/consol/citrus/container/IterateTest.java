@@ -61,6 +61,9 @@ public class IterateTest extends AbstractTestNGUnitTest {
     public Object[][] expressionProvider() {
         return new Object[][] {
             new Object[] {"i lt= 5"},
+            new Object[] {"i lt=5"},
+            new Object[] {"(i=1)or(i lt=5)"},
+            new Object[] {"${i}=1 or ${i} lt=5"},
             new Object[] {"@assertThat(lessThanOrEqualTo(5))@"},
             new Object[] {"@assertThat('${i}', 'lessThanOrEqualTo(5)')@"}
         };
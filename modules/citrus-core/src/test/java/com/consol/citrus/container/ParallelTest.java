@@ -18,13 +18,17 @@ package com.consol.citrus.container;
 
 import com.consol.citrus.TestAction;
 import com.consol.citrus.actions.*;
+import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.mockito.Mockito;
 import org.testng.annotations.Test;
 
+import org.testng.Assert;
+
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.mockito.Mockito.*;
 
@@ -146,4 +150,91 @@ public class ParallelTest extends AbstractTestNGUnitTest {
 
         verify(action).execute(context);
     }
+
+    @Test
+    public void testPooledNestedParallelActions() {
+        Parallel parallelAction = new Parallel();
+        parallelAction.setExecutionStrategy(ParallelExecutionStrategy.POOL);
+
+        final AtomicInteger executions = new AtomicInteger();
+        List<TestAction> actionList = new ArrayList<TestAction>();
+        for (int i = 0; i < 10; i++) {
+            Parallel nested = new Parallel();
+            nested.setExecutionStrategy(ParallelExecutionStrategy.POOL);
+
+            List<TestAction> nestedActions = new ArrayList<TestAction>();
+            for (int j = 0; j < 10; j++) {
+                nestedActions.add(new AbstractTestAction() {
+                    @Override
+                    public void doExecute(TestContext context) {
+                        executions.incrementAndGet();
+                    }
+                });
+            }
+            nested.setActions(nestedActions);
+            actionList.add(nested);
+        }
+
+        parallelAction.setActions(actionList);
+        parallelAction.execute(context);
+
+        Assert.assertEquals(executions.get(), 100);
+    }
+
+    @Test
+    public void testMaxConcurrency() {
+        Parallel parallelAction = new Parallel();
+        parallelAction.setExecutionStrategy(ParallelExecutionStrategy.FORK_JOIN);
+        parallelAction.setMaxConcurrency(2);
+
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        List<TestAction> actionList = new ArrayList<TestAction>();
+        for (int i = 0; i < 6; i++) {
+            actionList.add(new AbstractTestAction() {
+                @Override
+                public void doExecute(TestContext context) {
+                    int current = running.incrementAndGet();
+                    synchronized (maxRunning) {
+                        maxRunning.set(Math.max(maxRunning.get(), current));
+                    }
+
+                    try {
+                        Thread.sleep(50L);
+                    } catch (InterruptedException e) {
+                        throw new CitrusRuntimeException(e);
+                    } finally {
+                        running.decrementAndGet();
+                    }
+                }
+            });
+        }
+
+        parallelAction.setActions(actionList);
+        parallelAction.execute(context);
+
+        Assert.assertTrue(maxRunning.get() <= 2);
+    }
+
+    @Test
+    public void testFailFast() {
+        Parallel parallelAction = new Parallel();
+        parallelAction.setMaxConcurrency(1);
+        parallelAction.setFailFast(true);
+
+        reset(action);
+
+        List<TestAction> actionList = new ArrayList<TestAction>();
+        actionList.add(new FailAction());
+        actionList.add(action);
+
+        parallelAction.setActions(actionList);
+
+        try {
+            parallelAction.execute(context);
+            Assert.fail("Missing exception due to failing action");
+        } catch (CitrusRuntimeException e) {
+            verify(action, never()).execute(context);
+        }
+    }
 }
@@ -57,6 +57,7 @@ public class RepeatOnErrorUntilTrueTest extends AbstractTestNGUnitTest {
     public Object[][] expressionProvider() {
         return new Object[][] {
                 new Object[] {"i = 5"},
+                new Object[] {"i=5"},
                 new Object[] {"@assertThat(is(5))@"},
                 new Object[] {"@assertThat('${i}', 'is(5)')@"}
         };
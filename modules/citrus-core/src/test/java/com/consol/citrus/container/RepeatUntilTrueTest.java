@@ -60,6 +60,9 @@ public class RepeatUntilTrueTest extends AbstractTestNGUnitTest {
     public Object[][] expressionProvider() {
         return new Object[][] {
                 new Object[] {"i = 5"},
+                new Object[] {"i=5"},
+                new Object[] {"(i=5)"},
+                new Object[] {"${i}=5"},
                 new Object[] {"@assertThat(is(5))@"},
                 new Object[] {"@assertThat('${i}', 'is(5)')@"}
         };
@@ -23,6 +23,7 @@ import com.consol.citrus.message.Message;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.support.ClassPathXmlApplicationContext;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
@@ -33,11 +34,13 @@ import org.testng.annotations.Test;
  */
 public class XmlTestExecutingEndpointAdapterTest extends AbstractTestNGUnitTest {
     private XmlTestExecutingEndpointAdapter endpointAdapter;
+    private XmlTestExecutingEndpointAdapter pooledEndpointAdapter;
 
     @BeforeClass
     public void loadContext() {
         ApplicationContext ctx = new ClassPathXmlApplicationContext(new String[] {"classpath:com/consol/citrus/endpoint/XmlTestExecutingEndpointAdapterTest-context.xml"}, applicationContext);
-        endpointAdapter = ctx.getBean(XmlTestExecutingEndpointAdapter.class);
+        endpointAdapter = ctx.getBean("testSimulator", XmlTestExecutingEndpointAdapter.class);
+        pooledEndpointAdapter = ctx.getBean("pooledTestSimulator", XmlTestExecutingEndpointAdapter.class);
     }
 
     /**
@@ -110,4 +113,35 @@ public class XmlTestExecutingEndpointAdapterTest extends AbstractTestNGUnitTest
             Assert.assertEquals(e.getMessage(), "Failed to load test case");
         }
     }
+
+    @Test
+    public void testRouteMessageWithCachedDefinitionsAndThreadPool() throws Exception {
+        Message response = pooledEndpointAdapter.handleMessage(
+                new DefaultMessage("<Test name=\"FooTest\"></Test>"));
+
+        Assert.assertEquals(response.getPayload(String.class).trim(), "<Test name=\"FooTest\">OK</Test>");
+
+        response = pooledEndpointAdapter.handleMessage(
+                new DefaultMessage("<Test name=\"FooTest\"></Test>"));
+
+        Assert.assertEquals(response.getPayload(String.class).trim(), "<Test name=\"FooTest\">OK</Test>");
+
+        XmlTestExecutingEndpointAdapter.ExecutionStatistics statistics = pooledEndpointAdapter.getStatistics("FooTest");
+        Assert.assertNotNull(statistics);
+        Assert.assertEquals(statistics.getSubmitted(), 2L);
+        Assert.assertEquals(statistics.getPending(), 0L);
+        Assert.assertEquals(statistics.getRejected(), 0L);
+        Assert.assertTrue(pooledEndpointAdapter.getTaskExecutor() instanceof ThreadPoolTaskExecutor);
+    }
+
+    @Test
+    public void testRouteMessageWithCachedDefinitionsAndBadHandlerConfiguration() throws Exception {
+        try {
+            pooledEndpointAdapter.handleMessage(new DefaultMessage(
+                    "<Test name=\"UNKNOWN_TEST\"></Test>"));
+            Assert.fail("Missing exception due to unknown endpoint adapter");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Failed to load test case");
+        }
+    }
 }
@@ -17,10 +17,13 @@
 package com.consol.citrus.message.correlation;
 
 import com.consol.citrus.channel.ChannelSyncEndpointConfiguration;
+import com.consol.citrus.context.TestContext;
 import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.concurrent.*;
+
 import static org.mockito.Mockito.*;
 
 
@@ -83,4 +86,57 @@ public class PollingCorrelationManagerTest {
         Assert.assertNull(correlationManager.find("foo"));
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testFindSignalledByStore() throws Exception {
+        ChannelSyncEndpointConfiguration pollableEndpointConfiguration = new ChannelSyncEndpointConfiguration();
+        pollableEndpointConfiguration.setPollingInterval(5000L);
+        pollableEndpointConfiguration.setTimeout(10000L);
+
+        final PollingCorrelationManager<String> correlationManager = new PollingCorrelationManager(pollableEndpointConfiguration, "Try again");
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> result = executor.submit(new Callable<String>() {
+                @Override
+                public String call() throws Exception {
+                    return correlationManager.find("foo");
+                }
+            });
+
+            Thread.sleep(200L);
+            long start = System.currentTimeMillis();
+            correlationManager.store("foo", "bar");
+
+            Assert.assertEquals(result.get(5000L, TimeUnit.MILLISECONDS), "bar");
+            Assert.assertTrue(System.currentTimeMillis() - start < 1000L);
+            Assert.assertNull(correlationManager.find("foo", 0L));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testGetCorrelationKeySignalled() throws Exception {
+        ChannelSyncEndpointConfiguration pollableEndpointConfiguration = new ChannelSyncEndpointConfiguration();
+        final PollingCorrelationManager<String> correlationManager = new PollingCorrelationManager(pollableEndpointConfiguration, "Try again");
+        final TestContext context = new TestContext();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> result = executor.submit(new Callable<String>() {
+                @Override
+                public String call() throws Exception {
+                    return correlationManager.getCorrelationKey("correlationKey", context);
+                }
+            });
+
+            Thread.sleep(100L);
+            correlationManager.saveCorrelationKey("correlationKey", "foo", context);
+
+            Assert.assertEquals(result.get(5000L, TimeUnit.MILLISECONDS), "foo");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -16,14 +16,18 @@
 
 package com.consol.citrus.report;
 
+import com.consol.citrus.Citrus;
 import com.consol.citrus.TestCase;
+import com.consol.citrus.context.TestContext;
 import com.consol.citrus.message.RawMessage;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.Scanner;
+import java.util.zip.GZIPInputStream;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -62,6 +66,112 @@ public class MessageTracingTestListenerTest {
         assertFileExistsWithContent(testname, outboundPayload);
     }
 
+    @Test
+    public void shouldContainMessagesAsynchronous() throws Exception {
+        String testname = "SomeAsyncDummyTest";
+        String inboundPayload = "Async Inbound Message";
+        String outboundPayload = "Async Outbound Message";
+
+        MessageTracingTestListener asyncTestling = new MessageTracingTestListener();
+        asyncTestling.setAsynchronous(true);
+        asyncTestling.setBufferSize(1);
+
+        TestCase testCaseMock = setupTestCaseMock(testname);
+        RawMessage inboundMessageMock = setupRawMessageMock(inboundPayload);
+        RawMessage outboundMessageMock = setupRawMessageMock(outboundPayload);
+
+        asyncTestling.afterPropertiesSet();
+        asyncTestling.onTestStart(testCaseMock);
+        asyncTestling.onInboundMessage(inboundMessageMock, null);
+        asyncTestling.onOutboundMessage(outboundMessageMock, null);
+        asyncTestling.onTestFinish(testCaseMock);
+        asyncTestling.destroy();
+
+        File traceFile = asyncTestling.getTraceFile(testname, false);
+        Assert.assertTrue(traceFile.isFile());
+        try (Scanner scanner = new Scanner(traceFile)) {
+            String fileContent = scanner.useDelimiter("\\Z").next();
+            Assert.assertTrue(fileContent.indexOf(inboundPayload) > -1);
+            Assert.assertTrue(fileContent.indexOf(outboundPayload) > -1);
+        }
+    }
+
+    @Test
+    public void shouldContainMessagesCompressed() throws Exception {
+        String testname = "SomeCompressedDummyTest";
+        String inboundPayload = "Compressed Inbound Message";
+
+        MessageTracingTestListener asyncTestling = new MessageTracingTestListener();
+        asyncTestling.setAsynchronous(true);
+        asyncTestling.setCompress(true);
+
+        TestCase testCaseMock = setupTestCaseMock(testname);
+        RawMessage inboundMessageMock = setupRawMessageMock(inboundPayload);
+
+        asyncTestling.afterPropertiesSet();
+        asyncTestling.onTestStart(testCaseMock);
+        asyncTestling.onInboundMessage(inboundMessageMock, null);
+        asyncTestling.onTestFinish(testCaseMock);
+        asyncTestling.destroy();
+
+        File traceFile = asyncTestling.getTraceFile(testname, true);
+        Assert.assertTrue(traceFile.isFile());
+        try (Scanner scanner = new Scanner(new GZIPInputStream(new FileInputStream(traceFile)))) {
+            String fileContent = scanner.useDelimiter("\\Z").next();
+            Assert.assertTrue(fileContent.indexOf(inboundPayload) > -1);
+        }
+    }
+
+    @Test
+    public void shouldCorrelateMessagesByTestContext() throws Exception {
+        String testname = "SomeThreadedDummyTest";
+        String inboundPayload = "Threaded Inbound Message";
+        String uncorrelatedPayload = "Uncorrelated Outbound Message";
+        String latePayload = "Late Inbound Message";
+        String repeatedPayload = "Repeated Inbound Message";
+
+        final MessageTracingTestListener asyncTestling = new MessageTracingTestListener();
+        asyncTestling.setAsynchronous(true);
+
+        TestCase testCaseMock = setupTestCaseMock(testname);
+        final RawMessage inboundMessageMock = setupRawMessageMock(inboundPayload);
+        final RawMessage uncorrelatedMessageMock = setupRawMessageMock(uncorrelatedPayload);
+
+        final TestContext context = new TestContext();
+        context.setVariable(Citrus.TEST_NAME_VARIABLE, testname);
+
+        asyncTestling.afterPropertiesSet();
+        asyncTestling.onTestStart(testCaseMock);
+
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                asyncTestling.onInboundMessage(inboundMessageMock, context);
+                asyncTestling.onOutboundMessage(uncorrelatedMessageMock, null);
+            }
+        });
+        thread.start();
+        thread.join();
+
+        asyncTestling.onTestFinish(testCaseMock);
+        asyncTestling.onInboundMessage(setupRawMessageMock(latePayload), context);
+
+        asyncTestling.onTestStart(testCaseMock);
+        asyncTestling.onInboundMessage(setupRawMessageMock(repeatedPayload), null);
+        asyncTestling.onTestFinish(testCaseMock);
+        asyncTestling.destroy();
+
+        File traceFile = asyncTestling.getTraceFile(testname, false);
+        Assert.assertTrue(traceFile.isFile());
+        try (Scanner scanner = new Scanner(traceFile)) {
+            String fileContent = scanner.useDelimiter("\\Z").next();
+            Assert.assertTrue(fileContent.indexOf(inboundPayload) > -1);
+            Assert.assertTrue(fileContent.indexOf(repeatedPayload) > -1);
+            Assert.assertEquals(fileContent.indexOf(uncorrelatedPayload), -1);
+            Assert.assertEquals(fileContent.indexOf(latePayload), -1);
+        }
+    }
+
     private TestCase setupTestCaseMock(String testname) {
         TestCase mock = mock(TestCase.class);
         when(mock.getName()).thenReturn(testname);
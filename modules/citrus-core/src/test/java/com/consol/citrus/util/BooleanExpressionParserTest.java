@@ -56,6 +56,40 @@ public class BooleanExpressionParserTest {
         Assert.assertFalse(BooleanExpressionParser.evaluate("false = true"));
     }
     
+    @Test
+    public void testCompiledExpressionWithVariables() {
+        BooleanExpressionParser.CompiledExpression expression = BooleanExpressionParser.compile("(i lt 5) and (i gt= j)", "i", "j");
+
+        Assert.assertTrue(expression.evaluate("3", "1"));
+        Assert.assertTrue(expression.evaluate("4", "4"));
+        Assert.assertFalse(expression.evaluate("5", "1"));
+        Assert.assertFalse(expression.evaluate("2", "3"));
+
+        Assert.assertSame(BooleanExpressionParser.compile("(i lt 5) and (i gt= j)", "i", "j"), expression);
+        Assert.assertNotSame(BooleanExpressionParser.compile("(i lt 5) and (i gt= j)", "j", "i"), expression);
+
+        Assert.assertTrue(BooleanExpressionParser.compile("(10 gt= index)", "index").evaluate("10"));
+        Assert.assertFalse(BooleanExpressionParser.compile("index = 10", "index").evaluate("1"));
+    }
+
+    @Test
+    public void testCompiledExpressionWithoutSpaces() {
+        Assert.assertTrue(BooleanExpressionParser.compile("i=5", "i").evaluate("5"));
+        Assert.assertFalse(BooleanExpressionParser.compile("i=5", "i").evaluate("4"));
+        Assert.assertTrue(BooleanExpressionParser.compile("5=i", "i").evaluate("5"));
+        Assert.assertTrue(BooleanExpressionParser.compile("i lt=j", "i", "j").evaluate("2", "2"));
+        Assert.assertTrue(BooleanExpressionParser.compile("(i=1)or(i gt=3)", "i").evaluate("3"));
+        Assert.assertFalse(BooleanExpressionParser.compile("(i=1)or(i gt=3)", "i").evaluate("2"));
+        Assert.assertTrue(BooleanExpressionParser.evaluate("true=true"));
+
+        try {
+            BooleanExpressionParser.compile("i<3", "i");
+            Assert.fail("Missing exception due to unknown operator");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getLocalizedMessage(), "Unknown operator '<'");
+        }
+    }
+
     @Test
     public void testExpressionParserWithUnknownOperator() {
         try {
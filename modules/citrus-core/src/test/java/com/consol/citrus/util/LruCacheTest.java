@@ -0,0 +1,73 @@
+/*
+ * Copyright 2006-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class LruCacheTest {
+
+    @Test
+    public void testMaxSize() {
+        LruCache<String, String> cache = new LruCache<String, String>(2);
+
+        cache.put("a", "1");
+        cache.put("b", "2");
+        Assert.assertEquals(cache.get("a"), "1");
+
+        cache.put("c", "3");
+        Assert.assertEquals(cache.size(), 2);
+        Assert.assertNull(cache.get("b"));
+        Assert.assertEquals(cache.get("a"), "1");
+        Assert.assertEquals(cache.get("c"), "3");
+        Assert.assertEquals(cache.getWeight(), 0L);
+    }
+
+    @Test
+    public void testMaxWeight() {
+        LruCache<String, String> cache = new LruCache<String, String>(100, 10L) {
+            @Override
+            protected long weigh(String key, String value) {
+                return value.length();
+            }
+        };
+
+        cache.put("a", "1234");
+        cache.put("b", "1234");
+        Assert.assertEquals(cache.getWeight(), 8L);
+
+        cache.put("b", "12");
+        Assert.assertEquals(cache.getWeight(), 6L);
+
+        cache.put("c", "123456");
+        Assert.assertEquals(cache.size(), 2);
+        Assert.assertNull(cache.get("a"));
+        Assert.assertEquals(cache.getWeight(), 8L);
+
+        cache.put("d", "12345678901");
+        Assert.assertEquals(cache.size(), 0);
+        Assert.assertEquals(cache.getWeight(), 0L);
+
+        cache.put("e", "1");
+        cache.clear();
+        Assert.assertEquals(cache.size(), 0);
+        Assert.assertEquals(cache.getWeight(), 0L);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2006-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.util;
+
+import net.minidev.json.parser.ParseException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+
+import java.util.Map;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class ParsedPayloadCacheTest {
+
+    private static final String XML_PAYLOAD = "<ns0:testRequest xmlns:ns0=\"http://citrusframework.org/test\"><ns0:message>Hello</ns0:message></ns0:testRequest>";
+    private static final String JSON_PAYLOAD = "{\"text\":\"Hello World!\", \"index\":5}";
+
+    @Test
+    public void testCacheScope() throws ParseException {
+        Assert.assertFalse(ParsedPayloadCache.isActive());
+        Assert.assertNotSame(ParsedPayloadCache.getDocument(XML_PAYLOAD), ParsedPayloadCache.getDocument(XML_PAYLOAD));
+
+        Assert.assertTrue(ParsedPayloadCache.begin());
+        try {
+            Assert.assertFalse(ParsedPayloadCache.begin());
+
+            Document document = ParsedPayloadCache.getDocument(XML_PAYLOAD);
+            Assert.assertSame(ParsedPayloadCache.getDocument(new String(XML_PAYLOAD)), document);
+            Assert.assertNotSame(ParsedPayloadCache.getDocumentCopy(XML_PAYLOAD), document);
+            Assert.assertEquals(ParsedPayloadCache.getDocumentCopy(XML_PAYLOAD).getFirstChild().getLocalName(), "testRequest");
+
+            Object json = ParsedPayloadCache.getJson(JSON_PAYLOAD);
+            Assert.assertSame(ParsedPayloadCache.getJson(JSON_PAYLOAD), json);
+        } finally {
+            ParsedPayloadCache.end();
+        }
+
+        Assert.assertFalse(ParsedPayloadCache.isActive());
+    }
+
+    @Test
+    public void testNamespaces() {
+        ParsedPayloadCache.begin();
+        try {
+            Map<String, String> namespaces = ParsedPayloadCache.getNamespaces(XML_PAYLOAD);
+            Assert.assertEquals(namespaces.get("ns0"), "http://citrusframework.org/test");
+
+            namespaces.put("ns1", "http://citrusframework.org/other");
+            Assert.assertEquals(ParsedPayloadCache.getNamespaces(XML_PAYLOAD).size(), 1L);
+        } finally {
+            ParsedPayloadCache.end();
+        }
+    }
+}
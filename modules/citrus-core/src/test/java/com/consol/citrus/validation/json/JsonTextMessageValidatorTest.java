@@ -404,4 +404,97 @@ public class JsonTextMessageValidatorTest extends AbstractTestNGUnitTest {
             Assert.assertTrue(e.getMessage().contains("expected 'x123456789x' but was 'null'"));
         }
     }
+
+    @Test
+    public void testStreamingJsonValidation() {
+        JsonTextMessageValidator validator = new JsonTextMessageValidator().streaming(true);
+
+        Message receivedMessage = new DefaultMessage("{\"greetings\":[" +
+                "{\"text\":\"Hello World!\", \"index\":1}, " +
+                "{\"text\":\"Hallo Welt!\", \"index\":2}], " +
+                "\"person\":{\"name\":\"John\",\"surname\":\"Doe\", \"age\":42.0}, \"id\":\"x123456789x\", \"active\":true, \"none\":null}");
+        Message controlMessage = new DefaultMessage("{\"greetings\":[" +
+                "{\"text\":\"Hello World!\", \"index\":1}, " +
+                "{\"text\":\"Hallo Welt!\", \"index\":2}], " +
+                "\"person\":{\"name\":\"John\",\"surname\":\"@ignore@\", \"age\":42.0}, \"id\":\"@startsWith('x123')@\", \"active\":true, \"none\":null}");
+
+        JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
+        validator.validateMessagePayload(receivedMessage, controlMessage, validationContext, context);
+
+        receivedMessage = new DefaultMessage("[" +
+                "{\"text\":\"Hello World!\", \"index\":1}, " +
+                "{\"text\":\"Hallo Welt!\", \"index\":2}]");
+        controlMessage = new DefaultMessage("[" +
+                "{\"text\":\"Hello World!\", \"index\":1}, " +
+                "{\"text\":\"Hallo Welt!\", \"index\":2}]");
+
+        validator.validateMessagePayload(receivedMessage, controlMessage, validationContext, context);
+    }
+
+    @Test
+    public void testStreamingSloppyJsonValidation() {
+        JsonTextMessageValidator validator = new JsonTextMessageValidator().strict(false).streaming(true);
+
+        Message receivedMessage = new DefaultMessage("{\"text\":\"Hello World!\", \"person\":{\"name\":\"John\",\"surname\":\"Doe\"}, \"index\":5, \"id\":\"x123456789x\"}");
+        Message controlMessage = new DefaultMessage("{\"id\":\"x123456789x\"}");
+
+        JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
+        validator.validateMessagePayload(receivedMessage, controlMessage, validationContext, context);
+    }
+
+    @Test
+    public void testStreamingJsonValidationIgnoreExpressions() {
+        JsonTextMessageValidator validator = new JsonTextMessageValidator().streaming(true);
+
+        Message receivedMessage = new DefaultMessage("{\"greetings\":[" +
+                "{\"text\":\"Hello World!\", \"index\":1}, " +
+                "{\"text\":\"Hallo Welt!\", \"index\":2}], " +
+                "\"person\":{\"name\":\"John\",\"surname\":\"Doe\"}, \"id\":\"x123456789x\"}");
+        Message controlMessage = new DefaultMessage("{\"greetings\":[" +
+                "{\"text\":\"?\", \"index\":1}, " +
+                "{\"text\":\"?\", \"index\":2}], " +
+                "\"person\":{\"name\":\"John\",\"surname\":\"?\"}, \"id\":\"?\"}");
+
+        JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
+        validationContext.getIgnoreExpressions().add("$.greetings[*].text");
+        validationContext.getIgnoreExpressions().add("$.person['surname']");
+        validationContext.getIgnoreExpressions().add("$..id");
+        validator.validateMessagePayload(receivedMessage, controlMessage, validationContext, context);
+    }
+
+    @Test
+    public void testStreamingJsonValidationError() {
+        JsonTextMessageValidator validator = new JsonTextMessageValidator().streaming(true);
+
+        Message receivedMessage = new DefaultMessage("{\"text\":\"Hello World!\", \"person\":{\"name\":\"John\",\"surname\":\"Doe\"}, \"index\":5}");
+        Message controlMessage = new DefaultMessage("{\"text\":\"Hello World!\", \"person\":{\"name\":\"Jane\",\"surname\":\"Doe\"}, \"index\":5}");
+
+        JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
+        try {
+            validator.validateMessagePayload(receivedMessage, controlMessage, validationContext, context);
+            Assert.fail("Missing validation exception due to wrong value");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getMessage().contains("expected 'Jane' but was 'John'"));
+        }
+
+        receivedMessage = new DefaultMessage("{\"text\":\"Hello World!\", \"index\":5.0}");
+        controlMessage = new DefaultMessage("{\"text\":\"Hello World!\", \"index\":5}");
+
+        try {
+            validator.validateMessagePayload(receivedMessage, controlMessage, validationContext, context);
+            Assert.fail("Missing validation exception due to wrong value");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getMessage().contains("Values not equal for entry: 'index'"));
+        }
+
+        receivedMessage = new DefaultMessage("{\"text\":\"Hello World!\"}");
+        controlMessage = new DefaultMessage("{\"text\":\"Hello World!\", \"index\":5}");
+
+        try {
+            validator.strict(false).validateMessagePayload(receivedMessage, controlMessage, validationContext, context);
+            Assert.fail("Missing validation exception due to missing entry");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getCause().getMessage().contains("Missing JSON entry"));
+        }
+    }
 }
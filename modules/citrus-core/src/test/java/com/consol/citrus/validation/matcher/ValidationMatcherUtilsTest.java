@@ -16,8 +16,10 @@
 
 package com.consol.citrus.validation.matcher;
 
+import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.Arrays;
@@ -55,4 +57,28 @@ public class ValidationMatcherUtilsTest extends AbstractTestNGUnitTest {
         verify(validationMatcher, times(3)).validate("field", "value", Arrays.asList("value"), context);
         verify(validationMatcher).validate("field", "prefix:value", Arrays.asList("prefix:value"), context);
     }
+
+    @Test
+    public void testCompiledValidationMatcherCache() {
+        CompiledValidationMatcher.clearCache();
+
+        context.setVariable("pattern", "[a-z]+");
+
+        ValidationMatcherUtils.resolveValidationMatcher("field", "value", "@matches('${pattern}')@", context);
+        ValidationMatcherUtils.resolveValidationMatcher("field", "other", "@matches('${pattern}')@", context);
+        ValidationMatcherUtils.resolveValidationMatcher("field", "2016-01-01", "@matchesDatePattern('yyyy-MM-dd')@", context);
+
+        Assert.assertEquals(CompiledValidationMatcher.getCache().size(), 2);
+        Assert.assertEquals(CompiledValidationMatcher.getCache().getHits(), 1L);
+        Assert.assertSame(CompiledValidationMatcher.forExpression("@matches('${pattern}')@"),
+                CompiledValidationMatcher.forExpression("@matches('${pattern}')@"));
+
+        context.setVariable("pattern", "[0-9]+");
+        try {
+            ValidationMatcherUtils.resolveValidationMatcher("field", "value", "@matches('${pattern}')@", context);
+            Assert.fail("Missing validation exception for changed pattern variable");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getMessage().contains("[0-9]+"));
+        }
+    }
 }
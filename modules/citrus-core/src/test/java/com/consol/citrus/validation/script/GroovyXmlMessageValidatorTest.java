@@ -22,6 +22,7 @@ import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.script.ScriptTypes;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import com.consol.citrus.util.ParsedPayloadCache;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -57,6 +58,25 @@ public class GroovyXmlMessageValidatorTest extends AbstractTestNGUnitTest {
         validator.validateMessage(message, new DefaultMessage(), context, validationContext);
     }
     
+    @Test
+    public void testGroovyScriptValidationCachedPayload() throws ValidationException {
+        String validationScript = "assert root.children().size() == 3 \n" +
+                        "assert root.@Id == '123456789' \n" +
+                        "assert root.CorrelationId.text() == 'Kx1R123456789' \n" +
+                        "assert root.Text.text() == 'Hello TestFramework'";
+
+        ScriptValidationContext validationContext = new ScriptValidationContext(ScriptTypes.GROOVY);
+        validationContext.setValidationScript(validationScript);
+
+        ParsedPayloadCache.begin();
+        try {
+            ParsedPayloadCache.getDocument(message.getPayload(String.class));
+            validator.validateMessage(message, new DefaultMessage(), context, validationContext);
+        } finally {
+            ParsedPayloadCache.end();
+        }
+    }
+
     @Test
     public void testGroovyScriptValidationVariableSupport() {
         context.setVariable("user", "TestFramework");
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2006-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.variable;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class CompiledTemplateTest extends AbstractTestNGUnitTest {
+
+    @Test
+    public void testCompileVariables() {
+        CompiledTemplate template = CompiledTemplate.compileVariables("Hello ${user}, you have ${count} new messages");
+
+        Assert.assertEquals(template.getSegments().size(), 5);
+        Assert.assertFalse(template.isStaticContent());
+
+        context.setVariable("user", "Citrus");
+        context.setVariable("count", "5");
+        Assert.assertEquals(template.resolveSegments(context, false), "Hello Citrus, you have 5 new messages");
+        Assert.assertEquals(template.resolveSegments(context, true), "Hello 'Citrus', you have '5' new messages");
+
+        context.setVariable("count", "0");
+        Assert.assertEquals(template.resolveSegments(context, false), "Hello Citrus, you have 0 new messages");
+    }
+
+    @Test
+    public void testCompileStaticContent() {
+        CompiledTemplate template = CompiledTemplate.compileVariables("No variables at all");
+
+        Assert.assertEquals(template.getSegments().size(), 1);
+        Assert.assertTrue(template.isStaticContent());
+        Assert.assertEquals(template.resolveSegments(context, false), "No variables at all");
+    }
+
+    @Test
+    public void testResolveFunctions() {
+        context.setVariable("name", "citrus");
+
+        Assert.assertEquals(CompiledTemplate.forString("Hello citrus:upperCase('foo')!").resolve(context, false), "Hello FOO!");
+        Assert.assertEquals(CompiledTemplate.forString("Hello citrus:upperCase('${name}')!").resolve(context, false), "Hello CITRUS!");
+        Assert.assertEquals(CompiledTemplate.forString("citrus:concat('a', 'b')").resolve(context, true), "'ab'");
+    }
+
+    @Test
+    public void testCompileFunctionsAroundVariables() {
+        CompiledTemplate template = CompiledTemplate.compileVariables("${greeting} citrus:upperCase('${name}') and ${other}!");
+        CompiledTemplate functionTemplate = CompiledTemplate.compileFunctions(template.getSegments(), "citrus:");
+
+        Assert.assertEquals(functionTemplate.getSegments().size(), 6);
+        Assert.assertEquals(functionTemplate.getSegments().get(2).getClass().getSimpleName(), "FunctionSegment");
+
+        context.setVariable("greeting", "Hello");
+        context.setVariable("name", "citrus");
+        context.setVariable("other", "foo");
+        Assert.assertEquals(functionTemplate.resolveSegments(context, false), "Hello CITRUS and foo!");
+        Assert.assertEquals(CompiledTemplate.forString("${greeting} citrus:upperCase('${name}') and ${other}!").resolve(context, false), "Hello CITRUS and foo!");
+        Assert.assertEquals(CompiledTemplate.forString("${greeting} citrus:concat(${name}, '_x')").resolve(context, true), "'Hello' 'citrus_x'");
+    }
+
+    @Test
+    public void testResolveFunctionInVariableValue() {
+        context.getVariables().put("function", "citrus:upperCase('foo')");
+
+        Assert.assertEquals(CompiledTemplate.forString("Value: ${function}").resolve(context, false), "Value: FOO");
+        Assert.assertEquals(CompiledTemplate.forString("Value: ${function}").resolve(context, true), "Value: ''FOO''");
+    }
+
+    @Test
+    public void testTemplateCache() {
+        String templateString = "Cached ${cachedVariable} template";
+        context.setVariable("cachedVariable", "foo");
+
+        CompiledTemplate template = CompiledTemplate.forString(templateString);
+        Assert.assertSame(CompiledTemplate.forString(new String(templateString)), template);
+        Assert.assertEquals(context.replaceDynamicContentInString(templateString), "Cached foo template");
+    }
+
+    @Test
+    public void testLargeTemplateCached() {
+        StringBuilder templateString = new StringBuilder("Large ${largeVariable} template");
+        while (templateString.length() <= 8192) {
+            templateString.append(" with some more content");
+        }
+
+        context.setVariable("largeVariable", "foo");
+
+        CompiledTemplate template = CompiledTemplate.forString(templateString.toString());
+        Assert.assertSame(CompiledTemplate.forString(templateString.toString()), template);
+        Assert.assertTrue(CompiledTemplate.getCache().getWeight() >= templateString.length());
+        Assert.assertTrue(context.replaceDynamicContentInString(templateString.toString()).startsWith("Large foo template"));
+    }
+
+    @Test
+    public void testStaticContentNotCached() {
+        String staticContent = "Static content without placeholders " + System.nanoTime();
+
+        int cacheSize = CompiledTemplate.getCache().size();
+        Assert.assertFalse(CompiledTemplate.isDynamic(staticContent));
+        Assert.assertSame(context.replaceDynamicContentInString(staticContent), staticContent);
+        Assert.assertEquals(CompiledTemplate.forString(staticContent).resolve(context, false), staticContent);
+        Assert.assertEquals(CompiledTemplate.getCache().size(), cacheSize);
+
+        Assert.assertTrue(CompiledTemplate.isDynamic("Hello ${name}"));
+        Assert.assertTrue(CompiledTemplate.isDynamic("citrus:upperCase('foo')"));
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testUnknownVariable() {
+        CompiledTemplate.forString("Hello ${unknown}").resolve(context, false);
+    }
+}
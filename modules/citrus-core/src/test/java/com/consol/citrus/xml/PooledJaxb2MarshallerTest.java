@@ -0,0 +1,142 @@
+/*
+ * Copyright 2006-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.xml;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.oxm.MarshallingFailureException;
+import org.springframework.oxm.UnmarshallingFailureException;
+import org.springframework.xml.transform.StringResult;
+import org.springframework.xml.transform.StringSource;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import javax.xml.bind.Unmarshaller;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class PooledJaxb2MarshallerTest {
+
+    @Test
+    public void testSharedContext() {
+        PooledJaxb2Marshaller marshaller1 = new PooledJaxb2Marshaller(null, Greeting.class);
+        PooledJaxb2Marshaller marshaller2 = new PooledJaxb2Marshaller(null, Greeting.class);
+
+        Assert.assertSame(marshaller1.getJaxbContext(), marshaller2.getJaxbContext());
+        Assert.assertSame(JaxbContextRegistry.getContext(null, Greeting.class).getJaxbContext(), marshaller1.getJaxbContext());
+    }
+
+    @Test
+    public void testMarshalUnmarshal() {
+        PooledJaxb2Marshaller marshaller = new PooledJaxb2Marshaller(null, Greeting.class);
+
+        Greeting greeting = new Greeting();
+        greeting.setText("Hello Citrus!");
+
+        StringResult result = new StringResult();
+        marshaller.marshal(greeting, result);
+        Assert.assertTrue(result.toString().contains("<greeting><text>Hello Citrus!</text></greeting>"));
+
+        for (int i = 0; i < 3; i++) {
+            Greeting unmarshalled = (Greeting) marshaller.unmarshal(new StringSource(result.toString()));
+            Assert.assertEquals(unmarshalled.getText(), "Hello Citrus!");
+        }
+    }
+
+    @Test
+    public void testSchemaValidation() {
+        PooledJaxb2Marshaller marshaller = new PooledJaxb2Marshaller(new ClassPathResource("com/consol/citrus/xml/PooledJaxb2MarshallerTest.xsd"), Greeting.class);
+        String payload = "<greeting><text>Hello Citrus!</text></greeting>";
+
+        try {
+            marshaller.unmarshal(new StringSource(payload));
+            Assert.fail("Missing schema validation error");
+        } catch (UnmarshallingFailureException e) {
+            Assert.assertTrue(marshaller.isSchemaValidation());
+        }
+
+        marshaller.setSchemaValidation(false);
+        Assert.assertEquals(((Greeting) marshaller.unmarshal(new StringSource(payload))).getText(), "Hello Citrus!");
+
+        Greeting greeting = new Greeting();
+        greeting.setText("Hello Citrus!");
+
+        StringResult result = new StringResult();
+        marshaller.marshal(greeting, result);
+        Assert.assertTrue(result.toString().contains("<text>Hello Citrus!</text>"));
+
+        marshaller.setSchemaValidation(true);
+        try {
+            marshaller.marshal(greeting, new StringResult());
+            Assert.fail("Missing schema validation error");
+        } catch (MarshallingFailureException e) {
+            Assert.assertTrue(marshaller.isSchemaValidation());
+        }
+    }
+
+    @Test
+    public void testMarshallerSettings() {
+        PooledJaxb2Marshaller formatted = new PooledJaxb2Marshaller(null, Greeting.class);
+        formatted.setMarshallerProperties(Collections.<String, Object>singletonMap(javax.xml.bind.Marshaller.JAXB_FORMATTED_OUTPUT, true));
+
+        final AtomicInteger unmarshalled = new AtomicInteger();
+        formatted.setUnmarshallerListener(new Unmarshaller.Listener() {
+            @Override
+            public void afterUnmarshal(Object target, Object parent) {
+                unmarshalled.incrementAndGet();
+            }
+        });
+
+        PooledJaxb2Marshaller plain = new PooledJaxb2Marshaller(null, Greeting.class);
+
+        Greeting greeting = new Greeting();
+        greeting.setText("Hello Citrus!");
+
+        StringResult formattedResult = new StringResult();
+        formatted.marshal(greeting, formattedResult);
+        Assert.assertTrue(formattedResult.toString().matches("(?s).*<greeting>\\s+<text>Hello Citrus!</text>\\s+</greeting>.*"));
+
+        StringResult plainResult = new StringResult();
+        plain.marshal(greeting, plainResult);
+        Assert.assertTrue(plainResult.toString().contains("<greeting><text>Hello Citrus!</text></greeting>"));
+
+        formatted.unmarshal(new StringSource(plainResult.toString()));
+        Assert.assertTrue(unmarshalled.get() > 0);
+
+        int count = unmarshalled.get();
+        plain.unmarshal(new StringSource(plainResult.toString()));
+        Assert.assertEquals(unmarshalled.get(), count);
+    }
+
+    @XmlRootElement(name = "greeting")
+    public static class Greeting {
+        private String text;
+
+        @XmlElement
+        public String getText() {
+            return text;
+        }
+
+        public void setText(String text) {
+            this.text = text;
+        }
+    }
+}
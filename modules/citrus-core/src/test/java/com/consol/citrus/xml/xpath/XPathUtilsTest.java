@@ -19,8 +19,11 @@ package com.consol.citrus.xml.xpath;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.consol.citrus.util.XMLUtils;
+import org.springframework.xml.namespace.SimpleNamespaceContext;
 import org.testng.Assert;
 import org.testng.annotations.Test;
+import org.w3c.dom.Document;
 
 /**
  * @author Christoph Deppisch
@@ -69,4 +72,22 @@ public class XPathUtilsTest {
         Assert.assertEquals(XPathUtils.replaceDynamicNamespaces("//{http://citrusframework.org/unkown}Foo/{http://citrusframework.org/unknown}bar", namespaces),
                 "//{http://citrusframework.org/unkown}Foo/{http://citrusframework.org/unknown}bar");
     }
+
+    @Test(invocationCount = 20, threadPoolSize = 5)
+    public void testEvaluateConcurrent() {
+        Document doc = XMLUtils.parseMessagePayload("<ns:Foo xmlns:ns=\"http://citrusframework.org/foo\"><ns:bar>Hello</ns:bar><ns:count>2</ns:count></ns:Foo>");
+
+        SimpleNamespaceContext namespaceContext = new SimpleNamespaceContext();
+        namespaceContext.bindNamespaceUri("foo", "http://citrusframework.org/foo");
+
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(XPathUtils.evaluateAsString(doc, "/foo:Foo/foo:bar", namespaceContext), "Hello");
+            Assert.assertEquals(XPathUtils.evaluateAsNumber(doc, "/foo:Foo/foo:count", namespaceContext), 2.0D);
+            Assert.assertTrue(XPathUtils.evaluateAsBoolean(doc, "count(/foo:Foo/foo:bar) = 1", namespaceContext));
+        }
+
+        SimpleNamespaceContext otherContext = new SimpleNamespaceContext();
+        otherContext.bindNamespaceUri("foo", "http://citrusframework.org/other");
+        Assert.assertEquals(XPathUtils.evaluateAsNodeList(doc, "/foo:Foo/foo:bar", otherContext).getLength(), 0);
+    }
 }
@@ -28,24 +28,30 @@ import com.consol.citrus.message.correlation.PollingCorrelationManager;
 import com.consol.citrus.messaging.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.http.*;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.util.CollectionUtils;
-import org.springframework.web.client.DefaultResponseErrorHandler;
-import org.springframework.web.client.ResponseErrorHandler;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureCallback;
+import org.springframework.web.client.*;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Http client sends messages via Http protocol to some Http server instance, defined by a request endpoint url. Synchronous response
  * messages are cached in local memory and receive operations are able to fetch responses from this cache later on.
  *
+ * In asynchronous mode send operations do not wait for the response. Responses are added to the local cache as soon as they
+ * arrive so many requests can be in flight at the same time.
+ *
  * @author Christoph Deppisch
  * @since 1.4
  */
-public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsumer {
+public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsumer, DisposableBean {
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(HttpClient.class);
 
@@ -113,6 +119,11 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
 
         HttpEntity<?> requestEntity = getEndpointConfiguration().getMessageConverter().convertOutbound(httpMessage, getEndpointConfiguration(), context);
 
+        if (getEndpointConfiguration().isAsynchronous()) {
+            sendAsync(httpMessage, endpointUri, method, requestEntity, correlationKey, context);
+            return;
+        }
+
         getEndpointConfiguration().getRestTemplate().setErrorHandler(new InternalResponseErrorHandler(correlationKey, context));
         ResponseEntity<?> response = getEndpointConfiguration().getRestTemplate().exchange(endpointUri, method, requestEntity, String.class);
 
@@ -121,6 +132,75 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
         correlationManager.store(correlationKey, getEndpointConfiguration().getMessageConverter().convertInbound(response, getEndpointConfiguration(), context));
     }
 
+    /**
+     * Sends request with async rest template. Method returns immediately and the response is stored with the
+     * correlation key as soon as it arrives. Errors are stored as well and raised on the next receive operation.
+     * @param httpMessage
+     * @param endpointUri
+     * @param method
+     * @param requestEntity
+     * @param correlationKey
+     * @param context
+     */
+    private void sendAsync(HttpMessage httpMessage, final String endpointUri, HttpMethod method, HttpEntity<?> requestEntity,
+                           final String correlationKey, final TestContext context) {
+        if (context.getMessageListeners() != null) {
+            context.getMessageListeners().onOutboundMessage(httpMessage, context);
+        }
+
+        ListenableFuture<ResponseEntity<String>> future = getEndpointConfiguration().getAsyncRestTemplate()
+                .exchange(endpointUri, method, requestEntity, String.class);
+
+        log.info("HTTP message was sent asynchronously to endpoint: '" + endpointUri + "'");
+
+        future.addCallback(new ListenableFutureCallback<ResponseEntity<String>>() {
+            @Override
+            public void onSuccess(ResponseEntity<String> response) {
+                storeAsyncResponse(correlationKey, getEndpointConfiguration().getMessageConverter().convertInbound(
+                        response, getEndpointConfiguration(), context), context);
+            }
+
+            @Override
+            public void onFailure(Throwable error) {
+                Throwable cause = error instanceof ExecutionException && error.getCause() != null ? error.getCause() : error;
+
+                boolean propagate = getEndpointConfiguration().getErrorHandlingStrategy().equals(ErrorHandlingStrategy.PROPAGATE);
+                if (propagate && cause instanceof HttpStatusCodeException) {
+                    HttpStatusCodeException statusCodeError = (HttpStatusCodeException) cause;
+                    storeAsyncResponse(correlationKey, getEndpointConfiguration().getMessageConverter().convertInbound(
+                            new ResponseEntity<>(statusCodeError.getResponseBodyAsString(), statusCodeError.getResponseHeaders(),
+                                    statusCodeError.getStatusCode()), getEndpointConfiguration(), context), context);
+                } else if (propagate && cause instanceof UnknownHttpStatusCodeException) {
+                    UnknownHttpStatusCodeException unknownStatusError = (UnknownHttpStatusCodeException) cause;
+                    HttpMessage responseMessage = getEndpointConfiguration().getMessageConverter().convertInbound(
+                            new HttpEntity<>(unknownStatusError.getResponseBodyAsString(), unknownStatusError.getResponseHeaders()),
+                            getEndpointConfiguration(), context);
+                    responseMessage.statusCode(unknownStatusError.getRawStatusCode());
+                    responseMessage.reasonPhrase(unknownStatusError.getStatusText());
+                    responseMessage.version("HTTP/1.1");
+                    storeAsyncResponse(correlationKey, responseMessage, context);
+                } else {
+                    log.warn("Failed to send HTTP message asynchronously to endpoint: '" + endpointUri + "'", cause);
+                    correlationManager.store(correlationKey, new DefaultMessage(cause));
+                }
+            }
+        });
+    }
+
+    /**
+     * Stores response message that arrived asynchronously.
+     * @param correlationKey
+     * @param responseMessage
+     * @param context
+     */
+    private void storeAsyncResponse(String correlationKey, HttpMessage responseMessage, TestContext context) {
+        if (context.getMessageListeners() != null) {
+            context.getMessageListeners().onInboundMessage(responseMessage, context);
+        }
+
+        correlationManager.store(correlationKey, responseMessage);
+    }
+
     @Override
     public Message receive(TestContext context) {
         return receive(correlationManager.getCorrelationKey(
@@ -146,6 +226,15 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
             throw new ActionTimeoutException("Action timeout while receiving synchronous reply message from http server");
         }
 
+        if (message.getPayload() instanceof Throwable) {
+            Throwable error = (Throwable) message.getPayload();
+            if (error instanceof RuntimeException) {
+                throw (RuntimeException) error;
+            }
+
+            throw new CitrusRuntimeException("Failed to send HTTP message asynchronously", error);
+        }
+
         return message;
     }
 
@@ -195,6 +284,11 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
 
     }
 
+    @Override
+    public void destroy() throws Exception {
+        getEndpointConfiguration().destroy();
+    }
+
     /**
      * Creates a message producer for this endpoint for sending messages
      * to this endpoint.
@@ -22,6 +22,7 @@ import com.consol.citrus.http.message.HttpMessageConverter;
 import com.consol.citrus.message.ErrorHandlingStrategy;
 import com.consol.citrus.message.MessageCorrelator;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.client.AsyncClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.integration.http.support.DefaultHttpHeaderMapper;
@@ -197,4 +198,104 @@ public class HttpClientBuilder extends AbstractEndpointBuilder<HttpClient> {
         endpoint.getEndpointConfiguration().setTimeout(timeout);
         return this;
     }
+
+    /**
+     * Sets the maximum number of pooled connections.
+     * @param maxConnections
+     * @return
+     */
+    public HttpClientBuilder maxConnections(int maxConnections) {
+        endpoint.getEndpointConfiguration().setMaxConnections(maxConnections);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of pooled connections per route.
+     * @param maxConnectionsPerRoute
+     * @return
+     */
+    public HttpClientBuilder maxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        endpoint.getEndpointConfiguration().setMaxConnectionsPerRoute(maxConnectionsPerRoute);
+        return this;
+    }
+
+    /**
+     * Sets the pooled connection time to live in milliseconds.
+     * @param connectionTimeToLive
+     * @return
+     */
+    public HttpClientBuilder connectionTimeToLive(long connectionTimeToLive) {
+        endpoint.getEndpointConfiguration().setConnectionTimeToLive(connectionTimeToLive);
+        return this;
+    }
+
+    /**
+     * Sets the keep alive flag.
+     * @param keepAlive
+     * @return
+     */
+    public HttpClientBuilder keepAlive(boolean keepAlive) {
+        endpoint.getEndpointConfiguration().setKeepAlive(keepAlive);
+        return this;
+    }
+
+    /**
+     * Sets the keep alive timeout in milliseconds.
+     * @param keepAliveTimeout
+     * @return
+     */
+    public HttpClientBuilder keepAliveTimeout(long keepAliveTimeout) {
+        endpoint.getEndpointConfiguration().setKeepAliveTimeout(keepAliveTimeout);
+        return this;
+    }
+
+    /**
+     * Sets the connect timeout in milliseconds.
+     * @param connectTimeout
+     * @return
+     */
+    public HttpClientBuilder connectTimeout(int connectTimeout) {
+        endpoint.getEndpointConfiguration().setConnectTimeout(connectTimeout);
+        return this;
+    }
+
+    /**
+     * Sets the socket read timeout in milliseconds.
+     * @param readTimeout
+     * @return
+     */
+    public HttpClientBuilder readTimeout(int readTimeout) {
+        endpoint.getEndpointConfiguration().setReadTimeout(readTimeout);
+        return this;
+    }
+
+    /**
+     * Sets the timeout in milliseconds when leasing connection from pool.
+     * @param connectionRequestTimeout
+     * @return
+     */
+    public HttpClientBuilder connectionRequestTimeout(int connectionRequestTimeout) {
+        endpoint.getEndpointConfiguration().setConnectionRequestTimeout(connectionRequestTimeout);
+        return this;
+    }
+
+    /**
+     * Sets the asynchronous mode.
+     * @param asynchronous
+     * @return
+     */
+    public HttpClientBuilder asynchronous(boolean asynchronous) {
+        endpoint.getEndpointConfiguration().setAsynchronous(asynchronous);
+        return this;
+    }
+
+    /**
+     * Sets the async request factory used in asynchronous mode.
+     * @param asyncRequestFactory
+     * @return
+     */
+    public HttpClientBuilder asyncRequestFactory(AsyncClientHttpRequestFactory asyncRequestFactory) {
+        endpoint.getEndpointConfiguration().setAsyncRequestFactory(asyncRequestFactory);
+        return this;
+    }
 }
@@ -21,11 +21,17 @@ import com.consol.citrus.endpoint.resolver.DynamicEndpointUriResolver;
 import com.consol.citrus.endpoint.resolver.EndpointUriResolver;
 import com.consol.citrus.http.message.HttpMessageConverter;
 import com.consol.citrus.message.*;
+import org.apache.http.pool.PoolStats;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.client.*;
 import org.springframework.integration.http.support.DefaultHttpHeaderMapper;
 import org.springframework.integration.mapping.HeaderMapper;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.client.AsyncRestTemplate;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.List;
@@ -36,6 +42,10 @@ import java.util.List;
  */
 public class HttpEndpointConfiguration extends AbstractPollableEndpointConfiguration {
 
+    /** Non blocking Http components async client classes */
+    private static final String HTTP_ASYNC_CLIENT_CLASS = "org.apache.http.nio.client.HttpAsyncClient";
+    private static final String POOLED_ASYNC_REQUEST_FACTORY_CLASS = "com.consol.citrus.http.client.PooledAsyncClientHttpRequestFactory";
+
     /** Http url as service destination */
     private String requestUrl;
 
@@ -72,6 +82,33 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
     /** Reply message correlator */
     private MessageCorrelator correlator = new DefaultMessageCorrelator();
 
+    /** Send requests asynchronously without blocking the sending thread */
+    private boolean asynchronous = false;
+
+    /** Async rest template used in asynchronous mode */
+    private AsyncRestTemplate asyncRestTemplate;
+
+    /** Async request factory used in asynchronous mode */
+    private AsyncClientHttpRequestFactory asyncRequestFactory;
+
+    /** Async request factory and task executor created by this configuration */
+    private boolean defaultAsyncRequestFactory = false;
+    private ThreadPoolTaskExecutor asyncTaskExecutor;
+
+    /** Connection pool settings used by default request factory */
+    private int maxConnections = 100;
+    private int maxConnectionsPerRoute = 20;
+    private long connectionTimeToLive = -1L;
+
+    /** Keep alive settings used by default request factory */
+    private boolean keepAlive = true;
+    private long keepAliveTimeout = 0L;
+
+    /** Timeout settings used by default request factory */
+    private int connectTimeout = 0;
+    private int readTimeout = 0;
+    private int connectionRequestTimeout = 0;
+
     /**
      * Get the complete request URL.
      * @return the urlPath
@@ -244,7 +281,7 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
      */
     public ClientHttpRequestFactory getRequestFactory() {
         if (requestFactory == null) {
-            requestFactory = new HttpComponentsClientHttpRequestFactory();
+            requestFactory = new PooledClientHttpRequestFactory(this);
         }
 
         return requestFactory;
@@ -258,6 +295,112 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
         this.requestFactory = requestFactory;
     }
 
+    /**
+     * Gets the async rest template used in asynchronous mode.
+     * @return
+     */
+    public AsyncRestTemplate getAsyncRestTemplate() {
+        if (asyncRestTemplate == null) {
+            asyncRestTemplate = new AsyncRestTemplate(getAsyncRequestFactory());
+        }
+
+        return asyncRestTemplate;
+    }
+
+    /**
+     * Sets the async rest template used in asynchronous mode.
+     * @param asyncRestTemplate
+     */
+    public void setAsyncRestTemplate(AsyncRestTemplate asyncRestTemplate) {
+        this.asyncRestTemplate = asyncRestTemplate;
+    }
+
+    /**
+     * Gets the async client request factory. When not set uses non blocking Http components async client if
+     * available on classpath. The optional dependency org.apache.httpcomponents:httpasyncclient has to be added
+     * to the project for this. The async client uses the same pool size, keep alive and timeout settings as the
+     * default request factory. Otherwise falls back to simple client request factory with a thread pool task executor.
+     * The thread pool is limited to max connections so at most that many requests are in flight at the same time,
+     * further requests are queued.
+     * @return
+     */
+    public AsyncClientHttpRequestFactory getAsyncRequestFactory() {
+        if (asyncRequestFactory == null) {
+            defaultAsyncRequestFactory = true;
+
+            if (ClassUtils.isPresent(HTTP_ASYNC_CLIENT_CLASS, getClass().getClassLoader())) {
+                asyncRequestFactory = (AsyncClientHttpRequestFactory) BeanUtils.instantiateClass(
+                        ClassUtils.getConstructorIfAvailable(ClassUtils.resolveClassName(POOLED_ASYNC_REQUEST_FACTORY_CLASS, getClass().getClassLoader()),
+                                HttpEndpointConfiguration.class), this);
+            } else {
+                ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+                taskExecutor.setThreadNamePrefix("citrus-http-async-");
+                taskExecutor.setCorePoolSize(maxConnections);
+                taskExecutor.setMaxPoolSize(maxConnections);
+                taskExecutor.setAllowCoreThreadTimeOut(true);
+                taskExecutor.setDaemon(true);
+                taskExecutor.initialize();
+
+                SimpleClientHttpRequestFactory simpleRequestFactory = new SimpleClientHttpRequestFactory();
+                simpleRequestFactory.setTaskExecutor(taskExecutor);
+                asyncTaskExecutor = taskExecutor;
+                asyncRequestFactory = simpleRequestFactory;
+            }
+        }
+
+        return asyncRequestFactory;
+    }
+
+    /**
+     * Closes connection pool of default request factory and shuts down async task executor. Custom request
+     * factories are left untouched as they are managed by their owner.
+     * @throws Exception
+     */
+    public void destroy() throws Exception {
+        if (requestFactory instanceof PooledClientHttpRequestFactory) {
+            ((PooledClientHttpRequestFactory) requestFactory).destroy();
+        }
+
+        if (defaultAsyncRequestFactory) {
+            if (asyncRequestFactory instanceof DisposableBean) {
+                ((DisposableBean) asyncRequestFactory).destroy();
+            }
+
+            if (asyncTaskExecutor != null) {
+                asyncTaskExecutor.shutdown();
+                asyncTaskExecutor = null;
+            }
+
+            asyncRequestFactory = null;
+            defaultAsyncRequestFactory = false;
+        }
+    }
+
+    /**
+     * Sets the async client request factory.
+     * @param asyncRequestFactory
+     */
+    public void setAsyncRequestFactory(AsyncClientHttpRequestFactory asyncRequestFactory) {
+        this.asyncRequestFactory = asyncRequestFactory;
+    }
+
+    /**
+     * Gets the asynchronous mode.
+     * @return
+     */
+    public boolean isAsynchronous() {
+        return asynchronous;
+    }
+
+    /**
+     * Enables asynchronous mode. Send operations return immediately and responses are stored for
+     * subsequent receive operations as soon as they arrive.
+     * @param asynchronous
+     */
+    public void setAsynchronous(boolean asynchronous) {
+        this.asynchronous = asynchronous;
+    }
+
     /**
      * Gets the message converter.
      * @return
@@ -274,4 +417,143 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
         this.messageConverter = messageConverter;
     }
 
+    /**
+     * Gets the connection pool statistics of default request factory.
+     * @return the statistics or null if custom request factory is used or no request has been sent yet.
+     */
+    public PoolStats getConnectionPoolStats() {
+        if (requestFactory instanceof PooledClientHttpRequestFactory) {
+            return ((PooledClientHttpRequestFactory) requestFactory).getPoolStats();
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets the maximum number of pooled connections.
+     * @return
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * Sets the maximum number of pooled connections.
+     * @param maxConnections
+     */
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    /**
+     * Gets the maximum number of pooled connections per route.
+     * @return
+     */
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    /**
+     * Sets the maximum number of pooled connections per route.
+     * @param maxConnectionsPerRoute
+     */
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
+
+    /**
+     * Gets the pooled connection time to live in milliseconds.
+     * @return
+     */
+    public long getConnectionTimeToLive() {
+        return connectionTimeToLive;
+    }
+
+    /**
+     * Sets the pooled connection time to live in milliseconds - zero or less keeps connections forever.
+     * @param connectionTimeToLive
+     */
+    public void setConnectionTimeToLive(long connectionTimeToLive) {
+        this.connectionTimeToLive = connectionTimeToLive;
+    }
+
+    /**
+     * Gets the keep alive flag.
+     * @return
+     */
+    public boolean isKeepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * Sets the keep alive flag - when disabled connections are not reused.
+     * @param keepAlive
+     */
+    public void setKeepAlive(boolean keepAlive) {
+        this.keepAlive = keepAlive;
+    }
+
+    /**
+     * Gets the keep alive timeout in milliseconds.
+     * @return
+     */
+    public long getKeepAliveTimeout() {
+        return keepAliveTimeout;
+    }
+
+    /**
+     * Sets the keep alive timeout in milliseconds - used when server does not send keep alive header.
+     * @param keepAliveTimeout
+     */
+    public void setKeepAliveTimeout(long keepAliveTimeout) {
+        this.keepAliveTimeout = keepAliveTimeout;
+    }
+
+    /**
+     * Gets the connect timeout in milliseconds.
+     * @return
+     */
+    public int getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * Sets the connect timeout in milliseconds - zero or less uses Http client default.
+     * @param connectTimeout
+     */
+    public void setConnectTimeout(int connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    /**
+     * Gets the socket read timeout in milliseconds.
+     * @return
+     */
+    public int getReadTimeout() {
+        return readTimeout;
+    }
+
+    /**
+     * Sets the socket read timeout in milliseconds - zero or less uses Http client default.
+     * @param readTimeout
+     */
+    public void setReadTimeout(int readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    /**
+     * Gets the timeout in milliseconds when leasing connection from pool.
+     * @return
+     */
+    public int getConnectionRequestTimeout() {
+        return connectionRequestTimeout;
+    }
+
+    /**
+     * Sets the timeout in milliseconds when leasing connection from pool - zero or less uses Http client default.
+     * @param connectionRequestTimeout
+     */
+    public void setConnectionRequestTimeout(int connectionRequestTimeout) {
+        this.connectionRequestTimeout = connectionRequestTimeout;
+    }
 }
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2006-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.http.client;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.impl.NoConnectionReuseStrategy;
+import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.apache.http.impl.conn.SystemDefaultDnsResolver;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.ManagedNHttpClientConnectionFactory;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.apache.http.pool.PoolStats;
+import org.springframework.http.client.HttpComponentsAsyncClientHttpRequestFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Async client request factory using a non blocking Http components client with a pooling connection manager. Pool
+ * size, keep alive, connection time to live and timeout settings are taken from the endpoint configuration. Factory
+ * requires the optional dependency org.apache.httpcomponents:httpasyncclient on the classpath. Http client and
+ * connection pool are closed on destroy.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7
+ */
+public class PooledAsyncClientHttpRequestFactory extends HttpComponentsAsyncClientHttpRequestFactory {
+
+    /** Connection manager used by async client */
+    private final PoolingNHttpClientConnectionManager connectionManager;
+
+    /**
+     * Default constructor using endpoint configuration.
+     * @param endpointConfiguration
+     */
+    public PooledAsyncClientHttpRequestFactory(HttpEndpointConfiguration endpointConfiguration) {
+        this(endpointConfiguration, createConnectionManager(endpointConfiguration));
+    }
+
+    /**
+     * Constructor using endpoint configuration and connection manager.
+     * @param endpointConfiguration
+     * @param connectionManager
+     */
+    private PooledAsyncClientHttpRequestFactory(HttpEndpointConfiguration endpointConfiguration, PoolingNHttpClientConnectionManager connectionManager) {
+        super(createAsyncClient(endpointConfiguration, connectionManager));
+        this.connectionManager = connectionManager;
+
+        if (endpointConfiguration.getConnectTimeout() > 0) {
+            setConnectTimeout(endpointConfiguration.getConnectTimeout());
+        }
+
+        if (endpointConfiguration.getReadTimeout() > 0) {
+            setReadTimeout(endpointConfiguration.getReadTimeout());
+        }
+
+        if (endpointConfiguration.getConnectionRequestTimeout() > 0) {
+            setConnectionRequestTimeout(endpointConfiguration.getConnectionRequestTimeout());
+        }
+    }
+
+    /**
+     * Creates pooling connection manager with pool size and connection time to live settings.
+     * @param endpointConfiguration
+     * @return
+     */
+    private static PoolingNHttpClientConnectionManager createConnectionManager(HttpEndpointConfiguration endpointConfiguration) {
+        IOReactorConfig.Builder ioReactorConfig = IOReactorConfig.custom();
+        if (endpointConfiguration.getConnectTimeout() > 0) {
+            ioReactorConfig.setConnectTimeout(endpointConfiguration.getConnectTimeout());
+        }
+
+        if (endpointConfiguration.getReadTimeout() > 0) {
+            ioReactorConfig.setSoTimeout(endpointConfiguration.getReadTimeout());
+        }
+
+        try {
+            PoolingNHttpClientConnectionManager poolingConnectionManager = new PoolingNHttpClientConnectionManager(
+                    new DefaultConnectingIOReactor(ioReactorConfig.build()),
+                    ManagedNHttpClientConnectionFactory.INSTANCE,
+                    RegistryBuilder.<SchemeIOSessionStrategy>create()
+                            .register("http", NoopIOSessionStrategy.INSTANCE)
+                            .register("https", SSLIOSessionStrategy.getSystemDefaultStrategy())
+                            .build(),
+                    DefaultSchemePortResolver.INSTANCE,
+                    SystemDefaultDnsResolver.INSTANCE,
+                    endpointConfiguration.getConnectionTimeToLive(), TimeUnit.MILLISECONDS);
+
+            poolingConnectionManager.setMaxTotal(endpointConfiguration.getMaxConnections());
+            poolingConnectionManager.setDefaultMaxPerRoute(endpointConfiguration.getMaxConnectionsPerRoute());
+
+            return poolingConnectionManager;
+        } catch (IOReactorException e) {
+            throw new CitrusRuntimeException("Failed to create async Http client connection manager", e);
+        }
+    }
+
+    /**
+     * Creates async Http client with connection manager, keep alive and timeout settings.
+     * @param endpointConfiguration
+     * @param connectionManager
+     * @return
+     */
+    private static CloseableHttpAsyncClient createAsyncClient(HttpEndpointConfiguration endpointConfiguration, PoolingNHttpClientConnectionManager connectionManager) {
+        HttpAsyncClientBuilder clientBuilder = HttpAsyncClients.custom()
+                .useSystemProperties()
+                .setConnectionManager(connectionManager);
+
+        if (!endpointConfiguration.isKeepAlive()) {
+            clientBuilder.setConnectionReuseStrategy(NoConnectionReuseStrategy.INSTANCE);
+        } else if (endpointConfiguration.getKeepAliveTimeout() > 0) {
+            clientBuilder.setKeepAliveStrategy(new PooledClientHttpRequestFactory.KeepAliveStrategy(endpointConfiguration.getKeepAliveTimeout()));
+        }
+
+        RequestConfig.Builder requestConfig = RequestConfig.custom();
+        if (endpointConfiguration.getConnectTimeout() > 0) {
+            requestConfig.setConnectTimeout(endpointConfiguration.getConnectTimeout());
+        }
+
+        if (endpointConfiguration.getReadTimeout() > 0) {
+            requestConfig.setSocketTimeout(endpointConfiguration.getReadTimeout());
+        }
+
+        if (endpointConfiguration.getConnectionRequestTimeout() > 0) {
+            requestConfig.setConnectionRequestTimeout(endpointConfiguration.getConnectionRequestTimeout());
+        }
+
+        return clientBuilder.setDefaultRequestConfig(requestConfig.build()).build();
+    }
+
+    /**
+     * Gets the connection pool statistics.
+     * @return
+     */
+    public PoolStats getPoolStats() {
+        return connectionManager.getTotalStats();
+    }
+}
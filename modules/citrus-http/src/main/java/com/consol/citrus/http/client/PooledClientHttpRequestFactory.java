@@ -0,0 +1,151 @@
+/*
+ * Copyright 2006-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.http.client;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.NoConnectionReuseStrategy;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client request factory using a pooling connection manager with pool size, keep alive, connection time to live
+ * and timeout settings taken from the endpoint configuration. The underlying Http client is created with the first
+ * request so settings can be changed until the client is used. Http client and connection pool are closed on destroy.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7
+ */
+public class PooledClientHttpRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+    /** Endpoint configuration holding pool settings */
+    private final HttpEndpointConfiguration endpointConfiguration;
+
+    /** Connection manager created on first request */
+    private volatile PoolingHttpClientConnectionManager connectionManager;
+
+    /**
+     * Default constructor using endpoint configuration.
+     * @param endpointConfiguration
+     */
+    public PooledClientHttpRequestFactory(HttpEndpointConfiguration endpointConfiguration) {
+        this.endpointConfiguration = endpointConfiguration;
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        if (connectionManager == null) {
+            initialize();
+        }
+
+        return super.createRequest(uri, httpMethod);
+    }
+
+    /**
+     * Creates pooling connection manager and Http client.
+     * @throws IOException
+     */
+    private synchronized void initialize() throws IOException {
+        if (connectionManager != null) {
+            return;
+        }
+
+        PoolingHttpClientConnectionManager poolingConnectionManager = new PoolingHttpClientConnectionManager(
+                endpointConfiguration.getConnectionTimeToLive(), TimeUnit.MILLISECONDS);
+        poolingConnectionManager.setMaxTotal(endpointConfiguration.getMaxConnections());
+        poolingConnectionManager.setDefaultMaxPerRoute(endpointConfiguration.getMaxConnectionsPerRoute());
+
+        org.apache.http.impl.client.HttpClientBuilder clientBuilder = HttpClients.custom()
+                .useSystemProperties()
+                .setConnectionManager(poolingConnectionManager);
+
+        if (!endpointConfiguration.isKeepAlive()) {
+            clientBuilder.setConnectionReuseStrategy(NoConnectionReuseStrategy.INSTANCE);
+        } else if (endpointConfiguration.getKeepAliveTimeout() > 0) {
+            clientBuilder.setKeepAliveStrategy(new KeepAliveStrategy(endpointConfiguration.getKeepAliveTimeout()));
+        }
+
+        Object systemClient = getHttpClient();
+        setHttpClient(clientBuilder.build());
+
+        if (systemClient instanceof Closeable) {
+            ((Closeable) systemClient).close();
+        }
+
+        if (endpointConfiguration.getConnectTimeout() > 0) {
+            setConnectTimeout(endpointConfiguration.getConnectTimeout());
+        }
+
+        if (endpointConfiguration.getReadTimeout() > 0) {
+            setReadTimeout(endpointConfiguration.getReadTimeout());
+        }
+
+        if (endpointConfiguration.getConnectionRequestTimeout() > 0) {
+            setConnectionRequestTimeout(endpointConfiguration.getConnectionRequestTimeout());
+        }
+
+        connectionManager = poolingConnectionManager;
+    }
+
+    /**
+     * Closes Http client and connection pool. A new client is created with the next request.
+     * @throws Exception
+     */
+    @Override
+    public synchronized void destroy() throws Exception {
+        super.destroy();
+        connectionManager = null;
+    }
+
+    /**
+     * Gets the connection pool statistics.
+     * @return the statistics or null if no request has been sent yet.
+     */
+    public PoolStats getPoolStats() {
+        PoolingHttpClientConnectionManager manager = connectionManager;
+        return manager != null ? manager.getTotalStats() : null;
+    }
+
+    /**
+     * Keep alive strategy using response keep alive header and falls back to fixed timeout
+     * when no keep alive header is set.
+     */
+    static final class KeepAliveStrategy implements ConnectionKeepAliveStrategy {
+        private final long keepAliveTimeout;
+
+        KeepAliveStrategy(long keepAliveTimeout) {
+            this.keepAliveTimeout = keepAliveTimeout;
+        }
+
+        @Override
+        public long getKeepAliveDuration(HttpResponse response, HttpContext context) {
+            long duration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return duration > 0 ? duration : keepAliveTimeout;
+        }
+    }
+}
@@ -98,6 +98,66 @@ public @interface HttpClientConfig {
      */
     ErrorHandlingStrategy errorStrategy() default ErrorHandlingStrategy.PROPAGATE;
 
+    /**
+     * Asynchronous mode.
+     * @return
+     */
+    boolean asynchronous() default false;
+
+    /**
+     * Async request factory reference.
+     * @return
+     */
+    String asyncRequestFactory() default "";
+
+    /**
+     * Maximum number of pooled connections.
+     * @return
+     */
+    int maxConnections() default 100;
+
+    /**
+     * Maximum number of pooled connections per route.
+     * @return
+     */
+    int maxConnectionsPerRoute() default 20;
+
+    /**
+     * Pooled connection time to live in milliseconds.
+     * @return
+     */
+    long connectionTimeToLive() default -1L;
+
+    /**
+     * Keep alive flag.
+     * @return
+     */
+    boolean keepAlive() default true;
+
+    /**
+     * Keep alive timeout in milliseconds.
+     * @return
+     */
+    long keepAliveTimeout() default 0L;
+
+    /**
+     * Connect timeout in milliseconds.
+     * @return
+     */
+    int connectTimeout() default 0;
+
+    /**
+     * Socket read timeout in milliseconds.
+     * @return
+     */
+    int readTimeout() default 0;
+
+    /**
+     * Timeout in milliseconds when leasing connection from pool.
+     * @return
+     */
+    int connectionRequestTimeout() default 0;
+
     /**
      * Client interceptors.
      * @return
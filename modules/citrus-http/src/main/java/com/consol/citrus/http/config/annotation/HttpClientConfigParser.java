@@ -25,6 +25,7 @@ import com.consol.citrus.http.client.HttpClient;
 import com.consol.citrus.http.client.HttpClientBuilder;
 import com.consol.citrus.http.message.HttpMessageConverter;
 import com.consol.citrus.message.MessageCorrelator;
+import org.springframework.http.client.AsyncClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.integration.http.support.DefaultHttpHeaderMapper;
@@ -88,6 +89,21 @@ public class HttpClientConfigParser extends AbstractAnnotationConfigParser<HttpC
 
         builder.errorHandlingStrategy(annotation.errorStrategy());
 
+        builder.asynchronous(annotation.asynchronous());
+
+        if (StringUtils.hasText(annotation.asyncRequestFactory())) {
+            builder.asyncRequestFactory(getReferenceResolver().resolve(annotation.asyncRequestFactory(), AsyncClientHttpRequestFactory.class));
+        }
+
+        builder.maxConnections(annotation.maxConnections());
+        builder.maxConnectionsPerRoute(annotation.maxConnectionsPerRoute());
+        builder.connectionTimeToLive(annotation.connectionTimeToLive());
+        builder.keepAlive(annotation.keepAlive());
+        builder.keepAliveTimeout(annotation.keepAliveTimeout());
+        builder.connectTimeout(annotation.connectTimeout());
+        builder.readTimeout(annotation.readTimeout());
+        builder.connectionRequestTimeout(annotation.connectionRequestTimeout());
+
         builder.interceptors(getReferenceResolver().resolve(annotation.interceptors(), ClientHttpRequestInterceptor.class));
 
         // Set outbound header mapper
@@ -101,6 +101,54 @@ public @interface HttpServerConfig {
      */
     String messageConverter() default "";
 
+    /**
+     * Minimum number of server threads.
+     * @return
+     */
+    int minThreads() default 8;
+
+    /**
+     * Maximum number of server threads.
+     * @return
+     */
+    int maxThreads() default 200;
+
+    /**
+     * Server thread idle timeout.
+     * @return
+     */
+    long threadIdleTimeout() default 60000L;
+
+    /**
+     * Maximum number of queued requests.
+     * @return
+     */
+    int maxQueuedRequests() default 0;
+
+    /**
+     * Number of connector acceptor threads.
+     * @return
+     */
+    int acceptors() default -1;
+
+    /**
+     * Number of connector selector threads.
+     * @return
+     */
+    int selectors() default -1;
+
+    /**
+     * Connector accept queue size.
+     * @return
+     */
+    int acceptQueueSize() default 0;
+
+    /**
+     * Connection idle timeout.
+     * @return
+     */
+    long idleTimeout() default 30000L;
+
     /**
      * Auto start.
      * @return
@@ -102,6 +102,15 @@ public class HttpServerConfigParser extends AbstractAnnotationConfigParser<HttpS
             builder.messageConverter(getReferenceResolver().resolve(annotation.messageConverter(), HttpMessageConverter.class));
         }
 
+        builder.minThreads(annotation.minThreads());
+        builder.maxThreads(annotation.maxThreads());
+        builder.threadIdleTimeout(annotation.threadIdleTimeout());
+        builder.maxQueuedRequests(annotation.maxQueuedRequests());
+        builder.acceptors(annotation.acceptors());
+        builder.selectors(annotation.selectors());
+        builder.acceptQueueSize(annotation.acceptQueueSize());
+        builder.idleTimeout(annotation.idleTimeout());
+
         return builder.build();
     }
 }
@@ -77,6 +77,18 @@ public class HttpClientParser extends AbstractEndpointParser {
                     ErrorHandlingStrategy.fromName(element.getAttribute("error-strategy")));
         }
 
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("asynchronous"), "asynchronous");
+        BeanDefinitionParserUtils.setPropertyReference(endpointConfiguration, element.getAttribute("async-request-factory"), "asyncRequestFactory");
+
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("max-connections"), "maxConnections");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("max-connections-per-route"), "maxConnectionsPerRoute");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("connection-time-to-live"), "connectionTimeToLive");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("keep-alive"), "keepAlive");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("keep-alive-timeout"), "keepAliveTimeout");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("connect-timeout"), "connectTimeout");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("read-timeout"), "readTimeout");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("connection-request-timeout"), "connectionRequestTimeout");
+
         BeanDefinitionParserUtils.setPropertyReference(endpointConfiguration, element.getAttribute("interceptors"), "clientInterceptors");
 
         // Set outbound header mapper
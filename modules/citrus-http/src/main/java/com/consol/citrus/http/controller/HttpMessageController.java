@@ -21,20 +21,25 @@ import com.consol.citrus.endpoint.adapter.EmptyResponseEndpointAdapter;
 import com.consol.citrus.http.client.HttpEndpointConfiguration;
 import com.consol.citrus.http.message.HttpMessage;
 import com.consol.citrus.message.Message;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.*;
 import org.springframework.stereotype.Controller;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.*;
 import org.springframework.web.util.UrlPathHelper;
 
 import javax.servlet.http.HttpServletRequest;
-import java.util.Enumeration;
+import java.io.InputStream;
+import java.util.*;
 
 /**
  * Message controller implementation handling all incoming requests by forwarding to a message 
  * handler for further processing.
+ *
+ * Requests with binary content types are passed as byte array payload to the message handler. Response payloads of type
+ * byte array, {@link org.springframework.core.io.Resource} or {@link InputStream} are written to the response as is.
  * 
  * @author Christoph Deppisch
  */
@@ -48,64 +53,114 @@ public class HttpMessageController {
     /** Endpoint configuration */
     private HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
 
-    /** Hold the latest response message for message tracing reasons */
-    private ResponseEntity<String> responseCache;
-    
+    /** Request attribute holding the response entity for message tracing reasons */
+    public static final String RESPONSE_ATTRIBUTE = HttpMessageController.class.getName() + ".response";
+
+    /** Request content types that are handled as binary data */
+    private static final List<MediaType> BINARY_MEDIA_TYPES = Arrays.asList(
+            MediaType.APPLICATION_OCTET_STREAM,
+            MediaType.parseMediaType("application/pdf"),
+            MediaType.parseMediaType("application/zip"),
+            MediaType.parseMediaType("application/gzip"),
+            MediaType.parseMediaType("image/*"),
+            MediaType.parseMediaType("audio/*"),
+            MediaType.parseMediaType("video/*"));
+
     @RequestMapping(value = "**", method = { RequestMethod.GET })
     @ResponseBody
-    public ResponseEntity<String> handleGetRequest(HttpEntity<String> requestEntity) {
+    public ResponseEntity<?> handleGetRequest(HttpEntity<String> requestEntity) {
         return handleRequestInternal(HttpMethod.GET, requestEntity);
     }
     
     @RequestMapping(value= "**", method = { RequestMethod.POST })
     @ResponseBody
-    public ResponseEntity<String> handlePostRequest(HttpEntity<String> requestEntity) {
+    public ResponseEntity<?> handlePostRequest(HttpEntity<String> requestEntity) {
         return handleRequestInternal(HttpMethod.POST, requestEntity);
     }
     
     @RequestMapping(value= "**", method = { RequestMethod.PUT })
     @ResponseBody
-    public ResponseEntity<String> handlePutRequest(HttpEntity<String> requestEntity) {
+    public ResponseEntity<?> handlePutRequest(HttpEntity<String> requestEntity) {
         return handleRequestInternal(HttpMethod.PUT, requestEntity);
     }
     
     @RequestMapping(value= "**", method = { RequestMethod.DELETE })
     @ResponseBody
-    public ResponseEntity<String> handleDeleteRequest(HttpEntity<String> requestEntity) {
+    public ResponseEntity<?> handleDeleteRequest(HttpEntity<String> requestEntity) {
         return handleRequestInternal(HttpMethod.DELETE, requestEntity);
     }
     
     @RequestMapping(value= "**", method = { RequestMethod.OPTIONS })
     @ResponseBody
-    public ResponseEntity<String> handleOptionsRequest(HttpEntity<String> requestEntity) {
+    public ResponseEntity<?> handleOptionsRequest(HttpEntity<String> requestEntity) {
         return handleRequestInternal(HttpMethod.OPTIONS, requestEntity);
     }
     
     @RequestMapping(value= "**", method = { RequestMethod.HEAD })
     @ResponseBody
-    public ResponseEntity<String> handleHeadRequest(HttpEntity<String> requestEntity) {
+    public ResponseEntity<?> handleHeadRequest(HttpEntity<String> requestEntity) {
         return handleRequestInternal(HttpMethod.HEAD, requestEntity);
     }
     
     @RequestMapping(value= "**", method = { RequestMethod.TRACE })
     @ResponseBody
-    public ResponseEntity<String> handleTraceRequest(HttpEntity<String> requestEntity) {
+    public ResponseEntity<?> handleTraceRequest(HttpEntity<String> requestEntity) {
         return handleRequestInternal(HttpMethod.TRACE, requestEntity);
     }
 
     @RequestMapping(value= "**", method = { RequestMethod.PATCH })
     @ResponseBody
-    public ResponseEntity<String> handlePatchRequest(HttpEntity<String> requestEntity) {
+    public ResponseEntity<?> handlePatchRequest(HttpEntity<String> requestEntity) {
         return handleRequestInternal(HttpMethod.PATCH, requestEntity);
     }
     
+    /**
+     * Handles requests with binary content. Request body is passed as byte array to the endpoint adapter
+     * instead of being converted to a String. Mapping takes precedence over the other request mappings
+     * as it defines the consumable content types.
+     * @param requestEntity
+     * @return
+     */
+    @RequestMapping(value= "**", consumes = { MediaType.APPLICATION_OCTET_STREAM_VALUE, "application/pdf", "application/zip",
+                                               "application/gzip", "image/*", "audio/*", "video/*" })
+    @ResponseBody
+    public ResponseEntity<?> handleBinaryRequest(HttpEntity<byte[]> requestEntity) {
+        HttpServletRequest servletRequest = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest();
+        return handleRequestInternal(HttpMethod.valueOf(servletRequest.getMethod()), requestEntity);
+    }
+
+    /**
+     * Checks if given request content type is handled as binary data.
+     * @param contentType
+     * @return
+     */
+    public static boolean isBinaryContent(String contentType) {
+        if (!StringUtils.hasText(contentType)) {
+            return false;
+        }
+
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            for (MediaType binaryMediaType : BINARY_MEDIA_TYPES) {
+                if (binaryMediaType.includes(mediaType)) {
+                    return true;
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+
+        return false;
+    }
+
     /**
      * Handles requests with endpoint adapter implementation. Previously sets Http request method as header parameter.
+     * Request state is kept local to the current request so the controller can serve concurrent requests.
      * @param method
      * @param requestEntity
      * @return
      */
-    private ResponseEntity<String> handleRequestInternal(HttpMethod method, HttpEntity<String> requestEntity) {
+    private ResponseEntity<?> handleRequestInternal(HttpMethod method, HttpEntity<?> requestEntity) {
         HttpMessage request = endpointConfiguration.getMessageConverter().convertInbound(requestEntity, endpointConfiguration, null);
 
         HttpServletRequest servletRequest = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest();
@@ -134,9 +189,10 @@ public class HttpMessageController {
                 .version(servletRequest.getProtocol())
                 .method(method);
 
+        ResponseEntity<?> responseEntity;
         Message response = endpointAdapter.handleMessage(request);
         if (response == null) {
-            responseCache = new ResponseEntity(HttpStatus.OK);
+            responseEntity = new ResponseEntity(HttpStatus.OK);
         } else {
             HttpMessage httpResponse;
             if (response instanceof HttpMessage) {
@@ -149,10 +205,15 @@ public class HttpMessageController {
                 httpResponse.status(HttpStatus.OK);
             }
 
-            responseCache = (ResponseEntity) endpointConfiguration.getMessageConverter().convertOutbound(httpResponse, endpointConfiguration, null);
+            if (httpResponse.getPayload() instanceof InputStream) {
+                httpResponse.setPayload(new InputStreamResource((InputStream) httpResponse.getPayload()));
+            }
+
+            responseEntity = (ResponseEntity) endpointConfiguration.getMessageConverter().convertOutbound(httpResponse, endpointConfiguration, null);
         }
 
-        return responseCache;
+        servletRequest.setAttribute(RESPONSE_ATTRIBUTE, responseEntity);
+        return responseEntity;
     }
     
     /**
@@ -188,10 +249,15 @@ public class HttpMessageController {
     }
 
     /**
-     * Gets the responseCache.
-     * @return the responseCache the responseCache to get.
+     * Gets the response entity of the request currently processed by this thread.
+     * @return the response entity or null if not available.
      */
-    public ResponseEntity<String> getResponseCache() {
-        return responseCache;
+    public ResponseEntity<?> getResponseCache() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return null;
+        }
+
+        return (ResponseEntity<?>) requestAttributes.getAttribute(RESPONSE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
     }
 }
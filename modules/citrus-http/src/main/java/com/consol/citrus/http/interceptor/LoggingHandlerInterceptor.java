@@ -23,6 +23,7 @@ import com.consol.citrus.util.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
@@ -145,11 +146,25 @@ public class LoggingHandlerInterceptor implements HandlerInterceptor {
         }
         
         builder.append(NEWLINE);
-        builder.append(FileUtils.readToString(request.getInputStream()));
+
+        if (HttpMessageController.isBinaryContent(request.getContentType())) {
+            builder.append(getBinaryContentDescription(request.getContentLength()));
+        } else {
+            builder.append(FileUtils.readToString(request.getInputStream()));
+        }
         
         return builder.toString();
     }
     
+    /**
+     * Builds placeholder text for binary message content that is not logged.
+     * @param length
+     * @return
+     */
+    private String getBinaryContentDescription(long length) {
+        return "<binary content" + (length >= 0 ? ", " + length + " bytes" : "") + ">";
+    }
+
     /**
      * @param response
      * @return
@@ -162,11 +177,19 @@ public class LoggingHandlerInterceptor implements HandlerInterceptor {
         if (handler instanceof HandlerMethod) {
             HandlerMethod handlerMethod = (HandlerMethod) handler;
             if (handlerMethod.getBean() instanceof HttpMessageController) {
-                ResponseEntity<String> responseEntity =
+                ResponseEntity<?> responseEntity =
                         ((HttpMessageController) handlerMethod.getBean()).getResponseCache();
                 if (responseEntity != null) {
                     builder.append(NEWLINE);
-                    builder.append(responseEntity.getBody());
+
+                    Object body = responseEntity.getBody();
+                    if (body instanceof byte[]) {
+                        builder.append(getBinaryContentDescription(((byte[]) body).length));
+                    } else if (body instanceof Resource) {
+                        builder.append("<" + ((Resource) body).getDescription() + ">");
+                    } else if (body != null) {
+                        builder.append(body);
+                    }
                 }
             }
         }
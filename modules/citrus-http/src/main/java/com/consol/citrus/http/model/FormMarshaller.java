@@ -16,28 +16,19 @@
 
 package com.consol.citrus.http.model;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.consol.citrus.xml.PooledJaxb2Marshaller;
 import org.springframework.core.io.ClassPathResource;
-import org.springframework.oxm.jaxb.Jaxb2Marshaller;
 
 /**
  * @author Christoph Deppisch
  */
-public class FormMarshaller extends Jaxb2Marshaller {
-
-    /** Logger */
-    private static Logger log = LoggerFactory.getLogger(FormMarshaller.class);
+public class FormMarshaller extends PooledJaxb2Marshaller {
 
+    /**
+     * Default constructor using shared JAXB context for form data model classes.
+     */
     public FormMarshaller() {
-        setClassesToBeBound(FormData.class, Control.class);
-
-        setSchema(new ClassPathResource("com/consol/citrus/schema/citrus-http-message.xsd"));
-
-        try {
-            afterPropertiesSet();
-        } catch (Exception e) {
-            log.warn("Failed to setup form message marshaller", e);
-        }
+        super(new ClassPathResource("com/consol/citrus/schema/citrus-http-message.xsd"),
+                FormData.class, Control.class);
     }
 }
@@ -22,10 +22,12 @@ import com.consol.citrus.http.servlet.CitrusDispatcherServlet;
 import com.consol.citrus.http.servlet.RequestCachingServletFilter;
 import com.consol.citrus.server.AbstractServer;
 import org.eclipse.jetty.security.SecurityHandler;
-import org.eclipse.jetty.server.Connector;
-import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.*;
 import org.eclipse.jetty.server.handler.*;
 import org.eclipse.jetty.servlet.*;
+import org.eclipse.jetty.util.BlockingArrayQueue;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.eclipse.jetty.util.thread.ThreadPool;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
@@ -96,6 +98,24 @@ public class HttpServer extends AbstractServer implements ApplicationContextAwar
     /** Message converter */
     private HttpMessageConverter messageConverter = new HttpMessageConverter();
 
+    /** Server thread pool settings */
+    private int minThreads = 8;
+    private int maxThreads = 200;
+    private long threadIdleTimeout = 60000L;
+
+    /** Maximum number of requests waiting for a free thread, zero or less is unbounded */
+    private int maxQueuedRequests = 0;
+
+    /** Connector settings, negative values use Jetty defaults based on available processors */
+    private int acceptors = -1;
+    private int selectors = -1;
+
+    /** Connector accept backlog size, zero or less uses operating system default */
+    private int acceptQueueSize = 0;
+
+    /** Connection idle timeout limiting keep alive connections */
+    private long idleTimeout = 30000L;
+
     @Override
     protected void shutdown() {
         if (jettyServer != null) {
@@ -119,7 +139,8 @@ public class HttpServer extends AbstractServer implements ApplicationContextAwar
                 jettyServer = connector.getServer();
                 jettyServer.addConnector(connector);
             } else {
-                jettyServer = new Server(port);
+                jettyServer = new Server(createThreadPool());
+                jettyServer.addConnector(createConnector(jettyServer));
             }
             
             HandlerCollection handlers = new HandlerCollection();
@@ -166,6 +187,102 @@ public class HttpServer extends AbstractServer implements ApplicationContextAwar
         }
     }
 
+    /**
+     * Creates server thread pool with thread and request queue bounds.
+     * @return
+     */
+    private QueuedThreadPool createThreadPool() {
+        QueuedThreadPool threadPool;
+        if (maxQueuedRequests > 0) {
+            int initialCapacity = Math.max(1, Math.min(minThreads, maxQueuedRequests));
+            threadPool = new QueuedThreadPool(maxThreads, minThreads, (int) threadIdleTimeout,
+                    new BlockingArrayQueue<Runnable>(initialCapacity, initialCapacity, maxQueuedRequests));
+        } else {
+            threadPool = new QueuedThreadPool(maxThreads, minThreads, (int) threadIdleTimeout);
+        }
+
+        threadPool.setName(getName() + "-qtp");
+        return threadPool;
+    }
+
+    /**
+     * Creates default server connector with acceptor, selector and keep alive settings.
+     * @param server
+     * @return
+     */
+    private ServerConnector createConnector(Server server) {
+        ServerConnector serverConnector = new ServerConnector(server, acceptors, selectors,
+                new HttpConnectionFactory(new HttpConfiguration()));
+        serverConnector.setPort(port);
+        serverConnector.setIdleTimeout(idleTimeout);
+
+        if (acceptQueueSize > 0) {
+            serverConnector.setAcceptQueueSize(acceptQueueSize);
+        }
+
+        return serverConnector;
+    }
+
+    /**
+     * Gets the Jetty server instance.
+     * @return the server or null if server has not been started.
+     */
+    Server getJettyServer() {
+        return jettyServer;
+    }
+
+    /**
+     * Gets the running server thread pool.
+     * @return the thread pool or null if server is not running.
+     */
+    private ThreadPool getThreadPool() {
+        return jettyServer != null ? jettyServer.getThreadPool() : null;
+    }
+
+    /**
+     * Gets the current number of server threads.
+     * @return
+     */
+    public int getThreads() {
+        ThreadPool threadPool = getThreadPool();
+        return threadPool != null ? threadPool.getThreads() : 0;
+    }
+
+    /**
+     * Gets the current number of idle server threads.
+     * @return
+     */
+    public int getIdleThreads() {
+        ThreadPool threadPool = getThreadPool();
+        return threadPool != null ? threadPool.getIdleThreads() : 0;
+    }
+
+    /**
+     * Gets the current number of busy server threads.
+     * @return
+     */
+    public int getBusyThreads() {
+        ThreadPool threadPool = getThreadPool();
+        if (threadPool instanceof QueuedThreadPool) {
+            return ((QueuedThreadPool) threadPool).getBusyThreads();
+        }
+
+        return threadPool != null ? threadPool.getThreads() - threadPool.getIdleThreads() : 0;
+    }
+
+    /**
+     * Gets the current number of requests waiting for a free server thread.
+     * @return
+     */
+    public int getQueuedRequests() {
+        ThreadPool threadPool = getThreadPool();
+        if (threadPool instanceof QueuedThreadPool) {
+            return ((QueuedThreadPool) threadPool).getQueueSize();
+        }
+
+        return 0;
+    }
+
     /**
      * Adds default Spring dispatcher servlet with servlet mapping.
      */
@@ -556,4 +673,133 @@ public class HttpServer extends AbstractServer implements ApplicationContextAwar
     public void setMessageConverter(HttpMessageConverter messageConverter) {
         this.messageConverter = messageConverter;
     }
+
+    /**
+     * Gets the minimum number of server threads.
+     * @return
+     */
+    public int getMinThreads() {
+        return minThreads;
+    }
+
+    /**
+     * Sets the minimum number of server threads.
+     * @param minThreads
+     */
+    public void setMinThreads(int minThreads) {
+        this.minThreads = minThreads;
+    }
+
+    /**
+     * Gets the maximum number of server threads.
+     * @return
+     */
+    public int getMaxThreads() {
+        return maxThreads;
+    }
+
+    /**
+     * Sets the maximum number of server threads.
+     * @param maxThreads
+     */
+    public void setMaxThreads(int maxThreads) {
+        this.maxThreads = maxThreads;
+    }
+
+    /**
+     * Gets the server thread idle timeout.
+     * @return
+     */
+    public long getThreadIdleTimeout() {
+        return threadIdleTimeout;
+    }
+
+    /**
+     * Sets the time in milliseconds idle server threads are kept before they are stopped.
+     * @param threadIdleTimeout
+     */
+    public void setThreadIdleTimeout(long threadIdleTimeout) {
+        this.threadIdleTimeout = threadIdleTimeout;
+    }
+
+    /**
+     * Gets the maximum number of queued requests.
+     * @return
+     */
+    public int getMaxQueuedRequests() {
+        return maxQueuedRequests;
+    }
+
+    /**
+     * Sets the maximum number of requests waiting for a free server thread. Requests exceeding
+     * this limit are rejected.
+     * @param maxQueuedRequests
+     */
+    public void setMaxQueuedRequests(int maxQueuedRequests) {
+        this.maxQueuedRequests = maxQueuedRequests;
+    }
+
+    /**
+     * Gets the number of connector acceptor threads.
+     * @return
+     */
+    public int getAcceptors() {
+        return acceptors;
+    }
+
+    /**
+     * Sets the number of connector acceptor threads.
+     * @param acceptors
+     */
+    public void setAcceptors(int acceptors) {
+        this.acceptors = acceptors;
+    }
+
+    /**
+     * Gets the number of connector selector threads.
+     * @return
+     */
+    public int getSelectors() {
+        return selectors;
+    }
+
+    /**
+     * Sets the number of connector selector threads.
+     * @param selectors
+     */
+    public void setSelectors(int selectors) {
+        this.selectors = selectors;
+    }
+
+    /**
+     * Gets the connector accept queue size.
+     * @return
+     */
+    public int getAcceptQueueSize() {
+        return acceptQueueSize;
+    }
+
+    /**
+     * Sets the connector accept queue size.
+     * @param acceptQueueSize
+     */
+    public void setAcceptQueueSize(int acceptQueueSize) {
+        this.acceptQueueSize = acceptQueueSize;
+    }
+
+    /**
+     * Gets the connection idle timeout.
+     * @return
+     */
+    public long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * Sets the time in milliseconds idle keep alive connections are kept open.
+     * @param idleTimeout
+     */
+    public void setIdleTimeout(long idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
 }
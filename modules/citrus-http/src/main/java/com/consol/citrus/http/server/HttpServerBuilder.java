@@ -199,4 +199,84 @@ public class HttpServerBuilder extends AbstractEndpointBuilder<HttpServer> {
         endpoint.setInterceptors((List) interceptors);
         return this;
     }
+
+    /**
+     * Sets the minimum number of server threads.
+     * @param minThreads
+     * @return
+     */
+    public HttpServerBuilder minThreads(int minThreads) {
+        endpoint.setMinThreads(minThreads);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of server threads.
+     * @param maxThreads
+     * @return
+     */
+    public HttpServerBuilder maxThreads(int maxThreads) {
+        endpoint.setMaxThreads(maxThreads);
+        return this;
+    }
+
+    /**
+     * Sets the server thread idle timeout.
+     * @param threadIdleTimeout
+     * @return
+     */
+    public HttpServerBuilder threadIdleTimeout(long threadIdleTimeout) {
+        endpoint.setThreadIdleTimeout(threadIdleTimeout);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of queued requests.
+     * @param maxQueuedRequests
+     * @return
+     */
+    public HttpServerBuilder maxQueuedRequests(int maxQueuedRequests) {
+        endpoint.setMaxQueuedRequests(maxQueuedRequests);
+        return this;
+    }
+
+    /**
+     * Sets the number of connector acceptor threads.
+     * @param acceptors
+     * @return
+     */
+    public HttpServerBuilder acceptors(int acceptors) {
+        endpoint.setAcceptors(acceptors);
+        return this;
+    }
+
+    /**
+     * Sets the number of connector selector threads.
+     * @param selectors
+     * @return
+     */
+    public HttpServerBuilder selectors(int selectors) {
+        endpoint.setSelectors(selectors);
+        return this;
+    }
+
+    /**
+     * Sets the connector accept queue size.
+     * @param acceptQueueSize
+     * @return
+     */
+    public HttpServerBuilder acceptQueueSize(int acceptQueueSize) {
+        endpoint.setAcceptQueueSize(acceptQueueSize);
+        return this;
+    }
+
+    /**
+     * Sets the connection idle timeout.
+     * @param idleTimeout
+     * @return
+     */
+    public HttpServerBuilder idleTimeout(long idleTimeout) {
+        endpoint.setIdleTimeout(idleTimeout);
+        return this;
+    }
 }
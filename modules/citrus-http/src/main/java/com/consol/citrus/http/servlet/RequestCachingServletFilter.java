@@ -18,6 +18,8 @@ package com.consol.citrus.http.servlet;
 
 import java.io.IOException;
 
+import com.consol.citrus.http.controller.HttpMessageController;
+
 import javax.servlet.*;
 import javax.servlet.http.*;
 
@@ -28,7 +30,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
  * usual servlet request implementation data can only be read once.
  * 
  * For logging and tracing reasons we introduce a servlet request wrapper caching 
- * the request data.
+ * the request data. Requests with binary content are not cached so large uploads are not
+ * held in memory twice.
  * 
  * @author Christoph Deppisch
  * @since 1.2
@@ -38,7 +41,11 @@ public class RequestCachingServletFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
             FilterChain filterChain) throws ServletException, IOException {
-        filterChain.doFilter(new CachingHttpServletRequestWrapper(request), response);
+        if (HttpMessageController.isBinaryContent(request.getContentType())) {
+            filterChain.doFilter(request, response);
+        } else {
+            filterChain.doFilter(new CachingHttpServletRequestWrapper(request), response);
+        }
     }
     
 }
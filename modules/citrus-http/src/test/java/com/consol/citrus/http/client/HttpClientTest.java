@@ -17,13 +17,16 @@
 package com.consol.citrus.http.client;
 
 import com.consol.citrus.endpoint.resolver.EndpointUriResolver;
+import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.http.message.HttpMessage;
+import com.consol.citrus.http.message.HttpMessageHeaders;
 import com.consol.citrus.message.*;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.mockito.Mockito;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 import org.springframework.http.*;
+import org.springframework.util.concurrent.SettableListenableFuture;
 import org.springframework.web.client.*;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -38,6 +41,7 @@ import static org.mockito.Mockito.*;
 public class HttpClientTest extends AbstractTestNGUnitTest {
 
     private RestTemplate restTemplate = Mockito.mock(RestTemplate.class);
+    private AsyncRestTemplate asyncRestTemplate = Mockito.mock(AsyncRestTemplate.class);
 
     @Test
     public void testHttpPostRequest() {
@@ -478,4 +482,100 @@ public class HttpClientTest extends AbstractTestNGUnitTest {
         verify(restTemplate).setInterceptors(any(List.class));
         verify(restTemplate).setErrorHandler(any(ResponseErrorHandler.class));
     }
+
+    @Test
+    public void testAsynchronousHttpPostRequest() {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        HttpClient httpClient = new HttpClient(endpointConfiguration);
+        String requestUrl = "http://localhost:8088/test";
+
+        final String responseBody = "<TestResponse><Message>Hello World!</Message></TestResponse>";
+
+        endpointConfiguration.setRequestMethod(HttpMethod.POST);
+        endpointConfiguration.setRequestUrl(requestUrl);
+        endpointConfiguration.setAsynchronous(true);
+        endpointConfiguration.setAsyncRestTemplate(asyncRestTemplate);
+        endpointConfiguration.setRestTemplate(restTemplate);
+
+        Message requestMessage = new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>");
+
+        SettableListenableFuture<ResponseEntity<String>> future = new SettableListenableFuture<>();
+
+        reset(restTemplate, asyncRestTemplate);
+        when(asyncRestTemplate.exchange(eq(requestUrl), eq(HttpMethod.POST), any(HttpEntity.class), eq(String.class))).thenReturn(future);
+
+        httpClient.send(requestMessage, context);
+
+        try {
+            httpClient.receive(context, 100L);
+            Assert.fail("Missing timeout exception as response did not arrive yet");
+        } catch (ActionTimeoutException e) {
+            Assert.assertTrue(e.getMessage().contains("Action timeout"));
+        }
+
+        future.set(new ResponseEntity<String>(responseBody, HttpStatus.OK));
+
+        HttpMessage responseMessage = (HttpMessage) httpClient.receive(context, endpointConfiguration.getTimeout());
+        Assert.assertEquals(responseMessage.getPayload(), responseBody);
+        Assert.assertEquals(responseMessage.getStatusCode(), HttpStatus.OK);
+
+        verify(restTemplate, never()).exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), eq(String.class));
+    }
+
+    @Test
+    public void testAsynchronousErrorResponsePropagation() {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        HttpClient httpClient = new HttpClient(endpointConfiguration);
+        String requestUrl = "http://localhost:8088/test";
+
+        endpointConfiguration.setRequestMethod(HttpMethod.POST);
+        endpointConfiguration.setRequestUrl(requestUrl);
+        endpointConfiguration.setAsynchronous(true);
+        endpointConfiguration.setAsyncRestTemplate(asyncRestTemplate);
+        endpointConfiguration.setRestTemplate(restTemplate);
+        endpointConfiguration.setErrorHandlingStrategy(ErrorHandlingStrategy.PROPAGATE);
+
+        Message requestMessage = new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>");
+
+        SettableListenableFuture<ResponseEntity<String>> future = new SettableListenableFuture<>();
+
+        reset(restTemplate, asyncRestTemplate);
+        when(asyncRestTemplate.exchange(eq(requestUrl), eq(HttpMethod.POST), any(HttpEntity.class), eq(String.class))).thenReturn(future);
+
+        httpClient.send(requestMessage, context);
+        future.setException(new HttpClientErrorException(HttpStatus.FORBIDDEN, "Forbidden", "Not allowed".getBytes(), null));
+
+        HttpMessage responseMessage = (HttpMessage) httpClient.receive(context, endpointConfiguration.getTimeout());
+        Assert.assertEquals(responseMessage.getPayload(), "Not allowed");
+        Assert.assertEquals(responseMessage.getStatusCode(), HttpStatus.FORBIDDEN);
+    }
+
+    @Test
+    public void testAsynchronousUnknownStatusCodePropagation() {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        HttpClient httpClient = new HttpClient(endpointConfiguration);
+        String requestUrl = "http://localhost:8088/test";
+
+        endpointConfiguration.setRequestMethod(HttpMethod.POST);
+        endpointConfiguration.setRequestUrl(requestUrl);
+        endpointConfiguration.setAsynchronous(true);
+        endpointConfiguration.setAsyncRestTemplate(asyncRestTemplate);
+        endpointConfiguration.setRestTemplate(restTemplate);
+        endpointConfiguration.setErrorHandlingStrategy(ErrorHandlingStrategy.PROPAGATE);
+
+        Message requestMessage = new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>");
+
+        SettableListenableFuture<ResponseEntity<String>> future = new SettableListenableFuture<>();
+
+        reset(restTemplate, asyncRestTemplate);
+        when(asyncRestTemplate.exchange(eq(requestUrl), eq(HttpMethod.POST), any(HttpEntity.class), eq(String.class))).thenReturn(future);
+
+        httpClient.send(requestMessage, context);
+        future.setException(new UnknownHttpStatusCodeException(599, "Custom status", new HttpHeaders(), "Unknown status".getBytes(), null));
+
+        HttpMessage responseMessage = (HttpMessage) httpClient.receive(context, endpointConfiguration.getTimeout());
+        Assert.assertEquals(responseMessage.getPayload(), "Unknown status");
+        Assert.assertEquals(responseMessage.getHeader(HttpMessageHeaders.HTTP_STATUS_CODE), 599);
+        Assert.assertEquals(responseMessage.getReasonPhrase(), "Custom status");
+    }
 }
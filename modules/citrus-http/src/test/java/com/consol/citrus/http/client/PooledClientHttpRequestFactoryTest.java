@@ -0,0 +1,176 @@
+/*
+ * Copyright 2006-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.http.client;
+
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.eclipse.jetty.server.*;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.FileCopyUtils;
+import org.testng.Assert;
+import org.testng.annotations.*;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class PooledClientHttpRequestFactoryTest {
+
+    private Server server;
+    private URI uri;
+
+    @BeforeClass
+    public void startServer() throws Exception {
+        server = new Server(0);
+        server.setHandler(new AbstractHandler() {
+            @Override
+            public void handle(String target, Request baseRequest, HttpServletRequest request, HttpServletResponse response) throws IOException {
+                response.setStatus(HttpServletResponse.SC_OK);
+                response.setContentType("text/plain");
+                response.getWriter().write("Hello Citrus!");
+                baseRequest.setHandled(true);
+            }
+        });
+        server.start();
+
+        uri = URI.create("http://localhost:" + ((ServerConnector) server.getConnectors()[0]).getLocalPort() + "/test");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() throws Exception {
+        server.stop();
+    }
+
+    @Test
+    public void testConnectionPoolSettings() throws Exception {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        endpointConfiguration.setMaxConnections(5);
+        endpointConfiguration.setMaxConnectionsPerRoute(2);
+
+        PooledClientHttpRequestFactory requestFactory = (PooledClientHttpRequestFactory) endpointConfiguration.getRequestFactory();
+        Assert.assertNull(endpointConfiguration.getConnectionPoolStats());
+
+        for (int i = 0; i < 3; i++) {
+            sendRequest(requestFactory);
+        }
+
+        PoolingHttpClientConnectionManager connectionManager = (PoolingHttpClientConnectionManager) ReflectionTestUtils.getField(requestFactory, "connectionManager");
+        Assert.assertEquals(connectionManager.getMaxTotal(), 5);
+        Assert.assertEquals(connectionManager.getDefaultMaxPerRoute(), 2);
+
+        PoolStats poolStats = endpointConfiguration.getConnectionPoolStats();
+        Assert.assertEquals(poolStats.getMax(), 5);
+        Assert.assertEquals(poolStats.getLeased(), 0);
+        Assert.assertEquals(poolStats.getAvailable(), 1);
+
+        endpointConfiguration.destroy();
+        Assert.assertNull(endpointConfiguration.getConnectionPoolStats());
+        Assert.assertTrue(connectionManager.getTotalStats().getAvailable() == 0);
+
+        sendRequest(requestFactory);
+        Assert.assertEquals(endpointConfiguration.getConnectionPoolStats().getAvailable(), 1);
+        endpointConfiguration.destroy();
+    }
+
+    @Test
+    public void testNoConnectionReuse() throws Exception {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        endpointConfiguration.setKeepAlive(false);
+
+        PooledClientHttpRequestFactory requestFactory = (PooledClientHttpRequestFactory) endpointConfiguration.getRequestFactory();
+
+        for (int i = 0; i < 3; i++) {
+            sendRequest(requestFactory);
+        }
+
+        PoolStats poolStats = endpointConfiguration.getConnectionPoolStats();
+        Assert.assertEquals(poolStats.getLeased(), 0);
+        Assert.assertEquals(poolStats.getAvailable(), 0);
+
+        endpointConfiguration.destroy();
+    }
+
+    @Test
+    public void testKeepAliveTimeout() throws Exception {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        endpointConfiguration.setKeepAliveTimeout(100L);
+
+        PooledClientHttpRequestFactory requestFactory = (PooledClientHttpRequestFactory) endpointConfiguration.getRequestFactory();
+
+        sendRequest(requestFactory);
+        Assert.assertEquals(endpointConfiguration.getConnectionPoolStats().getAvailable(), 1);
+
+        Thread.sleep(300L);
+
+        PoolingHttpClientConnectionManager connectionManager = (PoolingHttpClientConnectionManager) ReflectionTestUtils.getField(requestFactory, "connectionManager");
+        connectionManager.closeExpiredConnections();
+        Assert.assertEquals(endpointConfiguration.getConnectionPoolStats().getAvailable(), 0);
+
+        endpointConfiguration.destroy();
+    }
+
+    @Test
+    public void testAsyncConnectionPoolSettings() throws Exception {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        endpointConfiguration.setMaxConnections(50);
+        endpointConfiguration.setMaxConnectionsPerRoute(25);
+        endpointConfiguration.setReadTimeout(5000);
+
+        PooledAsyncClientHttpRequestFactory requestFactory = (PooledAsyncClientHttpRequestFactory) endpointConfiguration.getAsyncRequestFactory();
+
+        PoolingNHttpClientConnectionManager connectionManager = (PoolingNHttpClientConnectionManager) ReflectionTestUtils.getField(requestFactory, "connectionManager");
+        Assert.assertEquals(connectionManager.getMaxTotal(), 50);
+        Assert.assertEquals(connectionManager.getDefaultMaxPerRoute(), 25);
+
+        ClientHttpResponse response = requestFactory.createAsyncRequest(uri, HttpMethod.GET).executeAsync().get();
+        try {
+            Assert.assertEquals(response.getStatusCode(), HttpStatus.OK);
+            Assert.assertEquals(FileCopyUtils.copyToString(new InputStreamReader(response.getBody())), "Hello Citrus!");
+        } finally {
+            response.close();
+        }
+
+        Assert.assertEquals(requestFactory.getPoolStats().getMax(), 50);
+
+        endpointConfiguration.destroy();
+    }
+
+    /**
+     * Sends request with given request factory and reads the complete response.
+     * @param requestFactory
+     * @throws IOException
+     */
+    private void sendRequest(PooledClientHttpRequestFactory requestFactory) throws IOException {
+        ClientHttpResponse response = requestFactory.createRequest(uri, HttpMethod.GET).execute();
+        try {
+            Assert.assertEquals(response.getStatusCode(), HttpStatus.OK);
+            Assert.assertEquals(FileCopyUtils.copyToString(new InputStreamReader(response.getBody())), "Hello Citrus!");
+        } finally {
+            response.close();
+        }
+    }
+}
@@ -68,6 +68,15 @@ public class HttpClientConfigParserTest extends AbstractTestNGUnitTest {
     @HttpClientConfig(requestUrl = "http://localhost:8080/test",
             interceptors={ "clientInterceptor" },
             pollingInterval=250,
+            asynchronous=true,
+            maxConnections=50,
+            maxConnectionsPerRoute=25,
+            connectionTimeToLive=60000L,
+            keepAlive=false,
+            keepAliveTimeout=10000L,
+            connectTimeout=1000,
+            readTimeout=2000,
+            connectionRequestTimeout=3000,
             actor="testActor")
     private HttpClient httpClient4;
 
@@ -119,6 +128,11 @@ public class HttpClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(httpClient1.getEndpointConfiguration().getRequestMethod(), HttpMethod.POST);
         Assert.assertEquals(httpClient1.getEndpointConfiguration().getCorrelator().getClass(), DefaultMessageCorrelator.class);
         Assert.assertEquals(httpClient1.getEndpointConfiguration().getTimeout(), 5000L);
+        Assert.assertFalse(httpClient1.getEndpointConfiguration().isAsynchronous());
+        Assert.assertEquals(httpClient1.getEndpointConfiguration().getMaxConnections(), 100);
+        Assert.assertEquals(httpClient1.getEndpointConfiguration().getMaxConnectionsPerRoute(), 20);
+        Assert.assertTrue(httpClient1.getEndpointConfiguration().isKeepAlive());
+        Assert.assertNull(httpClient1.getEndpointConfiguration().getConnectionPoolStats());
 
         // 2nd message sender
         Assert.assertNotNull(httpClient2.getEndpointConfiguration().getRestTemplate());
@@ -146,5 +160,14 @@ public class HttpClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(httpClient4.getEndpointConfiguration().getClientInterceptors().size(), 1L);
         Assert.assertEquals(httpClient4.getEndpointConfiguration().getClientInterceptors().get(0), clientInterceptor);
         Assert.assertEquals(httpClient4.getEndpointConfiguration().getPollingInterval(), 250L);
+        Assert.assertTrue(httpClient4.getEndpointConfiguration().isAsynchronous());
+        Assert.assertEquals(httpClient4.getEndpointConfiguration().getMaxConnections(), 50);
+        Assert.assertEquals(httpClient4.getEndpointConfiguration().getMaxConnectionsPerRoute(), 25);
+        Assert.assertEquals(httpClient4.getEndpointConfiguration().getConnectionTimeToLive(), 60000L);
+        Assert.assertFalse(httpClient4.getEndpointConfiguration().isKeepAlive());
+        Assert.assertEquals(httpClient4.getEndpointConfiguration().getKeepAliveTimeout(), 10000L);
+        Assert.assertEquals(httpClient4.getEndpointConfiguration().getConnectTimeout(), 1000);
+        Assert.assertEquals(httpClient4.getEndpointConfiguration().getReadTimeout(), 2000);
+        Assert.assertEquals(httpClient4.getEndpointConfiguration().getConnectionRequestTimeout(), 3000);
     }
 }
@@ -69,7 +69,15 @@ public class HttpServerConfigParserTest extends AbstractTestNGUnitTest {
     @CitrusEndpoint
     @HttpServerConfig(autoStart=false,
             port=8084,
-            servletHandler="servletHandler")
+            servletHandler="servletHandler",
+            minThreads=4,
+            maxThreads=50,
+            threadIdleTimeout=10000L,
+            maxQueuedRequests=100,
+            acceptors=1,
+            selectors=2,
+            acceptQueueSize=256,
+            idleTimeout=5000L)
     private HttpServer httpServer4;
 
     @CitrusEndpoint
@@ -146,6 +154,10 @@ public class HttpServerConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(httpServer1.getContextPath(), "/");
         Assert.assertEquals(httpServer1.getServletName(), "httpServer1-servlet");
         Assert.assertEquals(httpServer1.getServletMappingPath(), "/*");
+        Assert.assertEquals(httpServer1.getMinThreads(), 8);
+        Assert.assertEquals(httpServer1.getMaxThreads(), 200);
+        Assert.assertEquals(httpServer1.getMaxQueuedRequests(), 0);
+        Assert.assertEquals(httpServer1.getIdleTimeout(), 30000L);
 
         // 2nd message sender
         Assert.assertNotNull(httpServer2.getConnector());
@@ -187,6 +199,14 @@ public class HttpServerConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(httpServer4.getServletName(), "httpServer4-servlet");
         Assert.assertNotNull(httpServer4.getInterceptors());
         Assert.assertEquals(httpServer4.getInterceptors().size(), 0L);
+        Assert.assertEquals(httpServer4.getMinThreads(), 4);
+        Assert.assertEquals(httpServer4.getMaxThreads(), 50);
+        Assert.assertEquals(httpServer4.getThreadIdleTimeout(), 10000L);
+        Assert.assertEquals(httpServer4.getMaxQueuedRequests(), 100);
+        Assert.assertEquals(httpServer4.getAcceptors(), 1);
+        Assert.assertEquals(httpServer4.getSelectors(), 2);
+        Assert.assertEquals(httpServer4.getAcceptQueueSize(), 256);
+        Assert.assertEquals(httpServer4.getIdleTimeout(), 5000L);
         
         // 5th message sender
         Assert.assertNull(httpServer5.getConnector());
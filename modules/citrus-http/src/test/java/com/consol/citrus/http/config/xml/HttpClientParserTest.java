@@ -49,6 +49,11 @@ public class HttpClientParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(httpClient.getEndpointConfiguration().getRequestMethod(), HttpMethod.POST);
         Assert.assertEquals(httpClient.getEndpointConfiguration().getCorrelator().getClass(), DefaultMessageCorrelator.class);
         Assert.assertEquals(httpClient.getEndpointConfiguration().getTimeout(), 5000L);
+        Assert.assertFalse(httpClient.getEndpointConfiguration().isAsynchronous());
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getMaxConnections(), 100);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getMaxConnectionsPerRoute(), 20);
+        Assert.assertTrue(httpClient.getEndpointConfiguration().isKeepAlive());
+        Assert.assertNull(httpClient.getEndpointConfiguration().getConnectionPoolStats());
 
 
         // 2nd message sender
@@ -80,6 +85,15 @@ public class HttpClientParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertNotNull(httpClient.getEndpointConfiguration().getClientInterceptors());
         Assert.assertEquals(httpClient.getEndpointConfiguration().getClientInterceptors().get(0), beanDefinitionContext.getBean("clientInterceptor"));
         Assert.assertEquals(httpClient.getEndpointConfiguration().getPollingInterval(), 250L);
+        Assert.assertTrue(httpClient.getEndpointConfiguration().isAsynchronous());
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getMaxConnections(), 50);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getMaxConnectionsPerRoute(), 25);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getConnectionTimeToLive(), 60000L);
+        Assert.assertFalse(httpClient.getEndpointConfiguration().isKeepAlive());
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getKeepAliveTimeout(), 10000L);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getConnectTimeout(), 1000);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getReadTimeout(), 2000);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getConnectionRequestTimeout(), 3000);
     }
 
     @Test
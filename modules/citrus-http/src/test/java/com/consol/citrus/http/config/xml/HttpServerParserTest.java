@@ -59,6 +59,10 @@ public class HttpServerParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(server.getContextPath(), "/");
         Assert.assertEquals(server.getServletName(), "httpServer1-servlet");
         Assert.assertEquals(server.getServletMappingPath(), "/*");
+        Assert.assertEquals(server.getMinThreads(), 8);
+        Assert.assertEquals(server.getMaxThreads(), 200);
+        Assert.assertEquals(server.getMaxQueuedRequests(), 0);
+        Assert.assertEquals(server.getIdleTimeout(), 30000L);
 
         // 2nd message sender
         server = servers.get("httpServer2");
@@ -103,6 +107,14 @@ public class HttpServerParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(server.getServletName(), "httpServer4-servlet");
         Assert.assertNotNull(server.getInterceptors());
         Assert.assertEquals(server.getInterceptors().size(), 0L);
+        Assert.assertEquals(server.getMinThreads(), 4);
+        Assert.assertEquals(server.getMaxThreads(), 50);
+        Assert.assertEquals(server.getThreadIdleTimeout(), 10000L);
+        Assert.assertEquals(server.getMaxQueuedRequests(), 100);
+        Assert.assertEquals(server.getAcceptors(), 1);
+        Assert.assertEquals(server.getSelectors(), 2);
+        Assert.assertEquals(server.getAcceptQueueSize(), 256);
+        Assert.assertEquals(server.getIdleTimeout(), 5000L);
         
         // 5th message sender
         server = servers.get("httpServer5");
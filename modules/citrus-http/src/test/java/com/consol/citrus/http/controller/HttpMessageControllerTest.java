@@ -0,0 +1,131 @@
+/*
+ * Copyright 2006-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.http.controller;
+
+import com.consol.citrus.endpoint.EndpointAdapter;
+import com.consol.citrus.http.message.HttpMessage;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.springframework.core.io.*;
+import org.springframework.http.*;
+import org.springframework.util.FileCopyUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.ByteArrayInputStream;
+import java.util.Collections;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.7
+ */
+public class HttpMessageControllerTest extends AbstractTestNGUnitTest {
+
+    private EndpointAdapter endpointAdapter = Mockito.mock(EndpointAdapter.class);
+    private HttpServletRequest servletRequest = Mockito.mock(HttpServletRequest.class);
+
+    @AfterMethod
+    public void resetRequestAttributes() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    public void testHandleBinaryRequest() {
+        HttpMessageController controller = new HttpMessageController();
+        controller.setEndpointAdapter(endpointAdapter);
+
+        final byte[] requestBody = new byte[] { 0x00, 0x01, (byte) 0xff };
+        final byte[] responseBody = new byte[] { 0x02, 0x03 };
+
+        mockServletRequest("POST");
+        reset(endpointAdapter);
+
+        doAnswer(new Answer<Message>() {
+            @Override
+            public Message answer(InvocationOnMock invocation) throws Throwable {
+                HttpMessage request = (HttpMessage) invocation.getArguments()[0];
+
+                Assert.assertTrue(request.getPayload() instanceof byte[]);
+                Assert.assertEquals(request.getPayload(byte[].class), requestBody);
+                Assert.assertEquals(request.getRequestMethod(), HttpMethod.POST);
+                Assert.assertEquals(request.getPath(), "/test");
+
+                return new HttpMessage(responseBody).contentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+            }
+        }).when(endpointAdapter).handleMessage(any(Message.class));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+        ResponseEntity<?> response = controller.handleBinaryRequest(new HttpEntity<>(requestBody, headers));
+
+        Assert.assertEquals(response.getStatusCode(), HttpStatus.OK);
+        Assert.assertEquals(response.getBody(), responseBody);
+
+        verify(servletRequest).setAttribute(HttpMessageController.RESPONSE_ATTRIBUTE, response);
+    }
+
+    @Test
+    public void testStreamingResponse() throws Exception {
+        HttpMessageController controller = new HttpMessageController();
+        controller.setEndpointAdapter(endpointAdapter);
+
+        mockServletRequest("GET");
+        reset(endpointAdapter);
+
+        when(endpointAdapter.handleMessage(any(Message.class)))
+                .thenReturn(new HttpMessage(new ByteArrayInputStream("Hello".getBytes())));
+
+        ResponseEntity<?> response = controller.handleGetRequest(new HttpEntity<String>(new HttpHeaders()));
+
+        Assert.assertTrue(response.getBody() instanceof InputStreamResource);
+        Assert.assertEquals(new String(FileCopyUtils.copyToByteArray(((Resource) response.getBody()).getInputStream())), "Hello");
+    }
+
+    @Test
+    public void testIsBinaryContent() {
+        Assert.assertTrue(HttpMessageController.isBinaryContent("application/octet-stream"));
+        Assert.assertTrue(HttpMessageController.isBinaryContent("image/png"));
+        Assert.assertFalse(HttpMessageController.isBinaryContent("application/xml;charset=UTF-8"));
+        Assert.assertFalse(HttpMessageController.isBinaryContent("text/plain"));
+        Assert.assertFalse(HttpMessageController.isBinaryContent(null));
+        Assert.assertFalse(HttpMessageController.isBinaryContent("invalid"));
+    }
+
+    /**
+     * Binds mocked servlet request to current thread.
+     * @param method
+     */
+    private void mockServletRequest(String method) {
+        reset(servletRequest);
+        when(servletRequest.getMethod()).thenReturn(method);
+        when(servletRequest.getRequestURI()).thenReturn("/test");
+        when(servletRequest.getContextPath()).thenReturn("");
+        when(servletRequest.getProtocol()).thenReturn("HTTP/1.1");
+        when(servletRequest.getHeaderNames()).thenReturn(Collections.<String>emptyEnumeration());
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(servletRequest));
+    }
+}
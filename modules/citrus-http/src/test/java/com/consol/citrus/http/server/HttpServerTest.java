@@ -23,6 +23,8 @@ import com.consol.citrus.http.client.HttpEndpointConfiguration;
 import com.consol.citrus.http.message.HttpMessage;
 import com.consol.citrus.http.message.HttpMessageHeaders;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
@@ -81,4 +83,56 @@ public class HttpServerTest extends AbstractTestNGUnitTest {
             Assert.assertTrue(e.getMessage().contains("Connection refused"));
         }
     }
+
+    @Test
+    public void threadPoolAndConnectorSettingsTest() throws IOException {
+        HttpServer server = new HttpServer();
+        server.setPort(port);
+        server.setApplicationContext(applicationContext);
+        server.setContextConfigLocation("classpath:com/consol/citrus/http/HttpServerTest-http-servlet.xml");
+        server.setMinThreads(4);
+        server.setMaxThreads(12);
+        server.setThreadIdleTimeout(10000L);
+        server.setMaxQueuedRequests(50);
+        server.setAcceptors(1);
+        server.setSelectors(1);
+        server.setAcceptQueueSize(64);
+        server.setIdleTimeout(5000L);
+
+        Assert.assertEquals(server.getThreads(), 0);
+        Assert.assertEquals(server.getQueuedRequests(), 0);
+
+        server.startup();
+
+        try {
+            QueuedThreadPool threadPool = (QueuedThreadPool) server.getJettyServer().getThreadPool();
+            Assert.assertEquals(threadPool.getMinThreads(), 4);
+            Assert.assertEquals(threadPool.getMaxThreads(), 12);
+            Assert.assertEquals(threadPool.getIdleTimeout(), 10000);
+
+            ServerConnector connector = (ServerConnector) server.getJettyServer().getConnectors()[0];
+            Assert.assertEquals(connector.getPort(), port);
+            Assert.assertEquals(connector.getAcceptors(), 1);
+            Assert.assertEquals(connector.getSelectorManager().getSelectorCount(), 1);
+            Assert.assertEquals(connector.getAcceptQueueSize(), 64);
+            Assert.assertEquals(connector.getIdleTimeout(), 5000L);
+
+            TestContext context = testContextFactory.getObject();
+            client.send(new HttpMessage("Hello")
+                    .method(HttpMethod.GET), context);
+            Assert.assertEquals(client.receive(context).getHeader(HttpMessageHeaders.HTTP_STATUS_CODE), HttpStatus.OK.value());
+
+            Assert.assertTrue(server.getThreads() >= 4);
+            Assert.assertTrue(server.getThreads() <= 12);
+            Assert.assertTrue(server.getIdleThreads() <= server.getThreads());
+            Assert.assertTrue(server.getBusyThreads() >= 1);
+            Assert.assertTrue(server.getBusyThreads() <= server.getThreads());
+            Assert.assertEquals(server.getQueuedRequests(), 0);
+        } finally {
+            server.shutdown();
+        }
+
+        Assert.assertEquals(server.getThreads(), 0);
+        Assert.assertEquals(server.getBusyThreads(), 0);
+    }
 }
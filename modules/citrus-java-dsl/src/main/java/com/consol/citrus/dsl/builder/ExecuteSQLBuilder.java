@@ -114,4 +114,13 @@ public class ExecuteSQLBuilder extends AbstractTestActionBuilder<ExecuteSQLActio
 		action.setIgnoreErrors(ignoreErrors);
 		return this;
 	}
+
+	/**
+     * Sets the maximum number of statements per JDBC batch. Zero disables batch execution.
+     * @param batchSize
+     */
+	public ExecuteSQLBuilder batchSize(int batchSize) {
+		action.setBatchSize(batchSize);
+		return this;
+	}
 }
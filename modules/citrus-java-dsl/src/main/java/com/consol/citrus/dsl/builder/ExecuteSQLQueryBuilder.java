@@ -189,4 +189,22 @@ public class ExecuteSQLQueryBuilder extends AbstractTestActionBuilder<ExecuteSQL
 		action.setValidator(validator);
 		return this;
 	}
+
+	/**
+     * Enables streaming mode validating result rows while reading the result set.
+     * @param streaming
+     */
+	public ExecuteSQLQueryBuilder streaming(boolean streaming) {
+		action.setStreaming(streaming);
+		return this;
+	}
+
+	/**
+     * Sets the number of rows fetched from the database at once in streaming mode.
+     * @param fetchSize
+     */
+	public ExecuteSQLQueryBuilder fetchSize(int fetchSize) {
+		action.setFetchSize(fetchSize);
+		return this;
+	}
 }
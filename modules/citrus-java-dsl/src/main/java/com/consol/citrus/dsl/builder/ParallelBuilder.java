@@ -60,4 +60,33 @@ public class ParallelBuilder extends AbstractTestContainerBuilder<Parallel> {
         this(runner, new Parallel());
     }
 
+    /**
+     * Sets the execution strategy used to run nested actions.
+     * @param executionStrategy
+     * @return
+     */
+    public ParallelBuilder executionStrategy(ParallelExecutionStrategy executionStrategy) {
+        action.setExecutionStrategy(executionStrategy);
+        return this;
+    }
+
+    /**
+     * Limits the number of nested actions running at the same time.
+     * @param maxConcurrency
+     * @return
+     */
+    public ParallelBuilder maxConcurrency(int maxConcurrency) {
+        action.setMaxConcurrency(maxConcurrency);
+        return this;
+    }
+
+    /**
+     * Skip pending nested actions as soon as one nested action has failed.
+     * @param failFast
+     * @return
+     */
+    public ParallelBuilder failFast(boolean failFast) {
+        action.setFailFast(failFast);
+        return this;
+    }
 }
@@ -71,6 +71,18 @@ public @interface JmsEndpointConfig {
      */
     boolean useObjectMessages() default false;
 
+    /**
+     * Prefetch messages into local buffer.
+     * @return
+     */
+    boolean prefetch() default false;
+
+    /**
+     * Maximum number of prefetched messages.
+     * @return
+     */
+    int prefetchSize() default 1000;
+
     /**
      * Timeout.
      * @return
@@ -87,6 +87,8 @@ public class JmsEndpointConfigParser extends AbstractAnnotationConfigParser<JmsE
 
         builder.pubSubDomain(annotation.pubSubDomain());
         builder.useObjectMessages(annotation.useObjectMessages());
+        builder.prefetch(annotation.prefetch());
+        builder.prefetchSize(annotation.prefetchSize());
 
         if (StringUtils.hasText(annotation.messageConverter())) {
             builder.messageConverter(getReferenceResolver().resolve(annotation.messageConverter(), JmsMessageConverter.class));
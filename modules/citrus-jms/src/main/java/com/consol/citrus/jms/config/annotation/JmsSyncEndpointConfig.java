@@ -89,6 +89,18 @@ public @interface JmsSyncEndpointConfig {
      */
     int pollingInterval() default 500;
 
+    /**
+     * Session pooling.
+     * @return
+     */
+    boolean pooling() default false;
+
+    /**
+     * Maximum number of pooled sessions.
+     * @return
+     */
+    int poolSize() default 10;
+
     /**
      * Message correlator.
      * @return
@@ -109,6 +109,8 @@ public class JmsSyncEndpointConfigParser extends AbstractAnnotationConfigParser<
         }
 
         builder.pollingInterval(annotation.pollingInterval());
+        builder.pooling(annotation.pooling());
+        builder.poolSize(annotation.poolSize());
 
         return builder.build();
     }
@@ -16,10 +16,14 @@
 
 package com.consol.citrus.jms.config.xml;
 
+import com.consol.citrus.config.util.BeanDefinitionParserUtils;
 import com.consol.citrus.endpoint.Endpoint;
 import com.consol.citrus.endpoint.EndpointConfiguration;
 import com.consol.citrus.jms.endpoint.JmsEndpoint;
 import com.consol.citrus.jms.endpoint.JmsEndpointConfiguration;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.xml.ParserContext;
+import org.w3c.dom.Element;
 
 /**
  * Bean definition parser for JMS endpoint component.
@@ -37,4 +41,15 @@ public class JmsEndpointParser extends AbstractJmsEndpointParser {
     protected Class<? extends EndpointConfiguration> getEndpointConfigurationClass()  {
         return JmsEndpointConfiguration.class;
     }
+
+    @Override
+    protected void parseEndpointConfiguration(BeanDefinitionBuilder endpointConfiguration, Element element, ParserContext parserContext) {
+        super.parseEndpointConfiguration(endpointConfiguration, element, parserContext);
+
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration,
+                element.getAttribute("prefetch"), "prefetch");
+
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration,
+                element.getAttribute("prefetch-size"), "prefetchSize");
+    }
 }
@@ -18,13 +18,19 @@ package com.consol.citrus.jms.endpoint;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ActionTimeoutException;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.messaging.AbstractSelectiveMessageConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.StringUtils;
 
+import javax.jms.JMSException;
+
 /**
+ * Consumer receives messages from JMS destination using the JMS template. In prefetch mode consumer reads
+ * messages from a local buffer that is filled by a long-lived JMS message consumer.
+ *
  * @author Christoph Deppisch
  * @since 1.4
  */
@@ -36,6 +42,9 @@ public class JmsConsumer extends AbstractSelectiveMessageConsumer {
     /** Endpoint configuration */
     private final JmsEndpointConfiguration endpointConfiguration;
 
+    /** Local message buffer in prefetch mode */
+    private JmsPrefetchBuffer prefetchBuffer;
+
     /**
      * Default constructor using endpoint.
      * @param name
@@ -58,13 +67,18 @@ public class JmsConsumer extends AbstractSelectiveMessageConsumer {
 
         log.debug("Receiving JMS message on destination: '" + destinationName + "'");
 
-        endpointConfiguration.getJmsTemplate().setReceiveTimeout(timeout);
         javax.jms.Message receivedJmsMessage;
 
-        if (StringUtils.hasText(selector)) {
-            receivedJmsMessage = endpointConfiguration.getJmsTemplate().receiveSelected(selector);
+        if (endpointConfiguration.isPrefetch()) {
+            receivedJmsMessage = getPrefetchBuffer().receive(selector, timeout);
         } else {
-            receivedJmsMessage = endpointConfiguration.getJmsTemplate().receive();
+            endpointConfiguration.getJmsTemplate().setReceiveTimeout(timeout);
+
+            if (StringUtils.hasText(selector)) {
+                receivedJmsMessage = endpointConfiguration.getJmsTemplate().receiveSelected(selector);
+            } else {
+                receivedJmsMessage = endpointConfiguration.getJmsTemplate().receive();
+            }
         }
 
         if (receivedJmsMessage == null) {
@@ -79,4 +93,34 @@ public class JmsConsumer extends AbstractSelectiveMessageConsumer {
         return receivedMessage;
     }
 
+    /**
+     * Gets the prefetch buffer. Buffer is created and started on first access.
+     * @return
+     */
+    private synchronized JmsPrefetchBuffer getPrefetchBuffer() {
+        if (prefetchBuffer == null) {
+            JmsPrefetchBuffer buffer = new JmsPrefetchBuffer(endpointConfiguration);
+
+            try {
+                buffer.start();
+            } catch (JMSException e) {
+                buffer.stop();
+                throw new CitrusRuntimeException("Failed to start JMS message prefetching", e);
+            }
+
+            prefetchBuffer = buffer;
+        }
+
+        return prefetchBuffer;
+    }
+
+    /**
+     * Destroy method stopping message prefetching.
+     */
+    public synchronized void destroy() {
+        if (prefetchBuffer != null) {
+            prefetchBuffer.stop();
+            prefetchBuffer = null;
+        }
+    }
 }
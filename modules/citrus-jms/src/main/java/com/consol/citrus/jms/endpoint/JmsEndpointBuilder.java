@@ -107,6 +107,26 @@ public class JmsEndpointBuilder extends AbstractEndpointBuilder<JmsEndpoint> {
         return this;
     }
 
+    /**
+     * Enables message prefetching.
+     * @param prefetch
+     * @return
+     */
+    public JmsEndpointBuilder prefetch(boolean prefetch) {
+        endpoint.getEndpointConfiguration().setPrefetch(prefetch);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of prefetched messages.
+     * @param prefetchSize
+     * @return
+     */
+    public JmsEndpointBuilder prefetchSize(int prefetchSize) {
+        endpoint.getEndpointConfiguration().setPrefetchSize(prefetchSize);
+        return this;
+    }
+
     /**
      * Sets the default timeout.
      * @param timeout
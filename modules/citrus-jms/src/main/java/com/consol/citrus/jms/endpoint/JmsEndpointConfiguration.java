@@ -64,6 +64,12 @@ public class JmsEndpointConfiguration extends AbstractEndpointConfiguration {
     /** Should always use object messages */
     private boolean useObjectMessages = false;
 
+    /** Prefetch messages into local buffer using a long-lived message consumer */
+    private boolean prefetch = false;
+
+    /** Maximum number of prefetched messages */
+    private int prefetchSize = 1000;
+
     /**
      * Gets the destination name.
      * @return the destinationName
@@ -260,4 +266,36 @@ public class JmsEndpointConfiguration extends AbstractEndpointConfiguration {
     public void setUseObjectMessages(boolean useObjectMessages) {
         this.useObjectMessages = useObjectMessages;
     }
+
+    /**
+     * Gets the prefetch.
+     * @return
+     */
+    public boolean isPrefetch() {
+        return prefetch;
+    }
+
+    /**
+     * Sets the prefetch.
+     * @param prefetch
+     */
+    public void setPrefetch(boolean prefetch) {
+        this.prefetch = prefetch;
+    }
+
+    /**
+     * Gets the prefetchSize.
+     * @return
+     */
+    public int getPrefetchSize() {
+        return prefetchSize;
+    }
+
+    /**
+     * Sets the prefetchSize.
+     * @param prefetchSize
+     */
+    public void setPrefetchSize(int prefetchSize) {
+        this.prefetchSize = prefetchSize;
+    }
 }
@@ -0,0 +1,350 @@
+/*
+ * Copyright 2006-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jms.endpoint;
+
+import com.consol.citrus.channel.MessageSelectingQueueChannel;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.integration.core.MessageSelector;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.jms.connection.ConnectionFactoryUtils;
+import org.springframework.jms.support.JmsUtils;
+import org.springframework.jms.support.destination.DestinationResolver;
+import org.springframework.jms.support.destination.DynamicDestinationResolver;
+import org.springframework.messaging.Message;
+import org.springframework.util.StringUtils;
+
+import javax.jms.*;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Local message buffer filled by a long-lived JMS message consumer. Messages are prefetched from the JMS destination
+ * into a bounded in memory channel so receive operations do not need to open a new session and consumer for each message.
+ * When the buffer is full the listener blocks and the broker stops delivering further messages.
+ *
+ * Messages are acknowledged as soon as they are added to the local buffer. Messages still buffered when the buffer is
+ * stopped are not delivered again by the broker and get lost. These messages are counted and logged on stop.
+ *
+ * Message selectors are evaluated locally on JMS message properties and the JMSCorrelationID, JMSMessageID, JMSType and
+ * JMSPriority headers. Only key value selectors combined with AND are supported in this mode. String literals in quotes
+ * match string values, numeric and boolean literals match numeric and boolean values as with the JMS broker.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7
+ */
+public class JmsPrefetchBuffer implements MessageListener {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(JmsPrefetchBuffer.class);
+
+    /** Key value selector condition optionally followed by AND */
+    private static final Pattern SELECTOR_CONDITION = Pattern.compile("\\s*([A-Za-z_$][\\w$.]*)\\s*=\\s*('(?:[^']|'')*'|[^\\s']+)\\s*(?:(AND)\\b\\s*|$)",
+            Pattern.CASE_INSENSITIVE);
+
+    /** Endpoint configuration */
+    private final JmsEndpointConfiguration endpointConfiguration;
+
+    /** Local message buffer */
+    private final MessageSelectingQueueChannel buffer;
+
+    /** JMS resources */
+    private Connection connection;
+    private Session session;
+    private MessageConsumer messageConsumer;
+
+    /** Number of buffered messages dropped on stop */
+    private final AtomicLong droppedMessages = new AtomicLong();
+
+    /**
+     * Default constructor using endpoint configuration.
+     * @param endpointConfiguration
+     */
+    public JmsPrefetchBuffer(JmsEndpointConfiguration endpointConfiguration) {
+        this.endpointConfiguration = endpointConfiguration;
+
+        this.buffer = new MessageSelectingQueueChannel(endpointConfiguration.getPrefetchSize());
+        this.buffer.setSignalling(true);
+    }
+
+    /**
+     * Starts consuming messages from the JMS destination. Consumer is only started once.
+     * @throws JMSException
+     */
+    public synchronized void start() throws JMSException {
+        if (messageConsumer != null) {
+            return;
+        }
+
+        ConnectionFactory connectionFactory = endpointConfiguration.getConnectionFactory() != null ?
+                endpointConfiguration.getConnectionFactory() : endpointConfiguration.getJmsTemplate().getConnectionFactory();
+
+        connection = connectionFactory.createConnection();
+        session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+        messageConsumer = session.createConsumer(getDestination(session));
+        messageConsumer.setMessageListener(this);
+        connection.start();
+
+        log.debug("Started prefetching JMS messages on destination: '" + endpointConfiguration.getDefaultDestinationName() + "'");
+    }
+
+    @Override
+    public void onMessage(javax.jms.Message jmsMessage) {
+        try {
+            buffer.send(MessageBuilder.withPayload(jmsMessage).copyHeaders(getSelectorHeaders(jmsMessage)).build());
+        } catch (JMSException e) {
+            throw new CitrusRuntimeException("Failed to read JMS message headers", e);
+        }
+    }
+
+    /**
+     * Receives next message from local buffer. Selector is evaluated on buffered messages.
+     * @param selector
+     * @param timeout
+     * @return the JMS message or null on timeout.
+     */
+    public javax.jms.Message receive(String selector, long timeout) {
+        Message<?> message;
+
+        if (StringUtils.hasText(selector)) {
+            message = buffer.receive(new PropertyMatchingMessageSelector(parseSelector(selector)), timeout);
+        } else {
+            message = buffer.receive(timeout);
+        }
+
+        return message != null ? (javax.jms.Message) message.getPayload() : null;
+    }
+
+    /**
+     * Stops consumer and closes session and connection. Buffer is cleared before the consumer is closed so a listener
+     * blocked on a full buffer is released. Messages still buffered have already been acknowledged and are dropped.
+     */
+    public synchronized void stop() {
+        int dropped = buffer.clear().size();
+
+        JmsUtils.closeMessageConsumer(messageConsumer);
+        JmsUtils.closeSession(session);
+
+        if (connection != null) {
+            ConnectionFactoryUtils.releaseConnection(connection, endpointConfiguration.getConnectionFactory(), true);
+        }
+
+        messageConsumer = null;
+        session = null;
+        connection = null;
+
+        dropped += buffer.clear().size();
+        if (dropped > 0) {
+            droppedMessages.addAndGet(dropped);
+            log.warn("Dropped " + dropped + " prefetched JMS message(s) on destination: '" + endpointConfiguration.getDefaultDestinationName() +
+                    "' - messages have been acknowledged and are lost");
+        }
+    }
+
+    /**
+     * Parses key value selector combined with AND into expected values by property name. Quoted literals are
+     * string values, TRUE and FALSE are boolean values and all other literals must be numeric values.
+     * @param selector
+     * @return
+     */
+    static Map<String, Object> parseSelector(String selector) {
+        Map<String, Object> conditions = new LinkedHashMap<>();
+        Matcher matcher = SELECTOR_CONDITION.matcher(selector);
+
+        int position = 0;
+        boolean complete = false;
+        while (position < selector.length()) {
+            if (!matcher.find(position) || matcher.start() != position) {
+                throw unsupportedSelector(selector);
+            }
+
+            conditions.put(matcher.group(1), parseLiteral(matcher.group(2), selector));
+            complete = matcher.group(3) == null;
+            position = matcher.end();
+        }
+
+        if (!complete) {
+            throw unsupportedSelector(selector);
+        }
+
+        return conditions;
+    }
+
+    /**
+     * Parses selector literal to string, boolean or numeric value.
+     * @param literal
+     * @param selector
+     * @return
+     */
+    private static Object parseLiteral(String literal, String selector) {
+        if (literal.startsWith("'")) {
+            return literal.substring(1, literal.length() - 1).replace("''", "'");
+        }
+
+        if (literal.equalsIgnoreCase(Boolean.TRUE.toString()) || literal.equalsIgnoreCase(Boolean.FALSE.toString())) {
+            return Boolean.valueOf(literal);
+        }
+
+        try {
+            return Long.valueOf(literal);
+        } catch (NumberFormatException e) {
+            try {
+                return Double.valueOf(literal);
+            } catch (NumberFormatException ex) {
+                throw unsupportedSelector(selector);
+            }
+        }
+    }
+
+    /**
+     * Creates exception for selector that can not be evaluated locally.
+     * @param selector
+     * @return
+     */
+    private static CitrusRuntimeException unsupportedSelector(String selector) {
+        return new CitrusRuntimeException("Unsupported message selector in JMS prefetch mode: '" + selector + "' - " +
+                "only key value selectors combined with AND are supported");
+    }
+
+    /**
+     * Gets headers available for message selector evaluation.
+     * @param jmsMessage
+     * @return
+     * @throws JMSException
+     */
+    private Map<String, Object> getSelectorHeaders(javax.jms.Message jmsMessage) throws JMSException {
+        Map<String, Object> headers = new HashMap<>();
+
+        Enumeration<?> propertyNames = jmsMessage.getPropertyNames();
+        if (propertyNames != null) {
+            while (propertyNames.hasMoreElements()) {
+                String propertyName = propertyNames.nextElement().toString();
+                headers.put(propertyName, jmsMessage.getObjectProperty(propertyName));
+            }
+        }
+
+        if (jmsMessage.getJMSCorrelationID() != null) {
+            headers.put("JMSCorrelationID", jmsMessage.getJMSCorrelationID());
+        }
+
+        if (jmsMessage.getJMSMessageID() != null) {
+            headers.put("JMSMessageID", jmsMessage.getJMSMessageID());
+        }
+
+        if (jmsMessage.getJMSType() != null) {
+            headers.put("JMSType", jmsMessage.getJMSType());
+        }
+
+        headers.put("JMSPriority", jmsMessage.getJMSPriority());
+
+        return headers;
+    }
+
+    /**
+     * Gets the destination either from injected destination instance or by resolving the destination name.
+     * @param session
+     * @return
+     * @throws JMSException
+     */
+    private Destination getDestination(Session session) throws JMSException {
+        if (endpointConfiguration.getDestination() != null) {
+            return endpointConfiguration.getDestination();
+        }
+
+        if (endpointConfiguration.getJmsTemplate().getDefaultDestination() != null) {
+            return endpointConfiguration.getJmsTemplate().getDefaultDestination();
+        }
+
+        DestinationResolver destinationResolver = endpointConfiguration.getDestinationResolver() != null ?
+                endpointConfiguration.getDestinationResolver() : new DynamicDestinationResolver();
+
+        return destinationResolver.resolveDestinationName(session, endpointConfiguration.getDefaultDestinationName(), endpointConfiguration.isPubSubDomain());
+    }
+
+    /**
+     * Gets the number of buffered messages.
+     * @return
+     */
+    public int getBufferedMessageCount() {
+        return buffer.getQueueSize();
+    }
+
+    /**
+     * Gets the number of buffered messages dropped on stop.
+     * @return
+     */
+    public long getDroppedMessageCount() {
+        return droppedMessages.get();
+    }
+
+    /**
+     * Message selector matching selector values with JMS message properties. String values only match string
+     * properties, numeric values match numeric properties of any type and boolean values match boolean properties.
+     */
+    private static final class PropertyMatchingMessageSelector implements MessageSelector {
+        private final Map<String, Object> conditions;
+
+        PropertyMatchingMessageSelector(Map<String, Object> conditions) {
+            this.conditions = conditions;
+        }
+
+        @Override
+        public boolean accept(Message<?> message) {
+            for (Map.Entry<String, Object> condition : conditions.entrySet()) {
+                if (!matches(condition.getValue(), message.getHeaders().get(condition.getKey()))) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        /**
+         * Compares expected selector value with property value.
+         * @param expected
+         * @param actual
+         * @return
+         */
+        private static boolean matches(Object expected, Object actual) {
+            if (actual == null) {
+                return false;
+            }
+
+            if (expected instanceof Number && actual instanceof Number) {
+                if (isIntegral(expected) && isIntegral(actual)) {
+                    return ((Number) expected).longValue() == ((Number) actual).longValue();
+                }
+
+                return ((Number) expected).doubleValue() == ((Number) actual).doubleValue();
+            }
+
+            return expected.equals(actual);
+        }
+
+        /**
+         * Checks for integral number types.
+         * @param value
+         * @return
+         */
+        private static boolean isIntegral(Object value) {
+            return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+        }
+    }
+}
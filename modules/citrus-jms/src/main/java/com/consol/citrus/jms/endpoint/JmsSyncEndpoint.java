@@ -81,6 +81,8 @@ public class JmsSyncEndpoint extends JmsEndpoint implements DisposableBean {
 
     @Override
     public void destroy() throws Exception {
+        super.destroy();
+
         if (jmsSyncMessageProducer != null) {
             jmsSyncMessageProducer.destroy();
         }
@@ -138,6 +138,26 @@ public class JmsSyncEndpointBuilder extends AbstractEndpointBuilder<JmsSyncEndpo
         return this;
     }
 
+    /**
+     * Enables session pooling.
+     * @param pooling
+     * @return
+     */
+    public JmsSyncEndpointBuilder pooling(boolean pooling) {
+        endpoint.getEndpointConfiguration().setPooling(pooling);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of pooled sessions.
+     * @param poolSize
+     * @return
+     */
+    public JmsSyncEndpointBuilder poolSize(int poolSize) {
+        endpoint.getEndpointConfiguration().setPoolSize(poolSize);
+        return this;
+    }
+
     /**
      * Sets the message correlator.
      * @param correlator
@@ -43,6 +43,12 @@ public class JmsSyncEndpointConfiguration extends JmsEndpointConfiguration imple
     /** Polling interval when waiting for synchronous reply message to arrive */
     private long pollingInterval = 500L;
 
+    /** Use pooled sessions and shared reply destination for concurrent request reply */
+    private boolean pooling = false;
+
+    /** Maximum number of pooled sessions */
+    private int poolSize = 10;
+
     /**
      * Set the reply message correlator.
      * @param correlator the correlator to set
@@ -107,4 +113,36 @@ public class JmsSyncEndpointConfiguration extends JmsEndpointConfiguration imple
         this.pollingInterval = pollingInterval;
     }
 
+    /**
+     * Gets the pooling.
+     * @return
+     */
+    public boolean isPooling() {
+        return pooling;
+    }
+
+    /**
+     * Sets the pooling.
+     * @param pooling
+     */
+    public void setPooling(boolean pooling) {
+        this.pooling = pooling;
+    }
+
+    /**
+     * Gets the poolSize.
+     * @return
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * Sets the poolSize.
+     * @param poolSize
+     */
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
 }
@@ -32,8 +32,18 @@ import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 import javax.jms.*;
+import java.util.Iterator;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
+ * Synchronous JMS producer sends request messages and waits for the reply message. By default producer uses a single
+ * JMS session and creates a temporary reply destination for each request.
+ *
+ * In pooling mode producer borrows JMS sessions with cached message producers from a bounded pool so concurrent requests
+ * do not share a session. Requests without explicit reply destination share a long-lived temporary reply destination.
+ * Reply messages on this destination are dispatched to the waiting request by JMS correlation id.
+ *
  * @author Christoph Deppisch
  * @since 1.4
  */
@@ -45,6 +55,24 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
     /** JMS session */
     private Session session = null;
 
+    /** Idle pooled sessions */
+    private final BlockingQueue<PooledSession> idleSessions = new LinkedBlockingQueue<>();
+
+    /** Number of pooled sessions created */
+    private final AtomicInteger pooledSessionCount = new AtomicInteger();
+
+    /** Session consuming replies on shared reply destination */
+    private Session replySession;
+
+    /** Consumer on shared reply destination */
+    private MessageConsumer replyConsumer;
+
+    /** Shared temporary reply destination */
+    private Destination sharedReplyDestination;
+
+    /** Pending replies on shared reply destination by JMS correlation id */
+    private final ConcurrentMap<String, PendingReply> pendingReplies = new ConcurrentHashMap<>();
+
     /** Store of reply messages */
     private CorrelationManager<Message> correlationManager;
 
@@ -81,6 +109,11 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
 
         context.onOutboundMessage(message);
 
+        if (endpointConfiguration.isPooling()) {
+            sendPooled(message, correlationKey, context);
+            return;
+        }
+
         MessageProducer messageProducer = null;
         MessageConsumer messageConsumer = null;
         Destination replyToDestination = null;
@@ -103,7 +136,7 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
             messageProducer.send(jmsRequest);
 
             if (messageConsumer == null) {
-                messageConsumer = createMessageConsumer(replyToDestination, jmsRequest.getJMSMessageID());
+                messageConsumer = createMessageConsumer(session, replyToDestination, jmsRequest.getJMSMessageID());
             }
 
             log.info("Message was sent to JMS destination: '{}'", defaultDestinationName);
@@ -132,6 +165,217 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
         }
     }
 
+    /**
+     * Sends request message using pooled session and waits for reply message.
+     * @param message
+     * @param correlationKey
+     * @param context
+     */
+    private void sendPooled(Message message, String correlationKey, TestContext context) {
+        String defaultDestinationName = endpointConfiguration.getDefaultDestinationName();
+
+        PooledSession pooledSession = null;
+        MessageConsumer messageConsumer = null;
+        String messageId = null;
+        boolean sharedReply = false;
+        boolean failed = true;
+
+        try {
+            createConnection();
+            pooledSession = borrowSession();
+
+            javax.jms.Message jmsRequest = endpointConfiguration.getMessageConverter().createJmsMessage(message, pooledSession.session, endpointConfiguration, context);
+            endpointConfiguration.getMessageConverter().convertOutbound(jmsRequest, message, endpointConfiguration, context);
+
+            Destination replyToDestination = resolveReplyDestination(pooledSession.session, message);
+            if (replyToDestination == null) {
+                replyToDestination = getSharedReplyDestination();
+                sharedReply = true;
+            }
+
+            jmsRequest.setJMSReplyTo(replyToDestination);
+            pooledSession.getProducer(getDefaultDestination(pooledSession.session)).send(jmsRequest);
+            messageId = jmsRequest.getJMSMessageID();
+
+            log.info("Message was sent to JMS destination: '{}'", defaultDestinationName);
+            log.debug("Receiving reply message on destination: '{}'", replyToDestination);
+
+            javax.jms.Message jmsReplyMessage;
+            if (sharedReply) {
+                jmsReplyMessage = getPendingReply(messageId).await(endpointConfiguration.getTimeout());
+            } else {
+                messageConsumer = createMessageConsumer(pooledSession.session, replyToDestination, messageId);
+                jmsReplyMessage = (endpointConfiguration.getTimeout() >= 0) ? messageConsumer.receive(endpointConfiguration.getTimeout()) : messageConsumer.receive();
+            }
+            failed = false;
+
+            if (jmsReplyMessage == null) {
+                throw new ActionTimeoutException("Reply timed out after " +
+                        endpointConfiguration.getTimeout() + "ms. Did not receive reply message on reply destination");
+            }
+
+            Message responseMessage = endpointConfiguration.getMessageConverter().convertInbound(jmsReplyMessage, endpointConfiguration, context);
+
+            log.info("Received reply message on JMS destination: '{}'", replyToDestination);
+
+            context.onInboundMessage(responseMessage);
+
+            correlationManager.store(correlationKey, responseMessage);
+        } catch (JMSException e) {
+            throw new CitrusRuntimeException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for reply message", e);
+        } finally {
+            JmsUtils.closeMessageConsumer(messageConsumer);
+
+            if (sharedReply && messageId != null) {
+                pendingReplies.remove(messageId);
+            }
+
+            releaseSession(pooledSession, failed);
+        }
+    }
+
+    /**
+     * Borrows session from pool. Creates new session as long as maximum pool size is not reached. Otherwise waits
+     * for other requests to release their session.
+     * @return
+     * @throws JMSException
+     * @throws InterruptedException
+     */
+    private PooledSession borrowSession() throws JMSException, InterruptedException {
+        PooledSession pooledSession = idleSessions.poll();
+        if (pooledSession != null) {
+            return pooledSession;
+        }
+
+        if (pooledSessionCount.incrementAndGet() <= endpointConfiguration.getPoolSize()) {
+            try {
+                return new PooledSession(openSession(connection));
+            } catch (JMSException e) {
+                pooledSessionCount.decrementAndGet();
+                throw e;
+            }
+        }
+
+        pooledSessionCount.decrementAndGet();
+
+        if (endpointConfiguration.getTimeout() >= 0) {
+            pooledSession = idleSessions.poll(endpointConfiguration.getTimeout(), TimeUnit.MILLISECONDS);
+        } else {
+            pooledSession = idleSessions.take();
+        }
+
+        if (pooledSession == null) {
+            throw new ActionTimeoutException("Timed out after " + endpointConfiguration.getTimeout() +
+                    "ms while waiting for pooled JMS session");
+        }
+
+        return pooledSession;
+    }
+
+    /**
+     * Returns session to pool. Sessions that failed with JMS error are closed and removed from pool.
+     * @param pooledSession
+     * @param failed
+     */
+    private void releaseSession(PooledSession pooledSession, boolean failed) {
+        if (pooledSession == null) {
+            return;
+        }
+
+        if (failed) {
+            pooledSession.close();
+            pooledSessionCount.decrementAndGet();
+        } else {
+            idleSessions.offer(pooledSession);
+        }
+    }
+
+    /**
+     * Gets the shared temporary reply destination. Creates the destination and a listening consumer on first access.
+     * @return
+     * @throws JMSException
+     */
+    private synchronized Destination getSharedReplyDestination() throws JMSException {
+        if (sharedReplyDestination == null) {
+            replySession = openSession(connection);
+
+            if (endpointConfiguration.isPubSubDomain() && replySession instanceof TopicSession) {
+                sharedReplyDestination = replySession.createTemporaryTopic();
+            } else {
+                sharedReplyDestination = replySession.createTemporaryQueue();
+            }
+
+            replyConsumer = replySession.createConsumer(sharedReplyDestination);
+            replyConsumer.setMessageListener(new MessageListener() {
+                @Override
+                public void onMessage(javax.jms.Message reply) {
+                    dispatchReply(reply);
+                }
+            });
+        }
+
+        return sharedReplyDestination;
+    }
+
+    /**
+     * Dispatches reply message received on shared reply destination to the waiting request.
+     * @param reply
+     */
+    private void dispatchReply(javax.jms.Message reply) {
+        try {
+            String correlationId = reply.getJMSCorrelationID();
+            if (correlationId == null) {
+                log.warn("Discard reply message without JMS correlation id on shared reply destination");
+                return;
+            }
+
+            getPendingReply(correlationId).complete(reply);
+            purgeExpiredReplies();
+        } catch (JMSException e) {
+            log.error("Failed to dispatch reply message", e);
+        }
+    }
+
+    /**
+     * Gets pending reply for correlation id. Both reply listener and waiting request use this method so reply
+     * messages arriving before the request is waiting are not lost.
+     * @param correlationId
+     * @return
+     */
+    private PendingReply getPendingReply(String correlationId) {
+        PendingReply pendingReply = pendingReplies.get(correlationId);
+
+        if (pendingReply == null) {
+            pendingReply = new PendingReply();
+            PendingReply existing = pendingReplies.putIfAbsent(correlationId, pendingReply);
+            if (existing != null) {
+                pendingReply = existing;
+            }
+        }
+
+        return pendingReply;
+    }
+
+    /**
+     * Removes completed replies nobody is waiting for anymore, e.g. late replies of timed out requests.
+     */
+    private void purgeExpiredReplies() {
+        if (endpointConfiguration.getTimeout() < 0) {
+            return;
+        }
+
+        long expiry = System.currentTimeMillis() - 2 * endpointConfiguration.getTimeout();
+        for (Iterator<PendingReply> it = pendingReplies.values().iterator(); it.hasNext();) {
+            PendingReply pendingReply = it.next();
+            if (pendingReply.isComplete() && pendingReply.created < expiry) {
+                it.remove();
+            }
+        }
+    }
+
     @Override
     public Message receive(TestContext context) {
         return receive(correlationManager.getCorrelationKey(
@@ -165,7 +409,7 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
      * @return connection
      * @throws JMSException
      */
-    protected void createConnection() throws JMSException {
+    protected synchronized void createConnection() throws JMSException {
         if (connection == null) {
             if (!endpointConfiguration.isPubSubDomain() && endpointConfiguration.getConnectionFactory() instanceof QueueConnectionFactory) {
                 connection = ((QueueConnectionFactory) endpointConfiguration.getConnectionFactory()).createQueueConnection();
@@ -191,16 +435,26 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
      */
     protected void createSession(Connection connection) throws JMSException {
         if (session == null) {
-            if (!endpointConfiguration.isPubSubDomain() && connection instanceof QueueConnection) {
-                session = ((QueueConnection) connection).createQueueSession(false, Session.AUTO_ACKNOWLEDGE);
-            } else if (endpointConfiguration.isPubSubDomain() && endpointConfiguration.getConnectionFactory() instanceof TopicConnectionFactory) {
-                session = ((TopicConnection) connection).createTopicSession(false, Session.AUTO_ACKNOWLEDGE);
-            } else {
-                log.warn("Not able to create a session with connection factory '" + endpointConfiguration.getConnectionFactory() + "'" +
-                        " when using setting 'publish-subscribe-domain' (=" + endpointConfiguration.isPubSubDomain() + ")");
+            session = openSession(connection);
+        }
+    }
 
-                session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
-            }
+    /**
+     * Opens new JMS session on connection.
+     * @param connection to use for session creation.
+     * @return session.
+     * @throws JMSException
+     */
+    private Session openSession(Connection connection) throws JMSException {
+        if (!endpointConfiguration.isPubSubDomain() && connection instanceof QueueConnection) {
+            return ((QueueConnection) connection).createQueueSession(false, Session.AUTO_ACKNOWLEDGE);
+        } else if (endpointConfiguration.isPubSubDomain() && endpointConfiguration.getConnectionFactory() instanceof TopicConnectionFactory) {
+            return ((TopicConnection) connection).createTopicSession(false, Session.AUTO_ACKNOWLEDGE);
+        } else {
+            log.warn("Not able to create a session with connection factory '" + endpointConfiguration.getConnectionFactory() + "'" +
+                    " when using setting 'publish-subscribe-domain' (=" + endpointConfiguration.isPubSubDomain() + ")");
+
+            return connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
         }
     }
 
@@ -208,12 +462,13 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
      * Creates a message consumer on temporary/durable queue or topic. Durable queue/topic destinations
      * require a message selector to be set.
      *
+     * @param session the session to create the consumer with.
      * @param replyToDestination the reply destination.
      * @param messageId the messageId used for optional message selector.
      * @return
      * @throws JMSException
      */
-    private MessageConsumer createMessageConsumer(Destination replyToDestination, String messageId) throws JMSException {
+    private MessageConsumer createMessageConsumer(Session session, Destination replyToDestination, String messageId) throws JMSException {
         MessageConsumer messageConsumer;
 
         if (replyToDestination instanceof Queue) {
@@ -255,6 +510,28 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
      * @throws JMSException
      */
     private Destination getReplyDestination(Session session, Message message) throws JMSException {
+        Destination replyDestination = resolveReplyDestination(session, message);
+        if (replyDestination != null) {
+            return replyDestination;
+        }
+
+        if (endpointConfiguration.isPubSubDomain() && session instanceof TopicSession){
+            return session.createTemporaryTopic();
+        } else {
+            return session.createTemporaryQueue();
+        }
+    }
+
+    /**
+     * Resolves explicit reply destination either by injected instance or destination name. Returns null
+     * when no explicit reply destination is set.
+     *
+     * @param session current JMS session
+     * @param message holding possible reply destination in header.
+     * @return the reply destination or null.
+     * @throws JMSException
+     */
+    private Destination resolveReplyDestination(Session session, Message message) throws JMSException {
         if (message.getHeader(org.springframework.messaging.MessageHeaders.REPLY_CHANNEL) != null) {
             if (message.getHeader(org.springframework.messaging.MessageHeaders.REPLY_CHANNEL) instanceof Destination) {
                 return (Destination) message.getHeader(org.springframework.messaging.MessageHeaders.REPLY_CHANNEL);
@@ -267,11 +544,7 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
             return resolveDestinationName(endpointConfiguration.getReplyDestinationName(), session);
         }
 
-        if (endpointConfiguration.isPubSubDomain() && session instanceof TopicSession){
-            return session.createTemporaryTopic();
-        } else {
-            return session.createTemporaryQueue();
-        }
+        return null;
     }
 
     /**
@@ -306,6 +579,22 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
     public void destroy() {
         JmsUtils.closeSession(session);
 
+        synchronized (this) {
+            JmsUtils.closeMessageConsumer(replyConsumer);
+            deleteTemporaryDestination(sharedReplyDestination);
+            JmsUtils.closeSession(replySession);
+
+            replyConsumer = null;
+            sharedReplyDestination = null;
+            replySession = null;
+        }
+
+        PooledSession pooledSession;
+        while ((pooledSession = idleSessions.poll()) != null) {
+            pooledSession.close();
+            pooledSessionCount.decrementAndGet();
+        }
+
         if (connection != null) {
             ConnectionFactoryUtils.releaseConnection(connection, endpointConfiguration.getConnectionFactory(), true);
         }
@@ -326,4 +615,83 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
     public void setCorrelationManager(CorrelationManager<Message> correlationManager) {
         this.correlationManager = correlationManager;
     }
+
+    /**
+     * Pooled JMS session with cached message producer.
+     */
+    private static final class PooledSession {
+        private final Session session;
+        private MessageProducer producer;
+        private Destination producerDestination;
+
+        PooledSession(Session session) {
+            this.session = session;
+        }
+
+        /**
+         * Gets message producer for destination. Producer is cached as long as destination does not change.
+         * @param destination
+         * @return
+         * @throws JMSException
+         */
+        MessageProducer getProducer(Destination destination) throws JMSException {
+            if (producer == null || !destination.equals(producerDestination)) {
+                JmsUtils.closeMessageProducer(producer);
+                producer = session.createProducer(destination);
+                producerDestination = destination;
+            }
+
+            return producer;
+        }
+
+        /**
+         * Closes producer and session.
+         */
+        void close() {
+            JmsUtils.closeMessageProducer(producer);
+            JmsUtils.closeSession(session);
+        }
+    }
+
+    /**
+     * Reply message on shared reply destination either waiting for request or request waiting for reply.
+     */
+    private static final class PendingReply {
+        private final long created = System.currentTimeMillis();
+        private final CountDownLatch latch = new CountDownLatch(1);
+        private volatile javax.jms.Message reply;
+
+        /**
+         * Completes this pending reply with reply message.
+         * @param reply
+         */
+        void complete(javax.jms.Message reply) {
+            this.reply = reply;
+            latch.countDown();
+        }
+
+        /**
+         * Checks if reply message has arrived.
+         * @return
+         */
+        boolean isComplete() {
+            return latch.getCount() == 0;
+        }
+
+        /**
+         * Waits for reply message. Negative timeout waits forever. Returns null on timeout.
+         * @param timeout
+         * @return
+         * @throws InterruptedException
+         */
+        javax.jms.Message await(long timeout) throws InterruptedException {
+            if (timeout >= 0) {
+                latch.await(timeout, TimeUnit.MILLISECONDS);
+            } else {
+                latch.await();
+            }
+
+            return reply;
+        }
+    }
 }
@@ -21,6 +21,7 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.jms.core.JmsTemplate;
 import org.testng.Assert;
@@ -93,6 +94,52 @@ public class JmsEndpointConsumerTest extends AbstractTestNGUnitTest {
         verify(connection).start();
     }
     
+    @Test
+    public void testReceivePrefetchedMessages() throws JMSException {
+        JmsEndpoint endpoint = new JmsEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+        endpoint.getEndpointConfiguration().setPrefetch(true);
+
+        endpoint.getEndpointConfiguration().setDestination(destination);
+
+        Map<String, Object> fooHeaders = new HashMap<String, Object>();
+        fooHeaders.put("operation", "foo");
+
+        Map<String, Object> barHeaders = new HashMap<String, Object>();
+        barHeaders.put("operation", "bar");
+
+        reset(jmsTemplate, connectionFactory, destination, connection, session, messageConsumer);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+        when(session.createConsumer(destination)).thenReturn(messageConsumer);
+
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        doNothing().when(messageConsumer).setMessageListener(listener.capture());
+
+        try {
+            endpoint.createConsumer().receive(context, 100L);
+            Assert.fail("Missing action timeout exception");
+        } catch (ActionTimeoutException e) {
+            Assert.assertTrue(e.getMessage().contains("Action timed out while receiving JMS message"));
+        }
+
+        listener.getValue().onMessage(new TextMessageImpl("<TestRequest><Message>Foo</Message></TestRequest>", fooHeaders));
+        listener.getValue().onMessage(new TextMessageImpl("<TestRequest><Message>Bar</Message></TestRequest>", barHeaders));
+
+        Message receivedMessage = endpoint.createConsumer().receive("operation = 'bar'", context);
+        Assert.assertEquals(receivedMessage.getPayload(), "<TestRequest><Message>Bar</Message></TestRequest>");
+
+        receivedMessage = endpoint.createConsumer().receive(context);
+        Assert.assertEquals(receivedMessage.getPayload(), "<TestRequest><Message>Foo</Message></TestRequest>");
+
+        verify(connection, times(1)).start();
+        verify(session, times(1)).createConsumer(destination);
+
+        endpoint.destroy();
+        verify(messageConsumer).close();
+    }
+
     @Test
     public void testReceiveMessageWithDestinationName() throws JMSException {
         JmsEndpoint endpoint = new JmsEndpoint();
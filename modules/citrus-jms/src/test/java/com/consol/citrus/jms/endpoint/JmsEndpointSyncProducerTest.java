@@ -22,7 +22,10 @@ import com.consol.citrus.message.*;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.correlation.ObjectStore;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -151,6 +154,68 @@ public class JmsEndpointSyncProducerTest extends AbstractTestNGUnitTest {
         verify(tempReplyQueue).delete();
     }
 
+    @Test
+    public void testSendMessagePooledWithSharedReplyDestination() throws JMSException {
+        JmsSyncEndpoint endpoint = new JmsSyncEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+        endpoint.getEndpointConfiguration().setPooling(true);
+        endpoint.getEndpointConfiguration().setPoolSize(2);
+
+        endpoint.getEndpointConfiguration().setDestination(destination);
+
+        final Message message = new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>");
+
+        final TextMessage jmsResponse = new TextMessageImpl("<TestResponse>Hello World!</TestResponse>", new HashMap<String, Object>()) {
+            @Override
+            public String getJMSCorrelationID() throws JMSException {
+                return "123456789";
+            }
+        };
+
+        reset(connectionFactory, destination, connection, session, messageConsumer, messageProducer, tempReplyQueue);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+
+        when(session.createTemporaryQueue()).thenReturn(tempReplyQueue);
+        when(session.createConsumer(tempReplyQueue)).thenReturn(messageConsumer);
+
+        final ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        doNothing().when(messageConsumer).setMessageListener(listener.capture());
+
+        when(session.createProducer(destination)).thenReturn(messageProducer);
+        doAnswer(new Answer() {
+            @Override
+            public Object answer(InvocationOnMock invocation) throws Throwable {
+                listener.getValue().onMessage(jmsResponse);
+                return null;
+            }
+        }).when(messageProducer).send((TextMessage) any());
+
+        when(session.createTextMessage("<TestRequest><Message>Hello World!</Message></TestRequest>")).thenAnswer(new Answer<TextMessage>() {
+            @Override
+            public TextMessage answer(InvocationOnMock invocation) throws Throwable {
+                return new TextMessageImpl("<TestRequest><Message>Hello World!</Message></TestRequest>", new HashMap<String, Object>());
+            }
+        });
+
+        JmsSyncProducer producer = (JmsSyncProducer) endpoint.createProducer();
+        producer.send(message, context);
+        Assert.assertEquals(producer.receive(context).getPayload(String.class), "<TestResponse>Hello World!</TestResponse>");
+
+        producer.send(message, context);
+        Assert.assertEquals(producer.receive(context).getPayload(String.class), "<TestResponse>Hello World!</TestResponse>");
+
+        verify(connection).start();
+        verify(session, times(1)).createTemporaryQueue();
+        verify(session, times(1)).createProducer(destination);
+        verify(messageProducer, times(2)).send((TextMessage)any());
+        verify(tempReplyQueue, never()).delete();
+
+        producer.destroy();
+        verify(tempReplyQueue).delete();
+    }
+
     @Test
     @SuppressWarnings("rawtypes")
     public void testSendMessageWithReplyHandler() throws JMSException {
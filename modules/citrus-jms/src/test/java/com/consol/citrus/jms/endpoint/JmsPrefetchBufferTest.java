@@ -0,0 +1,84 @@
+/*
+ * Copyright 2006-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jms.endpoint;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import javax.jms.ConnectionFactory;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class JmsPrefetchBufferTest {
+
+    @Test
+    public void testTypedSelector() {
+        JmsPrefetchBuffer buffer = new JmsPrefetchBuffer(new JmsEndpointConfiguration());
+
+        Map<String, Object> headers = new HashMap<String, Object>();
+        headers.put("priority", 5);
+        headers.put("operation", "sayHello");
+        headers.put("urgent", true);
+        buffer.onMessage(new TextMessageImpl("Hello", headers));
+
+        Assert.assertNull(buffer.receive("priority = '5'", 100L));
+        Assert.assertNull(buffer.receive("operation = 'sayHello' AND priority = 4", 100L));
+        Assert.assertNotNull(buffer.receive("operation = 'sayHello' AND priority = 5.0 AND urgent = TRUE", 100L));
+        Assert.assertEquals(buffer.getBufferedMessageCount(), 0);
+    }
+
+    @Test
+    public void testParseSelector() {
+        Map<String, Object> conditions = JmsPrefetchBuffer.parseSelector("operation = 'it''s AND more' and priority=5");
+
+        Assert.assertEquals(conditions.size(), 2);
+        Assert.assertEquals(conditions.get("operation"), "it's AND more");
+        Assert.assertEquals(conditions.get("priority"), 5L);
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testUnsupportedSelector() {
+        JmsPrefetchBuffer.parseSelector("operation = 'sayHello' OR priority > 5");
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testUnsupportedSelectorLiteral() {
+        JmsPrefetchBuffer.parseSelector("operation = sayHello");
+    }
+
+    @Test
+    public void testDroppedMessagesOnStop() {
+        JmsEndpointConfiguration endpointConfiguration = new JmsEndpointConfiguration();
+        endpointConfiguration.setConnectionFactory(Mockito.mock(ConnectionFactory.class));
+        endpointConfiguration.setDestinationName("JMS.Queue.Test");
+
+        JmsPrefetchBuffer buffer = new JmsPrefetchBuffer(endpointConfiguration);
+
+        buffer.onMessage(new TextMessageImpl("Hello", new HashMap<String, Object>()));
+        buffer.onMessage(new TextMessageImpl("Hello again", new HashMap<String, Object>()));
+        Assert.assertEquals(buffer.getBufferedMessageCount(), 2);
+
+        buffer.stop();
+        Assert.assertEquals(buffer.getBufferedMessageCount(), 0);
+        Assert.assertEquals(buffer.getDroppedMessageCount(), 2L);
+    }
+}
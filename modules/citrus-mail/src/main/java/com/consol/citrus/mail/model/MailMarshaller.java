@@ -16,32 +16,20 @@
 
 package com.consol.citrus.mail.model;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.consol.citrus.xml.PooledJaxb2Marshaller;
 import org.springframework.core.io.ClassPathResource;
-import org.springframework.oxm.jaxb.Jaxb2Marshaller;
 
 /**
  * @author Christoph Deppisch
  * @since 2.1
  */
-public class MailMarshaller extends Jaxb2Marshaller {
-
-    /** Logger */
-    private static Logger log = LoggerFactory.getLogger(MailMarshaller.class);
+public class MailMarshaller extends PooledJaxb2Marshaller {
 
+    /**
+     * Default constructor using shared JAXB context for mail model classes.
+     */
     public MailMarshaller() {
-        setClassesToBeBound(MailMessage.class,
-                MailResponse.class,
-                AcceptRequest.class,
-                AcceptResponse.class);
-
-        setSchema(new ClassPathResource("com/consol/citrus/schema/citrus-mail-message.xsd"));
-
-        try {
-            afterPropertiesSet();
-        } catch (Exception e) {
-            log.warn("Failed to setup mail message marshaller", e);
-        }
+        super(new ClassPathResource("com/consol/citrus/schema/citrus-mail-message.xsd"),
+                MailMessage.class, MailResponse.class, AcceptRequest.class, AcceptResponse.class);
     }
 }
@@ -25,6 +25,8 @@ import com.consol.citrus.util.FileUtils;
 import org.apache.sshd.server.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.util.FileCopyUtils;
 
 import java.io.*;
@@ -59,6 +61,12 @@ public class SshCommand implements Command, Runnable {
     /** User on which behalf the command is executed **/
     private String user;
 
+    /** Optional task executor running the command, if not set a new thread is started for each command **/
+    private final TaskExecutor taskExecutor;
+
+    /** Optional command metrics **/
+    private final SshCommandMetrics metrics;
+
     /**
      * Constructor taking a command and the endpoint adapter as arguments
      * @param command command performed
@@ -66,19 +74,55 @@ public class SshCommand implements Command, Runnable {
      * @param endpointConfiguration
      */
     public SshCommand(String command, EndpointAdapter endpointAdapter, SshEndpointConfiguration endpointConfiguration) {
+        this(command, endpointAdapter, endpointConfiguration, null, null);
+    }
+
+    /**
+     * Constructor taking a command, the endpoint adapter and the task executor as arguments
+     * @param command command performed
+     * @param endpointAdapter endpoint adapter
+     * @param endpointConfiguration
+     * @param taskExecutor task executor running the command, may be null
+     * @param metrics command metrics, may be null
+     */
+    public SshCommand(String command, EndpointAdapter endpointAdapter, SshEndpointConfiguration endpointConfiguration,
+                      TaskExecutor taskExecutor, SshCommandMetrics metrics) {
         this.endpointAdapter = endpointAdapter;
         this.command = command;
         this.endpointConfiguration = endpointConfiguration;
+        this.taskExecutor = taskExecutor;
+        this.metrics = metrics;
     }
 
     @Override
     public void start(Environment env) throws IOException {
         user = env.getEnv().get(Environment.ENV_USER);
-        new Thread(this, "CitrusSshCommand: " + command).start();
+
+        if (metrics != null) {
+            metrics.accepted();
+        }
+
+        if (taskExecutor == null) {
+            new Thread(this, "CitrusSshCommand: " + command).start();
+            return;
+        }
+
+        try {
+            taskExecutor.execute(this);
+        } catch (TaskRejectedException e) {
+            log.warn("Rejected SSH command '" + command + "': " + e.getMessage());
+
+            if (metrics != null) {
+                metrics.rejected();
+            }
+
+            exitCallback.onExit(1, "Command rejected - server is busy");
+        }
     }
 
     @Override
     public void run() {
+        boolean success = false;
         try {
             String input = FileUtils.readToString(stdin);
             SshRequest sshRequest = new SshRequest(command, input);
@@ -90,9 +134,14 @@ public class SshCommand implements Command, Runnable {
 
             copyToStream(sshResponse.getStderr(), stderr);
             copyToStream(sshResponse.getStdout(), stdout);
+            success = true;
             exitCallback.onExit(sshResponse.getExit());
         } catch (IOException exp) {
             exitCallback.onExit(1, exp.getMessage());
+        } finally {
+            if (metrics != null) {
+                metrics.finished(success);
+            }
         }
     }
 
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2006-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.ssh;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts in-flight, completed, failed and rejected commands of a SSH server.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7
+ */
+public class SshCommandMetrics {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    /**
+     * Command has been accepted for execution.
+     */
+    void accepted() {
+        inFlight.incrementAndGet();
+    }
+
+    /**
+     * Command has finished.
+     * @param success
+     */
+    void finished(boolean success) {
+        inFlight.decrementAndGet();
+
+        if (success) {
+            completed.incrementAndGet();
+        } else {
+            failed.incrementAndGet();
+        }
+    }
+
+    /**
+     * Command has been rejected because no worker was available.
+     */
+    void rejected() {
+        inFlight.decrementAndGet();
+        rejected.incrementAndGet();
+    }
+
+    /**
+     * Gets the number of commands queued or executing.
+     * @return
+     */
+    public int getInFlightCount() {
+        return inFlight.get();
+    }
+
+    /**
+     * Gets the number of successfully completed commands.
+     * @return
+     */
+    public long getCompletedCount() {
+        return completed.get();
+    }
+
+    /**
+     * Gets the number of commands failed with an error.
+     * @return
+     */
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    /**
+     * Gets the number of rejected commands.
+     * @return
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+}
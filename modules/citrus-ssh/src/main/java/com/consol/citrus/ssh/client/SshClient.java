@@ -21,32 +21,43 @@ import com.consol.citrus.endpoint.AbstractEndpoint;
 import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.message.MessageHeaders;
 import com.consol.citrus.message.correlation.CorrelationManager;
 import com.consol.citrus.message.correlation.PollingCorrelationManager;
 import com.consol.citrus.messaging.*;
 import com.consol.citrus.ssh.model.SshRequest;
 import com.consol.citrus.ssh.model.SshResponse;
 import com.jcraft.jsch.*;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.util.FileCopyUtils;
 import org.springframework.util.StringUtils;
 
 import java.io.*;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Ssh client connects to ssh server and sends commands to that server.
+ * Ssh client connects to ssh server and sends commands to that server. With session pooling enabled the client keeps
+ * one authenticated session per remote user and opens a new exec channel on that session for each command.
  *
  * @author Roland Huss, Christoph Deppisch
  * @since 1.4
  */
-public class SshClient extends AbstractEndpoint implements Producer, ReplyConsumer {
+public class SshClient extends AbstractEndpoint implements Producer, ReplyConsumer, DisposableBean {
 
     public static final String CLASSPATH_PREFIX = "classpath:";
 
+    /** Header holding path to file with complete stdout when output exceeded maximum size */
+    public static final String STDOUT_FILE_HEADER = MessageHeaders.PREFIX + "ssh_stdout_file";
+
+    /** Header holding path to file with complete stderr when output exceeded maximum size */
+    public static final String STDERR_FILE_HEADER = MessageHeaders.PREFIX + "ssh_stderr_file";
+
     /** Store of reply messages */
     private CorrelationManager<Message> correlationManager;
 
-    // Session for the SSH communication
-    private Session session;
+    // Pooled sessions by remote user
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
 
     // SSH implementation
     private JSch jsch = new JSch();
@@ -92,13 +103,13 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
         }
 
         String rUser = getRemoteUser(message);
-        connect(rUser);
+        Session session = getEndpointConfiguration().isSessionPooling() ? getPooledSession(rUser) : connect(rUser);
         ChannelExec channelExec = null;
-        ByteArrayOutputStream outStream = new ByteArrayOutputStream();
-        ByteArrayOutputStream errStream = new ByteArrayOutputStream();
+        SshCommandOutput outStream = new SshCommandOutput(getEndpointConfiguration().getMaxOutputSize(), getEndpointConfiguration().isSpillToDisk());
+        SshCommandOutput errStream = new SshCommandOutput(getEndpointConfiguration().getMaxOutputSize(), getEndpointConfiguration().isSpillToDisk());
         int rc = 0;
         try {
-            channelExec = openChannelExec();
+            channelExec = openChannelExec(session);
             channelExec.setErrStream(errStream);
             channelExec.setOutputStream(outStream);
             channelExec.setCommand(request.getCommand());
@@ -106,18 +117,30 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
             if (request.getStdin() != null) {
                 sendStandardInput(channelExec, request.getStdin());
             }
-            waitCommandToFinish(channelExec);
+            waitCommandToFinish(channelExec, errStream);
             rc = channelExec.getExitStatus();
         } finally {
             if (channelExec != null && channelExec.isConnected()) {
                 channelExec.disconnect();
             }
-            disconnect();
+            if (!getEndpointConfiguration().isSessionPooling()) {
+                disconnect(session);
+            }
+            closeQuietly(outStream);
+            closeQuietly(errStream);
         }
-        SshResponse sshResp = new SshResponse(outStream.toString(),errStream.toString(),rc);
+        SshResponse sshResp = new SshResponse(outStream.getContent(),errStream.getContent(),rc);
         Message response = getEndpointConfiguration().getMessageConverter().convertInbound(sshResp, getEndpointConfiguration(), context)
                 .setHeader("user", rUser);
 
+        if (outStream.getSpillFile() != null) {
+            response.setHeader(STDOUT_FILE_HEADER, outStream.getSpillFile().getAbsolutePath());
+        }
+
+        if (errStream.getSpillFile() != null) {
+            response.setHeader(STDERR_FILE_HEADER, errStream.getSpillFile().getAbsolutePath());
+        }
+
         correlationManager.store(correlationKey, response);
     }
 
@@ -159,38 +182,75 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
         return this;
     }
 
-    private void connect(String rUser) {
+    /**
+     * Gets pooled session for remote user. New session is connected when no session exists yet
+     * or the pooled session has been disconnected.
+     * @param rUser
+     * @return
+     */
+    private Session getPooledSession(String rUser) {
+        Session session = sessions.get(rUser);
+
         if (session == null || !session.isConnected()) {
-            try {
-                if (StringUtils.hasText(getEndpointConfiguration().getPrivateKeyPath())) {
-                    jsch.addIdentity(getPrivateKeyPath(), getEndpointConfiguration().getPrivateKeyPassword());
+            synchronized (sessions) {
+                session = sessions.get(rUser);
+                if (session == null || !session.isConnected()) {
+                    session = connect(rUser);
+                    sessions.put(rUser, session);
                 }
-            } catch (JSchException e) {
-                throw new CitrusRuntimeException("Cannot add private key " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
-            } catch (IOException e) {
-                throw new CitrusRuntimeException("Cannot open private key file " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
             }
-            try {
-                session = jsch.getSession(rUser, getEndpointConfiguration().getHost(), getEndpointConfiguration().getPort());
-                if (StringUtils.hasText(getEndpointConfiguration().getPassword())) {
-                    session.setUserInfo(new UserInfoWithPlainPassword(getEndpointConfiguration().getPassword()));
-                    session.setPassword(getEndpointConfiguration().getPassword());
-                }
-                session.setConfig("StrictHostKeyChecking", getEndpointConfiguration().isStrictHostChecking() ? "yes" : "no");
-                session.connect();
-            } catch (JSchException e) {
-                throw new CitrusRuntimeException("Cannot connect via SSH: " + e,e);
+        }
+
+        return session;
+    }
+
+    private Session connect(String rUser) {
+        try {
+            if (StringUtils.hasText(getEndpointConfiguration().getPrivateKeyPath())) {
+                jsch.addIdentity(getPrivateKeyPath(), getEndpointConfiguration().getPrivateKeyPassword());
+            }
+        } catch (JSchException e) {
+            throw new CitrusRuntimeException("Cannot add private key " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Cannot open private key file " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
+        }
+        try {
+            Session session = jsch.getSession(rUser, getEndpointConfiguration().getHost(), getEndpointConfiguration().getPort());
+            if (StringUtils.hasText(getEndpointConfiguration().getPassword())) {
+                session.setUserInfo(new UserInfoWithPlainPassword(getEndpointConfiguration().getPassword()));
+                session.setPassword(getEndpointConfiguration().getPassword());
+            }
+            session.setConfig("StrictHostKeyChecking", getEndpointConfiguration().isStrictHostChecking() ? "yes" : "no");
+            if (getEndpointConfiguration().getKeepAliveInterval() > 0) {
+                session.setServerAliveInterval(getEndpointConfiguration().getKeepAliveInterval());
             }
+            session.connect();
+            return session;
+        } catch (JSchException e) {
+            throw new CitrusRuntimeException("Cannot connect via SSH: " + e,e);
         }
     }
 
-    private void disconnect() {
+    private void disconnect(Session session) {
         if (session.isConnected()) {
             session.disconnect();
         }
     }
 
-    private ChannelExec openChannelExec() throws CitrusRuntimeException {
+    /**
+     * Disconnects all pooled sessions.
+     */
+    @Override
+    public void destroy() {
+        synchronized (sessions) {
+            for (Session session : sessions.values()) {
+                disconnect(session);
+            }
+            sessions.clear();
+        }
+    }
+
+    private ChannelExec openChannelExec(Session session) throws CitrusRuntimeException {
         ChannelExec channelExec;
         try {
             channelExec = (ChannelExec) session.openChannel("exec");
@@ -200,12 +260,15 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
         return channelExec;
     }
 
-    private void waitCommandToFinish(ChannelExec pCh) {
+    private void waitCommandToFinish(ChannelExec pCh, SshCommandOutput pErrStream) {
         final long until = System.currentTimeMillis() + getEndpointConfiguration().getCommandTimeout();
 
         try {
-            while (!pCh.isClosed() && System.currentTimeMillis() < until) {
-                Thread.sleep(250);
+            long timeLeft = getEndpointConfiguration().getCommandTimeout();
+            while (!pCh.isClosed() && timeLeft > 0) {
+                // JSch closes the error stream when the channel is closed
+                pErrStream.awaitClose(Math.min(timeLeft, 250L));
+                timeLeft = until - System.currentTimeMillis();
             }
         } catch (InterruptedException e) {
             throw new RuntimeException("Interrupted", e);
@@ -246,6 +309,14 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
         }
     }
 
+    private void closeQuietly(OutputStream stream) {
+        try {
+            stream.close();
+        } catch (IOException e) {
+            // best try
+        }
+    }
+
     private String getRemoteUser(Message message) {
         String rUser = (String) message.getHeader("user");
         if (rUser == null) {
@@ -134,6 +134,46 @@ public class SshClientBuilder extends AbstractEndpointBuilder<SshClient> {
         return this;
     }
 
+    /**
+     * Enables session pooling.
+     * @param sessionPooling
+     * @return
+     */
+    public SshClientBuilder sessionPooling(boolean sessionPooling) {
+        endpoint.getEndpointConfiguration().setSessionPooling(sessionPooling);
+        return this;
+    }
+
+    /**
+     * Sets the session keep alive interval.
+     * @param keepAliveInterval
+     * @return
+     */
+    public SshClientBuilder keepAliveInterval(int keepAliveInterval) {
+        endpoint.getEndpointConfiguration().setKeepAliveInterval(keepAliveInterval);
+        return this;
+    }
+
+    /**
+     * Sets the maximum size of stdout and stderr kept in response.
+     * @param maxOutputSize
+     * @return
+     */
+    public SshClientBuilder maxOutputSize(int maxOutputSize) {
+        endpoint.getEndpointConfiguration().setMaxOutputSize(maxOutputSize);
+        return this;
+    }
+
+    /**
+     * Enables writing complete output to temporary file when maximum output size is exceeded.
+     * @param spillToDisk
+     * @return
+     */
+    public SshClientBuilder spillToDisk(boolean spillToDisk) {
+        endpoint.getEndpointConfiguration().setSpillToDisk(spillToDisk);
+        return this;
+    }
+
     /**
      * Sets the message converter.
      * @param messageConverter
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2006-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.ssh.client;
+
+import java.io.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Output stream collecting stdout or stderr of a SSH command. Content is kept in memory up to the maximum size. Further
+ * content is either discarded or, when spilling is enabled, the complete output is written to a temporary file.
+ *
+ * JSch closes the stream as soon as the channel is closed so waiting threads get notified on command completion.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7
+ */
+public class SshCommandOutput extends OutputStream {
+
+    /** In memory content */
+    private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+    /** Maximum size of in memory content, zero or negative for unlimited */
+    private final int maxSize;
+
+    /** Write complete output to temporary file when maximum size is exceeded */
+    private final boolean spillToDisk;
+
+    /** Temporary file holding complete output */
+    private File spillFile;
+    private OutputStream spillStream;
+
+    /** Output exceeded maximum size */
+    private boolean truncated = false;
+
+    /** Signals stream close */
+    private final CountDownLatch closed = new CountDownLatch(1);
+
+    /**
+     * Default constructor using maximum size and spill setting.
+     * @param maxSize
+     * @param spillToDisk
+     */
+    public SshCommandOutput(int maxSize, boolean spillToDisk) {
+        this.maxSize = maxSize;
+        this.spillToDisk = spillToDisk;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[] { (byte) b }, 0, 1);
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len) throws IOException {
+        if (maxSize <= 0 || content.size() + len <= maxSize) {
+            content.write(b, off, len);
+        } else {
+            int fitting = Math.max(0, maxSize - content.size());
+            content.write(b, off, fitting);
+
+            if (!truncated && spillToDisk) {
+                spillFile = File.createTempFile("citrus-ssh-output", ".log");
+                spillFile.deleteOnExit();
+                spillStream = new BufferedOutputStream(new FileOutputStream(spillFile));
+                content.writeTo(spillStream);
+                spillStream.write(b, off + fitting, len - fitting);
+            } else if (spillStream != null) {
+                spillStream.write(b, off, len);
+            }
+
+            truncated = true;
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            if (spillStream != null) {
+                spillStream.close();
+            }
+        } finally {
+            closed.countDown();
+        }
+    }
+
+    /**
+     * Waits for the stream to be closed.
+     * @param timeout
+     * @return true if the stream was closed within the timeout.
+     * @throws InterruptedException
+     */
+    public boolean awaitClose(long timeout) throws InterruptedException {
+        return closed.await(timeout, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Gets the in memory content.
+     * @return
+     */
+    public synchronized String getContent() {
+        return content.toString();
+    }
+
+    /**
+     * Gets the output exceeded maximum size.
+     * @return
+     */
+    public synchronized boolean isTruncated() {
+        return truncated;
+    }
+
+    /**
+     * Gets the temporary file holding complete output.
+     * @return the file or null if output did not exceed maximum size or spilling is disabled.
+     */
+    public synchronized File getSpillFile() {
+        return spillFile;
+    }
+}
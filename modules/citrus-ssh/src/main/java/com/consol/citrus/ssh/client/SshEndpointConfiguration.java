@@ -57,6 +57,18 @@ public class SshEndpointConfiguration extends AbstractPollableEndpointConfigurat
      /** Timeout how long to wait for a connection to connect */
     private int connectionTimeout = 1000 * 60 * 1; // 1 minute
 
+    /** Reuse one authenticated session per remote user for all commands */
+    private boolean sessionPooling = false;
+
+    /** Interval in milliseconds for sending keep alive messages on sessions, zero disables keep alive */
+    private int keepAliveInterval = 0;
+
+    /** Maximum size in bytes of stdout and stderr kept in response, zero for unlimited */
+    private int maxOutputSize = 0;
+
+    /** Write complete output to temporary file when maximum output size is exceeded */
+    private boolean spillToDisk = false;
+
     /** Reply message correlator */
     private MessageCorrelator correlator = new DefaultMessageCorrelator();
 
@@ -273,4 +285,68 @@ public class SshEndpointConfiguration extends AbstractPollableEndpointConfigurat
     public void setSshMarshaller(SshMarshaller sshMarshaller) {
         this.sshMarshaller = sshMarshaller;
     }
+
+    /**
+     * Gets the sessionPooling.
+     * @return
+     */
+    public boolean isSessionPooling() {
+        return sessionPooling;
+    }
+
+    /**
+     * Sets the sessionPooling.
+     * @param sessionPooling
+     */
+    public void setSessionPooling(boolean sessionPooling) {
+        this.sessionPooling = sessionPooling;
+    }
+
+    /**
+     * Gets the keepAliveInterval.
+     * @return
+     */
+    public int getKeepAliveInterval() {
+        return keepAliveInterval;
+    }
+
+    /**
+     * Sets the keepAliveInterval.
+     * @param keepAliveInterval
+     */
+    public void setKeepAliveInterval(int keepAliveInterval) {
+        this.keepAliveInterval = keepAliveInterval;
+    }
+
+    /**
+     * Gets the maxOutputSize.
+     * @return
+     */
+    public int getMaxOutputSize() {
+        return maxOutputSize;
+    }
+
+    /**
+     * Sets the maxOutputSize.
+     * @param maxOutputSize
+     */
+    public void setMaxOutputSize(int maxOutputSize) {
+        this.maxOutputSize = maxOutputSize;
+    }
+
+    /**
+     * Gets the spillToDisk.
+     * @return
+     */
+    public boolean isSpillToDisk() {
+        return spillToDisk;
+    }
+
+    /**
+     * Sets the spillToDisk.
+     * @param spillToDisk
+     */
+    public void setSpillToDisk(boolean spillToDisk) {
+        this.spillToDisk = spillToDisk;
+    }
 }
@@ -90,6 +90,30 @@ public @interface SshClientConfig {
      */
     int connectionTimeout() default 1000 * 60 * 1;
 
+    /**
+     * SessionPooling.
+     * @return
+     */
+    boolean sessionPooling() default false;
+
+    /**
+     * KeepAliveInterval.
+     * @return
+     */
+    int keepAliveInterval() default 0;
+
+    /**
+     * MaxOutputSize.
+     * @return
+     */
+    int maxOutputSize() default 0;
+
+    /**
+     * SpillToDisk.
+     * @return
+     */
+    boolean spillToDisk() default false;
+
     /**
      * Message converter.
      * @return
@@ -65,6 +65,10 @@ public class SshClientConfigParser extends AbstractAnnotationConfigParser<SshCli
 
         builder.commandTimeout(annotation.commandTimeout());
         builder.connectionTimeout(annotation.connectionTimeout());
+        builder.sessionPooling(annotation.sessionPooling());
+        builder.keepAliveInterval(annotation.keepAliveInterval());
+        builder.maxOutputSize(annotation.maxOutputSize());
+        builder.spillToDisk(annotation.spillToDisk());
 
         if (StringUtils.hasText(annotation.user())) {
             builder.user(annotation.user());
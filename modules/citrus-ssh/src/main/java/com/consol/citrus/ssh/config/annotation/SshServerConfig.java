@@ -59,6 +59,18 @@ public @interface SshServerConfig {
      */
     String allowedKeyPath() default "";
 
+    /**
+     * Command worker pool size.
+     * @return
+     */
+    int poolSize() default 0;
+
+    /**
+     * Command queue capacity.
+     * @return
+     */
+    int queueCapacity() default 100;
+
     /**
      * Message converter.
      * @return
@@ -61,6 +61,9 @@ public class SshServerConfigParser extends AbstractAnnotationConfigParser<SshSer
             builder.allowedKeyPath(annotation.allowedKeyPath());
         }
 
+        builder.poolSize(annotation.poolSize());
+        builder.queueCapacity(annotation.queueCapacity());
+
         if (StringUtils.hasText(annotation.messageConverter())) {
             builder.messageConverter(getReferenceResolver().resolve(annotation.messageConverter(), SshMessageConverter.class));
         }
@@ -19,6 +19,7 @@ package com.consol.citrus.ssh.server;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.server.AbstractServer;
 import com.consol.citrus.ssh.SshCommand;
+import com.consol.citrus.ssh.SshCommandMetrics;
 import com.consol.citrus.ssh.client.SshEndpointConfiguration;
 import com.consol.citrus.ssh.message.SshMessageConverter;
 import org.apache.sshd.common.keyprovider.AbstractClassLoadableResourceKeyPairProvider;
@@ -26,11 +27,13 @@ import org.apache.sshd.common.keyprovider.AbstractFileKeyPairProvider;
 import org.apache.sshd.common.util.SecurityUtils;
 import org.apache.sshd.server.Command;
 import org.apache.sshd.server.CommandFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.util.StringUtils;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * SSH Server implemented with Apache SSHD (http://mina.apache.org/sshd/).
@@ -79,6 +82,18 @@ public class SshServer extends AbstractServer {
     /** Ssh message converter */
     private SshMessageConverter messageConverter = new SshMessageConverter();
 
+    /** Number of command worker threads, zero or less starts a new thread per command **/
+    private int poolSize = 0;
+
+    /** Maximum number of queued commands **/
+    private int queueCapacity = 100;
+
+    /** Bounded thread pool executing commands when pool size is set **/
+    private ThreadPoolTaskExecutor commandExecutor;
+
+    /** Command metrics **/
+    private final SshCommandMetrics commandMetrics = new SshCommandMetrics();
+
     /** SSH server used **/
     private org.apache.sshd.server.SshServer sshd;
 
@@ -116,10 +131,14 @@ public class SshServer extends AbstractServer {
             throw new CitrusRuntimeException("Neither 'password' nor 'allowed-key-path' is set. Please provide at least one");
         }
 
+        if (poolSize > 0) {
+            commandExecutor = createCommandExecutor();
+        }
+
         // Setup endpoint adapter
         sshd.setCommandFactory(new CommandFactory() {
             public Command createCommand(String command) {
-                return new SshCommand(command, getEndpointAdapter(), getEndpointConfiguration());
+                return new SshCommand(command, getEndpointAdapter(), getEndpointConfiguration(), commandExecutor, commandMetrics);
             }
         });
 
@@ -136,9 +155,31 @@ public class SshServer extends AbstractServer {
             sshd.stop();
         } catch (IOException e) {
             throw new CitrusRuntimeException("Cannot stop SSHD: " + e,e);
+        } finally {
+            if (commandExecutor != null) {
+                commandExecutor.shutdown();
+                commandExecutor = null;
+            }
         }
     }
 
+    /**
+     * Creates bounded thread pool for command execution. When all workers are busy and the queue is full
+     * the command is rejected immediately as command start is called on the SSHD I/O thread that must not block.
+     * @return
+     */
+    private ThreadPoolTaskExecutor createCommandExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("CitrusSshCommand-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+
+        return executor;
+    }
+
     @Override
     public SshEndpointConfiguration getEndpointConfiguration() {
         SshEndpointConfiguration endpointConfiguration = new SshEndpointConfiguration();
@@ -229,6 +270,47 @@ public class SshServer extends AbstractServer {
         this.hostKeyPath = hostKeyPath;
     }
 
+    /**
+     * Gets the number of command worker threads.
+     * @return
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * Sets the number of command worker threads. When set to a positive value commands are executed on a
+     * bounded thread pool instead of a new thread per command.
+     * @param poolSize
+     */
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    /**
+     * Gets the maximum number of queued commands.
+     * @return
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Sets the maximum number of queued commands.
+     * @param queueCapacity
+     */
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Gets the command metrics.
+     * @return
+     */
+    public SshCommandMetrics getCommandMetrics() {
+        return commandMetrics;
+    }
+
     /**
      * Gets the message converter.
      * @return
@@ -87,6 +87,26 @@ public class SshServerBuilder extends AbstractEndpointBuilder<SshServer> {
         return this;
     }
 
+    /**
+     * Sets the number of command worker threads.
+     * @param poolSize
+     * @return
+     */
+    public SshServerBuilder poolSize(int poolSize) {
+        endpoint.setPoolSize(poolSize);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of queued commands.
+     * @param queueCapacity
+     * @return
+     */
+    public SshServerBuilder queueCapacity(int queueCapacity) {
+        endpoint.setQueueCapacity(queueCapacity);
+        return this;
+    }
+
     /**
      * Sets the message converter.
      * @param messageConverter
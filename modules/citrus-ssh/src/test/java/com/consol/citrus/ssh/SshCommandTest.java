@@ -25,6 +25,7 @@ import org.apache.sshd.server.Environment;
 import org.apache.sshd.server.ExitCallback;
 import org.mockito.ArgumentMatcher;
 import org.mockito.Mockito;
+import org.springframework.core.task.*;
 import org.springframework.xml.transform.StringResult;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -93,6 +94,39 @@ public class SshCommandTest {
         cmd.start(env);
     }
 
+    @Test
+    public void startWithTaskExecutor() throws IOException {
+        SshCommandMetrics metrics = new SshCommandMetrics();
+        cmd = new SshCommand(COMMAND, adapter, new SshEndpointConfiguration(), new SyncTaskExecutor(), metrics);
+        cmd.setErrorStream(stderr);
+        cmd.setOutputStream(stdout);
+        cmd.setExitCallback(exitCallback);
+
+        prepare("input", "output", null, 0);
+        cmd.start(mockEnvironment());
+
+        assertEquals(stdout.toString(), "output");
+        assertEquals(metrics.getInFlightCount(), 0);
+        assertEquals(metrics.getCompletedCount(), 1L);
+        assertEquals(metrics.getFailedCount(), 0L);
+    }
+
+    @Test
+    public void rejected() throws IOException {
+        TaskExecutor taskExecutor = Mockito.mock(TaskExecutor.class);
+        doThrow(new TaskRejectedException("Queue is full")).when(taskExecutor).execute(any(Runnable.class));
+
+        SshCommandMetrics metrics = new SshCommandMetrics();
+        cmd = new SshCommand(COMMAND, adapter, new SshEndpointConfiguration(), taskExecutor, metrics);
+        cmd.setExitCallback(exitCallback);
+
+        cmd.start(mockEnvironment());
+
+        verify(exitCallback).onExit(eq(1), anyString());
+        assertEquals(metrics.getInFlightCount(), 0);
+        assertEquals(metrics.getRejectedCount(), 1L);
+    }
+
     @Test
     public void ioException() throws IOException {
         InputStream i = Mockito.mock(InputStream.class);
@@ -105,6 +139,18 @@ public class SshCommandTest {
         cmd.run();
     }
     
+    /**
+     * Creates environment providing the user.
+     * @return
+     */
+    private Environment mockEnvironment() {
+        Environment env = Mockito.mock(Environment.class);
+        Map<String,String> map = new HashMap<String,String>();
+        map.put(Environment.ENV_USER,"roland");
+        when(env.getEnv()).thenReturn(map);
+        return env;
+    }
+
     /**
      * Prepare actions.
      * @param pInput
@@ -156,6 +156,29 @@ public class SshClientTest extends AbstractTestNGUnitTest {
         standardChannelPrepAndSend();
     }
 
+    @Test
+    public void sessionPooling() throws JSchException, IOException {
+        client.getEndpointConfiguration().setSessionPooling(true);
+        client.getEndpointConfiguration().setKeepAliveInterval(30000);
+
+        strictHostChecking(false, null);
+        prepareChannel(COMMAND, 0);
+        when(session.isConnected()).thenReturn(true);
+        when(session.openChannel("exec")).thenReturn(channel);
+
+        send();
+        send();
+
+        verify(jsch, times(1)).getSession("roland", "planck", 1968);
+        verify(session, times(1)).connect();
+        verify(session).setServerAliveInterval(30000);
+        verify(session, times(2)).openChannel("exec");
+        verify(session, never()).disconnect();
+
+        client.destroy();
+        verify(session).disconnect();
+    }
+
     private void send() {
         client.send(createMessage(COMMAND, STDIN), context);
     }
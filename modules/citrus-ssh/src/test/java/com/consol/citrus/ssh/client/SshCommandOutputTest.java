@@ -0,0 +1,70 @@
+/*
+ * Copyright 2006-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.ssh.client;
+
+import org.springframework.util.FileCopyUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.FileReader;
+import java.io.IOException;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class SshCommandOutputTest {
+
+    @Test
+    public void testUnlimitedOutput() throws Exception {
+        SshCommandOutput output = new SshCommandOutput(0, false);
+        output.write("Hello Citrus!".getBytes());
+
+        Assert.assertFalse(output.awaitClose(10L));
+        output.close();
+        Assert.assertTrue(output.awaitClose(10L));
+
+        Assert.assertEquals(output.getContent(), "Hello Citrus!");
+        Assert.assertFalse(output.isTruncated());
+        Assert.assertNull(output.getSpillFile());
+    }
+
+    @Test
+    public void testTruncatedOutput() throws IOException {
+        SshCommandOutput output = new SshCommandOutput(5, false);
+        output.write("Hello".getBytes());
+        output.write(" Citrus!".getBytes());
+        output.close();
+
+        Assert.assertEquals(output.getContent(), "Hello");
+        Assert.assertTrue(output.isTruncated());
+        Assert.assertNull(output.getSpillFile());
+    }
+
+    @Test
+    public void testSpillToDisk() throws IOException {
+        SshCommandOutput output = new SshCommandOutput(8, true);
+        output.write("Hello".getBytes());
+        output.write(" Citrus!".getBytes());
+        output.write('!');
+        output.close();
+
+        Assert.assertEquals(output.getContent(), "Hello Ci");
+        Assert.assertTrue(output.isTruncated());
+        Assert.assertNotNull(output.getSpillFile());
+        Assert.assertEquals(FileCopyUtils.copyToString(new FileReader(output.getSpillFile())), "Hello Citrus!!");
+    }
+}
@@ -51,6 +51,10 @@ public class SshClientConfigParserTest extends AbstractTestNGUnitTest {
             strictHostChecking=true,
             commandTimeout=10000,
             connectionTimeout=5000,
+            sessionPooling=true,
+            keepAliveInterval=30000,
+            maxOutputSize=1024,
+            spillToDisk=true,
             knownHosts="classpath:com/consol/citrus/ssh/known_hosts",
             timeout=10000L,
             messageConverter="sshMessageConverter")
@@ -90,6 +94,8 @@ public class SshClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertNull(sshClient1.getEndpointConfiguration().getKnownHosts());
         Assert.assertEquals(sshClient1.getEndpointConfiguration().getCommandTimeout(), 1000 * 60 * 5);
         Assert.assertEquals(sshClient1.getEndpointConfiguration().getConnectionTimeout(), 1000 * 60 * 1);
+        Assert.assertFalse(sshClient1.getEndpointConfiguration().isSessionPooling());
+        Assert.assertEquals(sshClient1.getEndpointConfiguration().getMaxOutputSize(), 0);
         Assert.assertFalse(sshClient1.getEndpointConfiguration().isStrictHostChecking());
         Assert.assertNotNull(sshClient1.getEndpointConfiguration().getMessageConverter());
 
@@ -103,6 +109,10 @@ public class SshClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(sshClient2.getEndpointConfiguration().getKnownHosts(), "classpath:com/consol/citrus/ssh/known_hosts");
         Assert.assertEquals(sshClient2.getEndpointConfiguration().getCommandTimeout(), 10000);
         Assert.assertEquals(sshClient2.getEndpointConfiguration().getConnectionTimeout(), 5000);
+        Assert.assertTrue(sshClient2.getEndpointConfiguration().isSessionPooling());
+        Assert.assertEquals(sshClient2.getEndpointConfiguration().getKeepAliveInterval(), 30000);
+        Assert.assertEquals(sshClient2.getEndpointConfiguration().getMaxOutputSize(), 1024);
+        Assert.assertTrue(sshClient2.getEndpointConfiguration().isSpillToDisk());
         Assert.assertTrue(sshClient2.getEndpointConfiguration().isStrictHostChecking());
         Assert.assertEquals(sshClient2.getEndpointConfiguration().getMessageConverter(), messageConverter);
     }
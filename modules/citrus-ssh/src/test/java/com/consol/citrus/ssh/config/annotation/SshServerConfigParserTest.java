@@ -52,6 +52,8 @@ public class SshServerConfigParserTest extends AbstractTestNGUnitTest {
             user="foo",
             password="bar",
             messageConverter="messageConverter",
+            poolSize=4,
+            queueCapacity=10,
             timeout=10000L)
     private SshServer sshServer2;
 
@@ -98,6 +100,8 @@ public class SshServerConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertNull(sshServer1.getPassword());
         Assert.assertTrue(sshServer1.getEndpointAdapter() instanceof ChannelEndpointAdapter);
         Assert.assertNotNull(sshServer1.getMessageConverter());
+        Assert.assertEquals(sshServer1.getPoolSize(), 0);
+        Assert.assertEquals(sshServer1.getQueueCapacity(), 100);
         Assert.assertNull(sshServer1.getActor());
 
         // 2nd server
@@ -110,6 +114,8 @@ public class SshServerConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(sshServer2.getPassword(), "bar");
         Assert.assertTrue(sshServer2.getEndpointAdapter() instanceof ChannelEndpointAdapter);
         Assert.assertEquals(sshServer2.getMessageConverter(), messageConverter);
+        Assert.assertEquals(sshServer2.getPoolSize(), 4);
+        Assert.assertEquals(sshServer2.getQueueCapacity(), 10);
         Assert.assertNull(sshServer2.getActor());
 
         // 3rd server
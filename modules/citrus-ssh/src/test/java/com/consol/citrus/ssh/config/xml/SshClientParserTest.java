@@ -45,6 +45,10 @@ public class SshClientParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertNull(client.getEndpointConfiguration().getKnownHosts());
         Assert.assertEquals(client.getEndpointConfiguration().getCommandTimeout(), 1000 * 60 * 5);
         Assert.assertEquals(client.getEndpointConfiguration().getConnectionTimeout(), 1000 * 60 * 1);
+        Assert.assertFalse(client.getEndpointConfiguration().isSessionPooling());
+        Assert.assertEquals(client.getEndpointConfiguration().getKeepAliveInterval(), 0);
+        Assert.assertEquals(client.getEndpointConfiguration().getMaxOutputSize(), 0);
+        Assert.assertFalse(client.getEndpointConfiguration().isSpillToDisk());
         Assert.assertFalse(client.getEndpointConfiguration().isStrictHostChecking());
         Assert.assertNotNull(client.getEndpointConfiguration().getMessageConverter());
 
@@ -59,6 +63,10 @@ public class SshClientParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(client.getEndpointConfiguration().getKnownHosts(), "classpath:com/consol/citrus/ssh/known_hosts");
         Assert.assertEquals(client.getEndpointConfiguration().getCommandTimeout(), 10000);
         Assert.assertEquals(client.getEndpointConfiguration().getConnectionTimeout(), 5000);
+        Assert.assertTrue(client.getEndpointConfiguration().isSessionPooling());
+        Assert.assertEquals(client.getEndpointConfiguration().getKeepAliveInterval(), 30000);
+        Assert.assertEquals(client.getEndpointConfiguration().getMaxOutputSize(), 1024);
+        Assert.assertTrue(client.getEndpointConfiguration().isSpillToDisk());
         Assert.assertTrue(client.getEndpointConfiguration().isStrictHostChecking());
         Assert.assertEquals(client.getEndpointConfiguration().getMessageConverter(), beanDefinitionContext.getBean("sshMessageConverter"));
     }
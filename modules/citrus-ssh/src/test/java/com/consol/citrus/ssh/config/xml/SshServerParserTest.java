@@ -46,6 +46,8 @@ public class SshServerParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertNull(server.getPassword());
         Assert.assertTrue(server.getEndpointAdapter() instanceof ChannelEndpointAdapter);
         Assert.assertNotNull(server.getMessageConverter());
+        Assert.assertEquals(server.getPoolSize(), 0);
+        Assert.assertEquals(server.getQueueCapacity(), 100);
         Assert.assertNull(server.getActor());
 
         // 2nd server
@@ -59,6 +61,8 @@ public class SshServerParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(server.getPassword(), "bar");
         Assert.assertTrue(server.getEndpointAdapter() instanceof ChannelEndpointAdapter);
         Assert.assertEquals(server.getMessageConverter(), beanDefinitionContext.getBean("sshMessageConverter"));
+        Assert.assertEquals(server.getPoolSize(), 4);
+        Assert.assertEquals(server.getQueueCapacity(), 10);
         Assert.assertNull(server.getActor());
 
         // 3rd server
@@ -16,20 +16,34 @@
 
 package com.consol.citrus.ssh.server;
 
+import com.consol.citrus.endpoint.EndpointAdapter;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.Message;
 import com.consol.citrus.ssh.SshCommand;
+import com.consol.citrus.ssh.SshCommandMetrics;
+import com.consol.citrus.ssh.model.SshMarshaller;
+import com.consol.citrus.ssh.model.SshResponse;
 import org.apache.sshd.common.keyprovider.AbstractFileKeyPairProvider;
 import org.apache.sshd.common.keyprovider.KeyPairProvider;
-import org.apache.sshd.server.Command;
-import org.apache.sshd.server.CommandFactory;
+import org.apache.sshd.server.*;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.xml.transform.StringResult;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
-import java.io.IOException;
+import java.io.*;
 import java.net.*;
 import java.security.KeyPair;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import static org.mockito.Mockito.*;
 import static org.testng.Assert.*;
 
 /**
@@ -127,6 +141,63 @@ public class SshServerTest {
         }
     }
 
+    @Test
+    public void commandWorkerPool() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+
+        StringResult response = new StringResult();
+        new SshMarshaller().marshal(new SshResponse("Hello", "", 0), response);
+        final Message responseMessage = new DefaultMessage(response.toString());
+
+        EndpointAdapter endpointAdapter = Mockito.mock(EndpointAdapter.class);
+        when(endpointAdapter.handleMessage(any(Message.class))).thenAnswer(new Answer<Message>() {
+            @Override
+            public Message answer(InvocationOnMock invocation) throws Throwable {
+                release.await(5000L, TimeUnit.MILLISECONDS);
+                return responseMessage;
+            }
+        });
+
+        prepareServer(true);
+        server.setEndpointAdapter(endpointAdapter);
+        server.setPoolSize(1);
+        server.setQueueCapacity(1);
+        server.start();
+
+        ThreadPoolTaskExecutor executor = (ThreadPoolTaskExecutor) ReflectionTestUtils.getField(server, "commandExecutor");
+        SshCommandMetrics metrics = server.getCommandMetrics();
+
+        try {
+            assertNotNull(executor);
+            assertEquals(executor.getMaxPoolSize(), 1);
+
+            ExitCallback running = startCommand("running");
+            ExitCallback queued = startCommand("queued");
+            ExitCallback rejected = startCommand("rejected");
+
+            verify(rejected).onExit(eq(1), anyString());
+            verify(running, never()).onExit(anyInt());
+            verify(queued, never()).onExit(anyInt());
+            assertEquals(executor.getThreadPoolExecutor().getQueue().size(), 1);
+            assertEquals(metrics.getInFlightCount(), 2);
+            assertEquals(metrics.getRejectedCount(), 1L);
+
+            release.countDown();
+
+            verify(running, timeout(5000L)).onExit(0);
+            verify(queued, timeout(5000L)).onExit(0);
+        } finally {
+            release.countDown();
+            server.stop();
+        }
+
+        assertTrue(executor.getThreadPoolExecutor().isShutdown());
+        assertTrue(executor.getThreadPoolExecutor().awaitTermination(5000L, TimeUnit.MILLISECONDS));
+        assertNull(ReflectionTestUtils.getField(server, "commandExecutor"));
+        assertEquals(metrics.getInFlightCount(), 0);
+        assertEquals(metrics.getCompletedCount(), 2L);
+    }
+
     @Test(expectedExceptions = CitrusRuntimeException.class,expectedExceptionsMessageRegExp = ".*BindException.*")
     public void doubleStart() throws IOException {
         prepareServer(true);
@@ -139,6 +210,28 @@ public class SshServerTest {
         }
     }
 
+    /**
+     * Creates and starts command using the server command factory.
+     * @param command
+     * @return the exit callback of the command.
+     */
+    private ExitCallback startCommand(String command) throws IOException {
+        org.apache.sshd.server.SshServer sshd = (org.apache.sshd.server.SshServer) ReflectionTestUtils.getField(server, "sshd");
+        Command cmd = sshd.getCommandFactory().createCommand(command);
+
+        ExitCallback exitCallback = Mockito.mock(ExitCallback.class);
+        cmd.setInputStream(new ByteArrayInputStream(new byte[] {}));
+        cmd.setOutputStream(new ByteArrayOutputStream());
+        cmd.setErrorStream(new ByteArrayOutputStream());
+        cmd.setExitCallback(exitCallback);
+
+        Environment env = Mockito.mock(Environment.class);
+        when(env.getEnv()).thenReturn(Collections.singletonMap(Environment.ENV_USER, "roland"));
+        cmd.start(env);
+
+        return exitCallback;
+    }
+
     /**
      * Prepare server instance.
      */
@@ -17,6 +17,7 @@
 package com.consol.citrus.vertx.config.annotation;
 
 import com.consol.citrus.annotations.CitrusEndpointConfig;
+import com.consol.citrus.vertx.endpoint.VertxInbox;
 
 import java.lang.annotation.*;
 
@@ -71,6 +72,24 @@ public @interface VertxEndpointConfig {
      */
     int pollingInterval() default 500;
 
+    /**
+     * Persistent event bus subscription with buffered inbox.
+     * @return
+     */
+    boolean persistentSubscription() default false;
+
+    /**
+     * Maximum number of buffered messages in inbox.
+     * @return
+     */
+    int inboxCapacity() default 1000;
+
+    /**
+     * Policy applied when inbox capacity is exceeded.
+     * @return
+     */
+    VertxInbox.OverflowPolicy overflowPolicy() default VertxInbox.OverflowPolicy.DROP_NEWEST;
+
     /**
      * Timeout.
      * @return
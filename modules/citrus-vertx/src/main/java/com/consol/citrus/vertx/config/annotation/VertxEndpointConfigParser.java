@@ -63,6 +63,10 @@ public class VertxEndpointConfigParser extends AbstractAnnotationConfigParser<Ve
 
         builder.pollingInterval(annotation.pollingInterval());
 
+        builder.persistentSubscription(annotation.persistentSubscription());
+        builder.inboxCapacity(annotation.inboxCapacity());
+        builder.overflowPolicy(annotation.overflowPolicy());
+
         builder.timeout(annotation.timeout());
 
         if (StringUtils.hasText(annotation.actor())) {
@@ -19,18 +19,24 @@ package com.consol.citrus.vertx.endpoint;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.message.Message;
-import com.consol.citrus.messaging.AbstractMessageConsumer;
+import com.consol.citrus.messaging.AbstractSelectiveMessageConsumer;
 import io.vertx.core.eventbus.MessageConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import org.springframework.integration.core.MessageSelector;
+import org.springframework.util.StringUtils;
 
 /**
+ * Consumer subscribes to the Vert.x event bus address for each receive operation. With persistent subscription
+ * consumer subscribes once on creation and reads messages from an inbox that buffers messages published before and
+ * between receive operations.
+ *
  * @author Christoph Deppisch
  * @since 1.4.1
  */
-public class VertxConsumer extends AbstractMessageConsumer {
+public class VertxConsumer extends AbstractSelectiveMessageConsumer {
 
     /** Vert.x instance */
     private final Vertx vertx;
@@ -38,6 +44,9 @@ public class VertxConsumer extends AbstractMessageConsumer {
     /** Endpoint configuration */
     private final VertxEndpointConfiguration endpointConfiguration;
 
+    /** Inbox used with persistent subscription */
+    private VertxInbox inbox;
+
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(VertxConsumer.class);
 
@@ -54,15 +63,46 @@ public class VertxConsumer extends AbstractMessageConsumer {
         super(name, endpointConfiguration);
         this.vertx = vertx;
         this.endpointConfiguration = endpointConfiguration;
+
+        if (endpointConfiguration.isPersistentSubscription()) {
+            getInbox();
+        }
     }
 
     @Override
-    public Message receive(TestContext context, long timeout) {
+    public Message receive(String selector, TestContext context, long timeout) {
         if (log.isDebugEnabled()) {
             log.debug("Receiving message on Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
         }
 
-        VertxSingleMessageHandler vertxMessageHandler = new VertxSingleMessageHandler();
+        Message message;
+        if (endpointConfiguration.isPersistentSubscription()) {
+            message = endpointConfiguration.getMessageConverter().convertInbound(getInbox().receive(selector, timeout), endpointConfiguration, context);
+        } else {
+            message = receiveWithSubscription(selector, context, timeout);
+        }
+
+        if (message == null) {
+            throw new ActionTimeoutException("Action timed out while receiving message on Vert.x event bus address '" + endpointConfiguration.getAddress() + "'");
+        }
+
+        log.info("Received message on Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
+
+        context.onInboundMessage(message);
+
+        return message;
+    }
+
+    /**
+     * Subscribes to event bus address and waits for first message. Subscription is unregistered afterwards.
+     * @param selector
+     * @param context
+     * @param timeout
+     * @return the message or null on timeout.
+     */
+    private Message receiveWithSubscription(String selector, TestContext context, long timeout) {
+        VertxSingleMessageHandler vertxMessageHandler = new VertxSingleMessageHandler(
+                StringUtils.hasText(selector) ? VertxInbox.createMessageSelector(selector) : null);
         MessageConsumer<Object> vertxConsumer = vertx.eventBus().consumer(endpointConfiguration.getAddress(), vertxMessageHandler);
 
         try {
@@ -87,30 +127,62 @@ public class VertxConsumer extends AbstractMessageConsumer {
                 message = endpointConfiguration.getMessageConverter().convertInbound(vertxMessageHandler.getMessage(), endpointConfiguration, context);
             }
 
-            if (message == null) {
-                throw new ActionTimeoutException("Action timed out while receiving message on Vert.x event bus address '" + endpointConfiguration.getAddress() + "'");
-            }
-
-            log.info("Received message on Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
-
-            context.onInboundMessage(message);
-
             return message;
         } finally {
             vertxConsumer.unregister();
         }
     }
 
+    /**
+     * Gets the inbox. Inbox subscribes to the event bus address on first access, e.g. again after destroy.
+     * @return
+     */
+    private synchronized VertxInbox getInbox() {
+        if (inbox == null) {
+            VertxInbox vertxInbox = new VertxInbox(endpointConfiguration);
+            vertxInbox.subscribe(vertx);
+            inbox = vertxInbox;
+        }
+
+        return inbox;
+    }
+
+    /**
+     * Gets the number of messages dropped because of inbox overflow.
+     * @return
+     */
+    public long getLostMessageCount() {
+        VertxInbox vertxInbox = inbox;
+        return vertxInbox != null ? vertxInbox.getLostMessageCount() : 0L;
+    }
+
+    /**
+     * Destroy method unregistering persistent subscription.
+     */
+    public synchronized void destroy() {
+        if (inbox != null) {
+            inbox.unsubscribe();
+            inbox = null;
+        }
+    }
+
     /**
      * Simple Vert.x message handler stores first message received on event bus and ignores all further messages
-     * until subscription is unregistered automatically.
+     * until subscription is unregistered automatically. Optional message selector must accept the message.
      */
     private class VertxSingleMessageHandler implements Handler<io.vertx.core.eventbus.Message<Object>> {
-        private io.vertx.core.eventbus.Message message;
+        private final MessageSelector messageSelector;
+        private volatile io.vertx.core.eventbus.Message message;
+
+        VertxSingleMessageHandler(MessageSelector messageSelector) {
+            this.messageSelector = messageSelector;
+        }
 
         @Override
         public void handle(io.vertx.core.eventbus.Message event) {
-            if (message == null) {
+            if (messageSelector != null && !messageSelector.accept(VertxInbox.toSelectable(event))) {
+                log.debug("Vert.x message handler ignored message not matching selector on event bus address '" + endpointConfiguration.getAddress() + "'");
+            } else if (message == null) {
                 this.message = event;
             } else {
                 log.warn("Vert.x message handler ignored message on event bus address '" + endpointConfiguration.getAddress() + "'");
@@ -94,6 +94,36 @@ public class VertxEndpointBuilder extends AbstractEndpointBuilder<VertxEndpoint>
         return this;
     }
 
+    /**
+     * Enables persistent event bus subscription with buffered inbox.
+     * @param persistentSubscription
+     * @return
+     */
+    public VertxEndpointBuilder persistentSubscription(boolean persistentSubscription) {
+        endpoint.getEndpointConfiguration().setPersistentSubscription(persistentSubscription);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of buffered messages in inbox.
+     * @param inboxCapacity
+     * @return
+     */
+    public VertxEndpointBuilder inboxCapacity(int inboxCapacity) {
+        endpoint.getEndpointConfiguration().setInboxCapacity(inboxCapacity);
+        return this;
+    }
+
+    /**
+     * Sets the policy applied when inbox capacity is exceeded.
+     * @param overflowPolicy
+     * @return
+     */
+    public VertxEndpointBuilder overflowPolicy(VertxInbox.OverflowPolicy overflowPolicy) {
+        endpoint.getEndpointConfiguration().setOverflowPolicy(overflowPolicy);
+        return this;
+    }
+
     /**
      * Sets the polling interval.
      * @param pollingInterval
@@ -40,6 +40,15 @@ public class VertxEndpointConfiguration extends AbstractPollableEndpointConfigur
     /** Message converter */
     private VertxMessageConverter messageConverter = new VertxMessageConverter();
 
+    /** Subscribe once and buffer messages in inbox between receive operations */
+    private boolean persistentSubscription = false;
+
+    /** Maximum number of buffered messages in inbox */
+    private int inboxCapacity = 1000;
+
+    /** Policy applied when inbox capacity is exceeded */
+    private VertxInbox.OverflowPolicy overflowPolicy = VertxInbox.OverflowPolicy.DROP_NEWEST;
+
     /**
      * Gets the address on the vert.x event bus.
      * @return
@@ -119,4 +128,52 @@ public class VertxEndpointConfiguration extends AbstractPollableEndpointConfigur
     public void setMessageConverter(VertxMessageConverter messageConverter) {
         this.messageConverter = messageConverter;
     }
+
+    /**
+     * Gets the persistentSubscription.
+     * @return
+     */
+    public boolean isPersistentSubscription() {
+        return persistentSubscription;
+    }
+
+    /**
+     * Sets the persistentSubscription.
+     * @param persistentSubscription
+     */
+    public void setPersistentSubscription(boolean persistentSubscription) {
+        this.persistentSubscription = persistentSubscription;
+    }
+
+    /**
+     * Gets the inboxCapacity.
+     * @return
+     */
+    public int getInboxCapacity() {
+        return inboxCapacity;
+    }
+
+    /**
+     * Sets the inboxCapacity.
+     * @param inboxCapacity
+     */
+    public void setInboxCapacity(int inboxCapacity) {
+        this.inboxCapacity = inboxCapacity;
+    }
+
+    /**
+     * Gets the overflowPolicy.
+     * @return
+     */
+    public VertxInbox.OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Sets the overflowPolicy.
+     * @param overflowPolicy
+     */
+    public void setOverflowPolicy(VertxInbox.OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
 }
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2006-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.vertx.endpoint;
+
+import com.consol.citrus.channel.MessageSelectingQueueChannel;
+import com.consol.citrus.channel.selector.HeaderMatchingMessageSelector;
+import com.consol.citrus.message.MessageSelectorBuilder;
+import com.consol.citrus.vertx.message.CitrusVertxMessageHeaders;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.MessageConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.integration.core.MessageSelector;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.util.StringUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Inbox filled by a single long-lived event bus subscription. Messages published between receive operations are
+ * buffered in a bounded in memory channel and waiting receivers are signalled as soon as a matching message arrives.
+ * Event bus handlers must not block so messages that do not fit into the inbox are dropped according to the
+ * overflow policy and counted as lost messages.
+ *
+ * Message selectors are evaluated on Vert.x message headers and the Vert.x address and reply address headers.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7
+ */
+public class VertxInbox implements Handler<io.vertx.core.eventbus.Message<Object>> {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(VertxInbox.class);
+
+    /**
+     * Policy applied when inbox capacity is exceeded.
+     */
+    public enum OverflowPolicy {
+        /** Drop incoming message and keep buffered messages */
+        DROP_NEWEST,
+        /** Drop oldest buffered message in favor of incoming message */
+        DROP_OLDEST
+    }
+
+    /** Endpoint configuration */
+    private final VertxEndpointConfiguration endpointConfiguration;
+
+    /** Buffered messages */
+    private final MessageSelectingQueueChannel inbox;
+
+    /** Number of messages dropped because of inbox overflow */
+    private final AtomicLong lostMessages = new AtomicLong();
+
+    /** Event bus subscription */
+    private MessageConsumer<Object> subscription;
+
+    /**
+     * Default constructor using endpoint configuration.
+     * @param endpointConfiguration
+     */
+    public VertxInbox(VertxEndpointConfiguration endpointConfiguration) {
+        this.endpointConfiguration = endpointConfiguration;
+
+        this.inbox = new MessageSelectingQueueChannel(endpointConfiguration.getInboxCapacity());
+        this.inbox.setSignalling(true);
+    }
+
+    /**
+     * Subscribes to the event bus address. Subscription is only done once.
+     * @param vertx
+     */
+    public synchronized void subscribe(Vertx vertx) {
+        if (subscription != null) {
+            return;
+        }
+
+        subscription = vertx.eventBus().consumer(endpointConfiguration.getAddress(), this);
+
+        log.debug("Subscribed to Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
+    }
+
+    @Override
+    public synchronized void handle(io.vertx.core.eventbus.Message<Object> event) {
+        Message<?> message = toSelectable(event);
+
+        if (inbox.send(message, 0)) {
+            return;
+        }
+
+        if (endpointConfiguration.getOverflowPolicy() == OverflowPolicy.DROP_OLDEST) {
+            Message<?> dropped = inbox.receive(0);
+
+            if (dropped != null) {
+                logLostMessage(dropped.getPayload());
+            }
+
+            if (inbox.send(message, 0)) {
+                return;
+            }
+        }
+
+        logLostMessage(event);
+    }
+
+    /**
+     * Receives next message from inbox. Selector is evaluated on buffered messages.
+     * @param selector
+     * @param timeout
+     * @return the Vert.x message or null on timeout.
+     */
+    public io.vertx.core.eventbus.Message receive(String selector, long timeout) {
+        Message<?> message;
+
+        if (StringUtils.hasText(selector)) {
+            message = inbox.receive(createMessageSelector(selector), timeout);
+        } else {
+            message = inbox.receive(timeout);
+        }
+
+        return message != null ? (io.vertx.core.eventbus.Message) message.getPayload() : null;
+    }
+
+    /**
+     * Unregisters event bus subscription.
+     */
+    public synchronized void unsubscribe() {
+        if (subscription != null) {
+            subscription.unregister();
+            subscription = null;
+
+            log.debug("Unsubscribed from Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
+        }
+    }
+
+    /**
+     * Creates message selector for selector string.
+     * @param selector
+     * @return
+     */
+    static MessageSelector createMessageSelector(String selector) {
+        return new HeaderMatchingMessageSelector(MessageSelectorBuilder.withString(selector).toKeyValueMap());
+    }
+
+    /**
+     * Wraps Vert.x message in message with headers available for message selector evaluation.
+     * @param event
+     * @return
+     */
+    static Message<?> toSelectable(io.vertx.core.eventbus.Message<?> event) {
+        Map<String, Object> headers = new HashMap<>();
+
+        if (event.headers() != null) {
+            for (Map.Entry<String, String> header : event.headers().entries()) {
+                headers.put(header.getKey(), header.getValue());
+            }
+        }
+
+        if (event.address() != null) {
+            headers.put(CitrusVertxMessageHeaders.VERTX_ADDRESS, event.address());
+        }
+
+        if (event.replyAddress() != null) {
+            headers.put(CitrusVertxMessageHeaders.VERTX_REPLY_ADDRESS, event.replyAddress());
+        }
+
+        return MessageBuilder.withPayload(event).copyHeaders(headers).build();
+    }
+
+    /**
+     * Counts and logs lost message.
+     * @param lostMessage
+     */
+    private void logLostMessage(Object lostMessage) {
+        lostMessages.incrementAndGet();
+
+        log.warn("Vert.x inbox capacity exceeded - dropped message on event bus address '" + endpointConfiguration.getAddress() + "'");
+        log.debug("Vert.x message dropped is " + lostMessage);
+    }
+
+    /**
+     * Gets the number of messages dropped because of inbox overflow.
+     * @return
+     */
+    public long getLostMessageCount() {
+        return lostMessages.get();
+    }
+
+    /**
+     * Gets the number of buffered messages.
+     * @return
+     */
+    public int getBufferedMessageCount() {
+        return inbox.getQueueSize();
+    }
+}
@@ -64,6 +64,24 @@ public class VertxSyncEndpoint extends VertxEndpoint {
         return vertxSyncMessageConsumer;
     }
 
+    /**
+     * Synchronous endpoint acts as either producer or consumer so consumer is not created in advance. Persistent
+     * subscription is created with the consumer on first use.
+     * @throws Exception
+     */
+    @Override
+    public void afterPropertiesSet() throws Exception {
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (vertxSyncMessageConsumer != null) {
+            vertxSyncMessageConsumer.destroy();
+        }
+
+        super.destroy();
+    }
+
     @Override
     public Producer createProducer() {
         if (vertxSyncMessageConsumer != null) {
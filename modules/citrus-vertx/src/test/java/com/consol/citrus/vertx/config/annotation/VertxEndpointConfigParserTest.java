@@ -22,6 +22,7 @@ import com.consol.citrus.annotations.CitrusEndpoint;
 import com.consol.citrus.context.SpringBeanReferenceResolver;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.consol.citrus.vertx.endpoint.VertxEndpoint;
+import com.consol.citrus.vertx.endpoint.VertxInbox;
 import com.consol.citrus.vertx.factory.VertxInstanceFactory;
 import com.consol.citrus.vertx.message.VertxMessageConverter;
 import org.mockito.*;
@@ -53,7 +54,10 @@ public class VertxEndpointConfigParserTest extends AbstractTestNGUnitTest {
 
     @CitrusEndpoint
     @VertxEndpointConfig(address="news-feed3",
-            pubSubDomain=true)
+            pubSubDomain=true,
+            persistentSubscription=true,
+            inboxCapacity=50,
+            overflowPolicy=VertxInbox.OverflowPolicy.DROP_OLDEST)
     private VertxEndpoint vertxEndpoint3;
 
     @CitrusEndpoint
@@ -109,6 +113,9 @@ public class VertxEndpointConfigParserTest extends AbstractTestNGUnitTest {
         // 3rd message receiver
         Assert.assertEquals(vertxEndpoint3.getEndpointConfiguration().getAddress(), "news-feed3");
         Assert.assertEquals(vertxEndpoint3.getEndpointConfiguration().isPubSubDomain(), true);
+        Assert.assertTrue(vertxEndpoint3.getEndpointConfiguration().isPersistentSubscription());
+        Assert.assertEquals(vertxEndpoint3.getEndpointConfiguration().getInboxCapacity(), 50);
+        Assert.assertEquals(vertxEndpoint3.getEndpointConfiguration().getOverflowPolicy(), VertxInbox.OverflowPolicy.DROP_OLDEST);
 
         // 4th message receiver
         Assert.assertNotNull(vertxEndpoint4.getActor());
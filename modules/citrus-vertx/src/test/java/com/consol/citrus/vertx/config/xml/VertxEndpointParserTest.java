@@ -19,6 +19,7 @@ package com.consol.citrus.vertx.config.xml;
 import com.consol.citrus.TestActor;
 import com.consol.citrus.testng.AbstractBeanDefinitionParserTest;
 import com.consol.citrus.vertx.endpoint.VertxEndpoint;
+import com.consol.citrus.vertx.endpoint.VertxInbox;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -41,6 +42,9 @@ public class VertxEndpointParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(vertxEndpoint.getVertxInstanceFactory(), beanDefinitionContext.getBean("vertxInstanceFactory"));
         Assert.assertEquals(vertxEndpoint.getEndpointConfiguration().getAddress(), "news-feed1");
         Assert.assertEquals(vertxEndpoint.getEndpointConfiguration().getTimeout(), 5000L);
+        Assert.assertFalse(vertxEndpoint.getEndpointConfiguration().isPersistentSubscription());
+        Assert.assertEquals(vertxEndpoint.getEndpointConfiguration().getInboxCapacity(), 1000);
+        Assert.assertEquals(vertxEndpoint.getEndpointConfiguration().getOverflowPolicy(), VertxInbox.OverflowPolicy.DROP_NEWEST);
 
         // 2nd message receiver
         vertxEndpoint = endpoints.get("vertxEndpoint2");
@@ -56,6 +60,9 @@ public class VertxEndpointParserTest extends AbstractBeanDefinitionParserTest {
         vertxEndpoint = endpoints.get("vertxEndpoint3");
         Assert.assertEquals(vertxEndpoint.getEndpointConfiguration().getAddress(), "news-feed3");
         Assert.assertEquals(vertxEndpoint.getEndpointConfiguration().isPubSubDomain(), true);
+        Assert.assertTrue(vertxEndpoint.getEndpointConfiguration().isPersistentSubscription());
+        Assert.assertEquals(vertxEndpoint.getEndpointConfiguration().getInboxCapacity(), 50);
+        Assert.assertEquals(vertxEndpoint.getEndpointConfiguration().getOverflowPolicy(), VertxInbox.OverflowPolicy.DROP_OLDEST);
 
         // 4th message receiver
         vertxEndpoint = endpoints.get("vertxEndpoint4");
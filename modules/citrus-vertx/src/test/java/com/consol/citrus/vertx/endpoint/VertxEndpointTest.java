@@ -16,12 +16,14 @@
 
 package com.consol.citrus.vertx.endpoint;
 
+import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.report.MessageListeners;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.consol.citrus.vertx.factory.SingleVertxInstanceFactory;
 import com.consol.citrus.vertx.message.CitrusVertxMessageHeaders;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
@@ -129,6 +131,109 @@ public class VertxEndpointTest extends AbstractTestNGUnitTest {
         verify(messageConsumer).unregister();
     }
 
+    @Test
+    public void testVertxEndpointConsumerPersistentSubscription() throws Exception {
+        String eventBusAddress = "news-feed";
+        VertxEndpointConfiguration endpointConfiguration = new VertxEndpointConfiguration();
+        endpointConfiguration.setAddress(eventBusAddress);
+        endpointConfiguration.setPersistentSubscription(true);
+        endpointConfiguration.setInboxCapacity(2);
+        endpointConfiguration.setOverflowPolicy(VertxInbox.OverflowPolicy.DROP_OLDEST);
+        endpointConfiguration.setTimeout(100L);
+
+        VertxEndpoint vertxEndpoint = new VertxEndpoint(endpointConfiguration);
+        vertxEndpoint.setVertxInstanceFactory(instanceFactory);
+
+        final io.vertx.core.eventbus.Message message1 = Mockito.mock(io.vertx.core.eventbus.Message.class);
+        final io.vertx.core.eventbus.Message message2 = Mockito.mock(io.vertx.core.eventbus.Message.class);
+        final io.vertx.core.eventbus.Message message3 = Mockito.mock(io.vertx.core.eventbus.Message.class);
+
+        reset(vertx, eventBus, messageConsumer);
+
+        when(message1.body()).thenReturn("Message 1");
+        when(message1.address()).thenReturn(eventBusAddress);
+        when(message2.body()).thenReturn("Message 2");
+        when(message2.address()).thenReturn(eventBusAddress);
+        when(message2.replyAddress()).thenReturn("replyAddress2");
+        when(message3.body()).thenReturn("Message 3");
+        when(message3.address()).thenReturn(eventBusAddress);
+        when(message3.replyAddress()).thenReturn("replyAddress3");
+
+        when(vertx.eventBus()).thenReturn(eventBus);
+        doAnswer(new Answer<MessageConsumer>() {
+            @Override
+            public MessageConsumer answer(InvocationOnMock invocation) throws Throwable {
+                Handler handler = (Handler) invocation.getArguments()[1];
+                handler.handle(message1);
+                handler.handle(message2);
+                handler.handle(message3);
+
+                return messageConsumer;
+            }
+        }).when(eventBus).consumer(eq(eventBusAddress), any(Handler.class));
+
+        VertxConsumer consumer = (VertxConsumer) vertxEndpoint.createConsumer();
+
+        Message receivedMessage = consumer.receive(CitrusVertxMessageHeaders.VERTX_REPLY_ADDRESS + " = 'replyAddress3'", context, endpointConfiguration.getTimeout());
+        Assert.assertEquals(receivedMessage.getPayload(), "Message 3");
+
+        receivedMessage = consumer.receive(context, endpointConfiguration.getTimeout());
+        Assert.assertEquals(receivedMessage.getPayload(), "Message 2");
+        Assert.assertEquals(consumer.getLostMessageCount(), 1L);
+
+        try {
+            consumer.receive(context, endpointConfiguration.getTimeout());
+            Assert.fail("Missing timeout exception on empty inbox");
+        } catch (ActionTimeoutException e) {
+            Assert.assertTrue(e.getMessage().contains(eventBusAddress));
+        }
+
+        verify(eventBus, times(1)).consumer(eq(eventBusAddress), any(Handler.class));
+        verify(messageConsumer, never()).unregister();
+
+        vertxEndpoint.destroy();
+        verify(messageConsumer).unregister();
+    }
+
+    @Test
+    public void testVertxEndpointPersistentSubscriptionBeforeFirstReceive() throws Exception {
+        String eventBusAddress = "news-feed";
+        VertxEndpointConfiguration endpointConfiguration = new VertxEndpointConfiguration();
+        endpointConfiguration.setAddress(eventBusAddress);
+        endpointConfiguration.setPersistentSubscription(true);
+        endpointConfiguration.setTimeout(100L);
+
+        VertxEndpoint vertxEndpoint = new VertxEndpoint(endpointConfiguration);
+        vertxEndpoint.setVertxInstanceFactory(instanceFactory);
+
+        io.vertx.core.eventbus.Message message = Mockito.mock(io.vertx.core.eventbus.Message.class);
+
+        reset(vertx, eventBus, messageConsumer);
+
+        when(message.body()).thenReturn("Hello from Vertx!");
+        when(message.address()).thenReturn(eventBusAddress);
+
+        when(vertx.eventBus()).thenReturn(eventBus);
+        when(eventBus.consumer(eq(eventBusAddress), any(Handler.class))).thenReturn(messageConsumer);
+
+        vertxEndpoint.afterPropertiesSet();
+
+        ArgumentCaptor<Handler> handler = ArgumentCaptor.forClass(Handler.class);
+        verify(eventBus).consumer(eq(eventBusAddress), handler.capture());
+
+        // message published after endpoint initialization and before first receive operation
+        handler.getValue().handle(message);
+
+        Message receivedMessage = vertxEndpoint.createConsumer().receive(context, endpointConfiguration.getTimeout());
+        Assert.assertEquals(receivedMessage.getPayload(), "Hello from Vertx!");
+        Assert.assertEquals(receivedMessage.getHeader(CitrusVertxMessageHeaders.VERTX_ADDRESS), eventBusAddress);
+
+        verify(eventBus, times(1)).consumer(eq(eventBusAddress), any(Handler.class));
+
+        vertxEndpoint.destroy();
+        verify(messageConsumer).unregister();
+    }
+
     @Test
     public void testVertxEndpointWithOutboundMessageListeners() {
         String eventBusAddress = "news-feed";
@@ -64,11 +64,23 @@ public class WebSocketClientBuilder extends AbstractEndpointBuilder<WebSocketCli
         return this;
     }
 
+    /**
+     * Sets the maximum number of inbound messages waiting in inbox.
+     * @param inboxCapacity
+     * @return
+     */
+    public WebSocketClientBuilder inboxCapacity(int inboxCapacity) {
+        endpoint.getEndpointConfiguration().setInboxCapacity(inboxCapacity);
+        return this;
+    }
+
     /**
      * Sets the polling interval.
      * @param pollingInterval
      * @return
+     * @deprecated since 2.7 polling interval has no effect as consumer waits for inbound messages without polling.
      */
+    @Deprecated
     public WebSocketClientBuilder pollingInterval(int pollingInterval) {
         endpoint.getEndpointConfiguration().setPollingInterval(pollingInterval);
         return this;
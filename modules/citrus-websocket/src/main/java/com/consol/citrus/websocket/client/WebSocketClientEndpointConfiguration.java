@@ -60,7 +60,7 @@ public class WebSocketClientEndpointConfiguration extends AbstractWebSocketEndpo
      * @return
      */
     private CitrusWebSocketHandler getWebSocketClientHandler(String url) {
-        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler(getInboxCapacity());
         ListenableFuture<WebSocketSession> future = client.doHandshake(handler, url);
         try {
             future.get();
@@ -50,9 +50,17 @@ public @interface WebSocketClientConfig {
     /**
      * Polling interval.
      * @return
+     * @deprecated since 2.7 polling interval has no effect as consumer waits for inbound messages without polling.
      */
+    @Deprecated
     int pollingInterval() default 500;
 
+    /**
+     * Maximum number of inbound messages waiting in inbox.
+     * @return
+     */
+    int inboxCapacity() default Integer.MAX_VALUE;
+
     /**
      * Timeout.
      * @return
@@ -54,6 +54,7 @@ public class WebSocketClientConfigParser extends AbstractAnnotationConfigParser<
         }
 
         builder.pollingInterval(annotation.pollingInterval());
+        builder.inboxCapacity(annotation.inboxCapacity());
 
         builder.timeout(annotation.timeout());
 
@@ -45,4 +45,10 @@ public @interface WebSocketConfig {
      * @return
      */
     long timeout() default 5000L;
+
+    /**
+     * Maximum number of inbound messages waiting in inbox.
+     * @return
+     */
+    int inboxCapacity() default Integer.MAX_VALUE;
 }
@@ -62,6 +62,7 @@ public class WebSocketServerConfigParser extends AbstractAnnotationConfigParser<
             }
 
             webSocketConfiguration.setTimeout(webSocketConfig.timeout());
+            webSocketConfiguration.setInboxCapacity(webSocketConfig.inboxCapacity());
 
             WebSocketEndpoint webSocket = new WebSocketEndpoint(webSocketConfiguration);
             webSocket.setName(webSocketConfig.id());
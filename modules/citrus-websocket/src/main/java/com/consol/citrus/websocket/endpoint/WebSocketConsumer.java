@@ -20,12 +20,14 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.messaging.AbstractSelectiveMessageConsumer;
+import com.consol.citrus.websocket.message.WebSocketMessageHeaders;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.socket.WebSocketMessage;
 
 /**
- * Consumer polls for incoming messages on web socket handler.
+ * Consumer receives incoming messages from web socket handler inbox. Message selector is evaluated on the
+ * web socket session id so messages of a single session can be received.
  * @author Martin Maher
  * @since 2.3
  */
@@ -54,46 +56,20 @@ public class WebSocketConsumer extends AbstractSelectiveMessageConsumer {
     public Message receive(String selector, TestContext context, long timeout) {
         LOG.info(String.format("Waiting %s ms for Web Socket message ...", timeout));
 
-        WebSocketMessage<?> message = receive(endpointConfiguration, timeout);
-        Message receivedMessage = endpointConfiguration.getMessageConverter().convertInbound(message, endpointConfiguration, context);
+        org.springframework.messaging.Message<?> message = endpointConfiguration.getHandler().receive(selector, timeout);
+
+        if (message == null) {
+            throw new ActionTimeoutException(String.format("Action timed out while receiving message on '%s'", endpointConfiguration.getEndpointUri()));
+        }
+
+        Message receivedMessage = endpointConfiguration.getMessageConverter().convertInbound((WebSocketMessage<?>) message.getPayload(), endpointConfiguration, context);
+        if (message.getHeaders().containsKey(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID)) {
+            receivedMessage.setHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID, message.getHeaders().get(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID));
+        }
 
         LOG.info("Received Web Socket message");
         context.onInboundMessage(receivedMessage);
 
         return receivedMessage;
     }
-
-    /**
-     * Receive web socket message by polling on web socket handler for incoming message.
-     * @param config
-     * @param timeout
-     * @return
-     */
-    private WebSocketMessage<?> receive(WebSocketEndpointConfiguration config, long timeout) {
-        long timeLeft = timeout;
-
-        WebSocketMessage<?> message = config.getHandler().getMessage();
-        String path = endpointConfiguration.getEndpointUri();
-        while (message == null && timeLeft > 0) {
-            timeLeft -= endpointConfiguration.getPollingInterval();
-            long sleep = timeLeft > 0 ? endpointConfiguration.getPollingInterval() : endpointConfiguration.getPollingInterval() + timeLeft;
-            if (LOG.isDebugEnabled()) {
-                String msg = "Waiting for message on '%s' - retrying in %s ms";
-                LOG.debug(String.format(msg, path, (sleep)));
-            }
-
-            try {
-                Thread.sleep(sleep);
-            } catch (InterruptedException e) {
-                LOG.warn(String.format("Thread interrupted while waiting for message on '%s'", path), e);
-            }
-
-            message = config.getHandler().getMessage();
-        }
-
-        if (message == null) {
-            throw new ActionTimeoutException(String.format("Action timed out while receiving message on '%s'", path));
-        }
-        return message;
-    }
 }
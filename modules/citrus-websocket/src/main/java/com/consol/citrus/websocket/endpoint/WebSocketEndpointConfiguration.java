@@ -76,4 +76,34 @@ public interface WebSocketEndpointConfiguration extends PollableEndpointConfigur
      * @param endpointUriResolver the endpointUriResolver to set
      */
     void setEndpointUriResolver(EndpointUriResolver endpointUriResolver);
+
+    /**
+     * Gets the maximum number of inbound messages waiting in inbox.
+     * @return
+     */
+    int getInboxCapacity();
+
+    /**
+     * Sets the maximum number of inbound messages waiting in inbox.
+     * @param inboxCapacity
+     */
+    void setInboxCapacity(int inboxCapacity);
+
+    /**
+     * Gets the polling interval.
+     * @return
+     * @deprecated since 2.7 polling interval has no effect as consumer waits for inbound messages without polling.
+     */
+    @Deprecated
+    @Override
+    long getPollingInterval();
+
+    /**
+     * Sets the polling interval.
+     * @param pollingInterval
+     * @deprecated since 2.7 polling interval has no effect as consumer waits for inbound messages without polling.
+     */
+    @Deprecated
+    @Override
+    void setPollingInterval(long pollingInterval);
 }
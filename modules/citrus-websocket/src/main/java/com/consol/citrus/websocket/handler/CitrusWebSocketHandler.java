@@ -16,19 +16,26 @@
 
 package com.consol.citrus.websocket.handler;
 
+import com.consol.citrus.channel.MessageSelectingQueueChannel;
+import com.consol.citrus.channel.selector.HeaderMatchingMessageSelector;
+import com.consol.citrus.message.MessageSelectorBuilder;
+import com.consol.citrus.websocket.message.WebSocketMessageHeaders;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.util.StringUtils;
 import org.springframework.web.socket.*;
 import org.springframework.web.socket.handler.AbstractWebSocketHandler;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.Map;
-import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Web Socket Handler for handling incoming and sending outgoing Web Socket messages
+ * Web Socket Handler for handling incoming and sending outgoing Web Socket messages. Inbound messages are stored
+ * in a bounded inbox together with the session id so consumers can select messages of a single session. Waiting
+ * consumers are signalled as soon as a matching message arrives.
  *
  * @author Martin Maher
  * @since 2.3
@@ -37,11 +44,27 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
     /** Logger */
     private static final Logger LOG = LoggerFactory.getLogger(CitrusWebSocketHandler.class);
 
-    /** Inbound message cache */
-    private final Queue<WebSocketMessage<?>> inboundMessages = new LinkedList<>();
+    /** Inbound message inbox */
+    private final MessageSelectingQueueChannel inboundMessages;
 
     /** Web socket sessions */
-    private final Map<String, WebSocketSession> sessions = new HashMap<>();
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * Default constructor using unbounded inbox.
+     */
+    public CitrusWebSocketHandler() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructor using inbox capacity.
+     * @param inboxCapacity
+     */
+    public CitrusWebSocketHandler(int inboxCapacity) {
+        this.inboundMessages = new MessageSelectingQueueChannel(inboxCapacity);
+        this.inboundMessages.setSignalling(true);
+    }
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
@@ -52,19 +75,19 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
     @Override
     protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
         LOG.debug(String.format("WebSocket endpoint (%s) received text message", session.getId()));
-        inboundMessages.add(message);
+        storeMessage(session, message);
     }
 
     @Override
     protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws Exception {
         LOG.debug(String.format("WebSocket endpoint (%s) received binary message", session.getId()));
-        inboundMessages.add(message);
+        storeMessage(session, message);
     }
 
     @Override
     protected void handlePongMessage(WebSocketSession session, PongMessage message) throws Exception {
         LOG.debug(String.format("WebSocket endpoint (%s) received pong message", session.getId()));
-        inboundMessages.add(message);
+        storeMessage(session, message);
     }
 
     @Override
@@ -78,12 +101,49 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
         sessions.remove(session.getId());
     }
 
+    /**
+     * Stores inbound message in inbox with session id and endpoint headers. Message is discarded when
+     * inbox capacity is exceeded.
+     * @param session
+     * @param message
+     */
+    private void storeMessage(WebSocketSession session, WebSocketMessage<?> message) {
+        MessageBuilder<WebSocketMessage<?>> builder = MessageBuilder.<WebSocketMessage<?>>withPayload(message)
+                .setHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID, session.getId());
+
+        Map<String, Object> attributes = session.getAttributes();
+        if (attributes != null) {
+            builder.setHeaderIfAbsent(WebSocketMessageHeaders.WEB_SOCKET_ID, attributes.get(WebSocketMessageHeaders.WEB_SOCKET_ID));
+            builder.setHeaderIfAbsent(WebSocketMessageHeaders.WEB_SOCKET_PATH, attributes.get(WebSocketMessageHeaders.WEB_SOCKET_PATH));
+        }
+
+        if (!inboundMessages.send(builder.build(), 0)) {
+            LOG.warn(String.format("WebSocket inbox capacity exceeded - discarding message of session (%s)", session.getId()));
+        }
+    }
+
     /**
      * Polls message from internal cache.
      * @return
      */
     public WebSocketMessage<?> getMessage() {
-        return inboundMessages.poll();
+        Message<?> message = inboundMessages.receive(0);
+        return message != null ? (WebSocketMessage<?>) message.getPayload() : null;
+    }
+
+    /**
+     * Receives message from inbox waiting for given timeout. Message selector is evaluated on session id
+     * and endpoint headers.
+     * @param selector the optional message selector.
+     * @param timeout
+     * @return the message holding the web socket message as payload or null on timeout.
+     */
+    public Message<?> receive(String selector, long timeout) {
+        if (StringUtils.hasText(selector)) {
+            return inboundMessages.receive(new HeaderMatchingMessageSelector(MessageSelectorBuilder.withString(selector).toKeyValueMap()), timeout);
+        }
+
+        return inboundMessages.receive(timeout);
     }
 
     /**
@@ -98,15 +158,56 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
         }
 
         for (WebSocketSession session : sessions.values()) {
-            if (session != null && session.isOpen()) {
-                try {
+            if (sendMessage(session, message)) {
+                sentSuccessfully = true;
+            }
+        }
+        return sentSuccessfully;
+    }
+
+    /**
+     * Send message to single session known to this handler.
+     * @param message
+     * @param sessionId
+     * @return
+     */
+    public boolean sendMessage(WebSocketMessage<?> message, String sessionId) {
+        WebSocketSession session = sessions.get(sessionId);
+        if (session == null) {
+            LOG.warn(String.format("No Web Socket session exists for id (%s) - message cannot be sent", sessionId));
+            return false;
+        }
+
+        return sendMessage(session, message);
+    }
+
+    /**
+     * Sends message on session. Web socket sessions do not support concurrent sending so access is synchronized
+     * on the session.
+     * @param session
+     * @param message
+     * @return
+     */
+    private boolean sendMessage(WebSocketSession session, WebSocketMessage<?> message) {
+        if (session != null && session.isOpen()) {
+            try {
+                synchronized (session) {
                     session.sendMessage(message);
-                    sentSuccessfully = true;
-                } catch (IOException e) {
-                    LOG.error(String.format("(%s) error sending message", session.getId()), e);
                 }
+                return true;
+            } catch (IOException e) {
+                LOG.error(String.format("(%s) error sending message", session.getId()), e);
             }
         }
-        return sentSuccessfully;
+
+        return false;
+    }
+
+    /**
+     * Gets the number of messages waiting in inbox.
+     * @return
+     */
+    public int getInboxSize() {
+        return inboundMessages.getQueueSize();
     }
 }
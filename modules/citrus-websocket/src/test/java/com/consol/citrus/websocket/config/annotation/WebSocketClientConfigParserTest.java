@@ -52,6 +52,7 @@ public class WebSocketClientConfigParserTest extends AbstractTestNGUnitTest {
     @CitrusEndpoint
     @WebSocketClientConfig(requestUrl = "ws://localhost:8080/test",
             pollingInterval=250,
+            inboxCapacity=100,
             actor="testActor")
     private WebSocketClient webSocketClient3;
 
@@ -97,5 +98,6 @@ public class WebSocketClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(webSocketClient3.getActor(), testActor);
         Assert.assertEquals(webSocketClient3.getEndpointConfiguration().getEndpointUri(), "ws://localhost:8080/test");
         Assert.assertEquals(webSocketClient3.getEndpointConfiguration().getPollingInterval(), 250L);
+        Assert.assertEquals(webSocketClient3.getEndpointConfiguration().getInboxCapacity(), 100);
     }
 }
@@ -46,7 +46,7 @@ public class WebSocketServerConfigParserTest extends AbstractTestNGUnitTest {
             actor = "testActor",
             webSockets = { @WebSocketConfig(id="websocket1", path="/test1"),
                     @WebSocketConfig(id="websocket2", path="/test2", messageConverter = "messageConverter"),
-                    @WebSocketConfig(id="websocket3", path="/test3", timeout = 10000L)
+                    @WebSocketConfig(id="websocket3", path="/test3", timeout = 10000L, inboxCapacity = 500)
             })
     private WebSocketServer webSocketServer1;
 
@@ -98,5 +98,6 @@ public class WebSocketServerConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(webSocketEndpoint.getName(), "websocket3");
         Assert.assertEquals(webSocketEndpoint.getEndpointConfiguration().getEndpointUri(), "/test3");
         Assert.assertEquals(webSocketEndpoint.getEndpointConfiguration().getTimeout(), 10000L);
+        Assert.assertEquals(webSocketEndpoint.getEndpointConfiguration().getInboxCapacity(), 500);
     }
 }
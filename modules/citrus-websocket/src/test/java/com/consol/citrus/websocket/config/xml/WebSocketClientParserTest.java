@@ -40,6 +40,7 @@ public class WebSocketClientParserTest extends AbstractBeanDefinitionParserTest
         WebSocketEndpoint webSocketClient = clients.get("webSocketClient1");
         Assert.assertEquals(webSocketClient.getEndpointConfiguration().getEndpointUri(), "ws://localhost:8080/test");
         Assert.assertEquals(webSocketClient.getEndpointConfiguration().getTimeout(), 5000L);
+        Assert.assertEquals(webSocketClient.getEndpointConfiguration().getInboxCapacity(), Integer.MAX_VALUE);
 
         // 2nd message sender
         webSocketClient = clients.get("webSocketClient2");
@@ -54,6 +55,7 @@ public class WebSocketClientParserTest extends AbstractBeanDefinitionParserTest
         Assert.assertEquals(webSocketClient.getActor(), beanDefinitionContext.getBean("testActor", TestActor.class));
         Assert.assertEquals(webSocketClient.getEndpointConfiguration().getEndpointUri(), "ws://localhost:8080/test");
         Assert.assertEquals(webSocketClient.getEndpointConfiguration().getPollingInterval(), 250L);
+        Assert.assertEquals(webSocketClient.getEndpointConfiguration().getInboxCapacity(), 100);
     }
 
     @Test
@@ -22,6 +22,7 @@ import com.consol.citrus.message.Message;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.consol.citrus.websocket.handler.CitrusWebSocketHandler;
 import com.consol.citrus.websocket.message.WebSocketMessage;
+import com.consol.citrus.websocket.message.WebSocketMessageHeaders;
 import com.consol.citrus.websocket.server.WebSocketServerEndpointConfiguration;
 import org.mockito.Mockito;
 import org.mockito.invocation.InvocationOnMock;
@@ -143,6 +144,46 @@ public class WebSocketEndpointTest extends AbstractTestNGUnitTest {
 
     }
 
+    @Test
+    public void testWebSocketEndpointSessionSelector() throws Exception {
+        WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();
+        WebSocketEndpoint webSocketEndpoint = new WebSocketEndpoint(endpointConfiguration);
+        String endpointUri = "/test";
+
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+        endpointConfiguration.setHandler(handler);
+        endpointConfiguration.setEndpointUri(endpointUri);
+
+        reset(session, session2);
+
+        when(session.getId()).thenReturn("test-socket-1");
+        when(session2.getId()).thenReturn("test-socket-2");
+        when(session.isOpen()).thenReturn(true);
+        when(session2.isOpen()).thenReturn(true);
+
+        handler.afterConnectionEstablished(session);
+        handler.afterConnectionEstablished(session2);
+
+        handler.handleMessage(session, new TextMessage("Hello from session 1"));
+        handler.handleMessage(session2, new TextMessage("Hello from session 2"));
+
+        WebSocketMessage requestMessage = (WebSocketMessage) webSocketEndpoint.createConsumer()
+                .receive(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID + " = 'test-socket-2'", context);
+        Assert.assertEquals(requestMessage.getPayload(), "Hello from session 2");
+        Assert.assertEquals(requestMessage.getHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID), "test-socket-2");
+
+        webSocketEndpoint.createProducer().send(new DefaultMessage("Hello session 2")
+                .setHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID, "test-socket-2"), context);
+
+        verify(session2).sendMessage(any(org.springframework.web.socket.WebSocketMessage.class));
+        verify(session, never()).sendMessage(any(org.springframework.web.socket.WebSocketMessage.class));
+
+        requestMessage = (WebSocketMessage) webSocketEndpoint.createConsumer().receive(context);
+        Assert.assertEquals(requestMessage.getPayload(), "Hello from session 1");
+        Assert.assertEquals(requestMessage.getHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID), "test-socket-1");
+        Assert.assertEquals(handler.getInboxSize(), 0);
+    }
+
     @Test
     public void testWebSocketEndpointTimeout() throws Exception {
         WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();